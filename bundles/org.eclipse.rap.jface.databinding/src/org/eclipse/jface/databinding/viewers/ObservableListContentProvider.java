@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2009 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,16 +10,21 @@
  *     Tom Schindl<tom.schindl@bestsolution.at> - bugfix in: 214355
  *     Matthew Hall - bugs 215531, 226765, 222991, 238296, 226292, 266038,
  *                    283351
+ *     EclipseSource - batched viewer updates
  *******************************************************************************/
 
 package org.eclipse.jface.databinding.viewers;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.databinding.observable.IObservableCollection;
 import org.eclipse.core.databinding.observable.list.IListChangeListener;
 import org.eclipse.core.databinding.observable.list.IObservableList;
 import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.observable.list.ListDiffVisitor;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.runtime.Assert;
@@ -28,6 +33,7 @@ import org.eclipse.jface.internal.databinding.viewers.ViewerElementSet;
 import org.eclipse.jface.viewers.AbstractListViewer;
 import org.eclipse.jface.viewers.AbstractTableViewer;
 import org.eclipse.jface.viewers.IStructuredContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.Viewer;
 
 /**
@@ -48,6 +54,11 @@ public class ObservableListContentProvider implements
 			implements IListChangeListener {
 		private Viewer viewer;
 
+		/**
+		 * The diff entries to replay in the next batch update
+		 */
+		private List batchedEntries = new ArrayList();
+
 		Impl(IViewerUpdater explicitViewerUpdater) {
 			super(explicitViewerUpdater);
 		}
@@ -76,6 +87,14 @@ public class ObservableListContentProvider implements
 			if (isViewerDisposed())
 				return;
 
+			if (isBatching()) {
+				if (!canRefreshViewer())
+					batchedEntries.addAll(Arrays.asList(event.diff
+							.getDifferences()));
+				scheduleBatchUpdate();
+				return;
+			}
+
 			// Determine which elements were added and removed
 			final Set knownElementAdditions = ViewerElementSet
 					.withComparer(comparer);
@@ -143,6 +162,34 @@ public class ObservableListContentProvider implements
 			}
 			knownElements.removeAll(knownElementRemovals);
 		}
+
+		protected void updateViewer(Set additions, Set removals) {
+			if (canRefreshViewer()) {
+				((StructuredViewer) viewer).refresh(false);
+				return;
+			}
+			ListDiffEntry[] entries = (ListDiffEntry[]) batchedEntries
+					.toArray(new ListDiffEntry[batchedEntries.size()]);
+			batchedEntries.clear();
+			for (int i = 0; i < entries.length; i++) {
+				ListDiffEntry entry = entries[i];
+				if (entry.isAddition())
+					viewerUpdater.insert(entry.getElement(), entry
+							.getPosition());
+				else
+					viewerUpdater.remove(entry.getElement(), entry
+							.getPosition());
+			}
+		}
+
+		protected void discardBatchedChanges() {
+			batchedEntries.clear();
+		}
+
+		private boolean canRefreshViewer() {
+			return !hasExplicitViewerUpdater()
+					&& viewer instanceof StructuredViewer;
+		}
 	}
 
 	/**
@@ -174,6 +221,43 @@ public class ObservableListContentProvider implements
 		return impl.getElements(inputElement);
 	}
 
+	/**
+	 * Returns the maximum time in milliseconds that changes of the input list
+	 * are collected before the viewer is updated.
+	 * 
+	 * @return the maximum latency of viewer updates, or -1 if the viewer is
+	 *         updated on every change
+	 * @see #setBatchLatency(int)
+	 * @since 3.12
+	 */
+	public int getBatchLatency() {
+		return impl.getBatchLatency();
+	}
+
+	/**
+	 * Sets the maximum time in milliseconds that changes of the input list are
+	 * collected before the viewer is updated. By default, every change of the
+	 * list is shown in the viewer right away, which posts work to the UI
+	 * thread for each change. With a latency of 0 or more, all changes that
+	 * arrive until the next update are shown in a single viewer update
+	 * instead. Structured viewers are refreshed once, other viewers receive
+	 * the changes through the viewer updater. A latency of 0 updates the
+	 * viewer at the end of the current UI turn.
+	 * <p>
+	 * A positive latency schedules the update with
+	 * {@link org.eclipse.swt.widgets.Display#timerExec(int, Runnable)}, so the
+	 * client only sees it in time if server push is active.
+	 * </p>
+	 * 
+	 * @param latency
+	 *            the maximum latency of viewer updates in milliseconds, or -1
+	 *            to update the viewer on every change
+	 * @since 3.12
+	 */
+	public void setBatchLatency(int latency) {
+		impl.setBatchLatency(latency);
+	}
+
 	/**
 	 * Disposes of this content provider. This is called by the viewer when a
 	 * content provider is replaced, or when the viewer itself is disposed.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2009 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -9,6 +9,7 @@
  *     IBM Corporation - initial API and implementation
  *     Brad Reynolds - bug 116920
  *     Matthew Hall - bugs 215531, 226765, 222991, 238296, 266038, 283351
+ *     EclipseSource - batched viewer updates
  *******************************************************************************/
 package org.eclipse.jface.databinding.viewers;
 
@@ -63,6 +64,11 @@ public class ObservableSetContentProvider implements IStructuredContentProvider
 			if (isViewerDisposed())
 				return;
 
+			if (isBatching()) {
+				scheduleBatchUpdate();
+				return;
+			}
+
 			Set removals = event.diff.getRemovals();
 			Set additions = event.diff.getAdditions();
 
@@ -108,6 +114,42 @@ public class ObservableSetContentProvider implements IStructuredContentProvider
 		return impl.getElements(inputElement);
 	}
 
+	/**
+	 * Returns the maximum time in milliseconds that changes of the input set
+	 * are collected before the viewer is updated.
+	 * 
+	 * @return the maximum latency of viewer updates, or -1 if the viewer is
+	 *         updated on every change
+	 * @see #setBatchLatency(int)
+	 * @since 3.12
+	 */
+	public int getBatchLatency() {
+		return impl.getBatchLatency();
+	}
+
+	/**
+	 * Sets the maximum time in milliseconds that changes of the input set are
+	 * collected before the viewer is updated. By default, every change of the
+	 * set is shown in the viewer right away, which posts work to the UI thread
+	 * for each change. With a latency of 0 or more, all changes that arrive
+	 * until the next update are shown in a single viewer update instead, which
+	 * removes and adds the changed elements at once. A latency of 0 updates
+	 * the viewer at the end of the current UI turn.
+	 * <p>
+	 * A positive latency schedules the update with
+	 * {@link org.eclipse.swt.widgets.Display#timerExec(int, Runnable)}, so the
+	 * client only sees it in time if server push is active.
+	 * </p>
+	 * 
+	 * @param latency
+	 *            the maximum latency of viewer updates in milliseconds, or -1
+	 *            to update the viewer on every change
+	 * @since 3.12
+	 */
+	public void setBatchLatency(int latency) {
+		impl.setBatchLatency(latency);
+	}
+
 	/**
 	 * Disposes of this content provider. This is called by the viewer when a
 	 * content provider is replaced, or when the viewer itself is disposed.
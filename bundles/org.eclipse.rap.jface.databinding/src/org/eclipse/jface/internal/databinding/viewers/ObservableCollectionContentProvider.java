@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2009 Matthew Hall and others.
+ * Copyright (c) 2008, 2026 Matthew Hall and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -9,10 +9,13 @@
  *     Matthew Hall - initial API and implementation (bug 215531)
  *     Matthew Hall - bugs 226765, 222991, 238296, 263956, 226292, 265051,
  *                    266038
+ *     EclipseSource - batched viewer updates
  ******************************************************************************/
 
 package org.eclipse.jface.internal.databinding.viewers;
 
+import java.util.Set;
+
 import org.eclipse.core.databinding.observable.IObservable;
 import org.eclipse.core.databinding.observable.IObservableCollection;
 import org.eclipse.core.databinding.observable.Observables;
@@ -79,6 +82,21 @@ public abstract class ObservableCollectionContentProvider implements
 
 	private IObservableCollection observableCollection;
 
+	private boolean asyncUpdatePending;
+	private Runnable asyncUpdateRunnable;
+
+	/**
+	 * Maximum time in milliseconds that changes of the observable collection
+	 * are collected before the viewer is updated, or -1 if the viewer is
+	 * updated on every change.
+	 */
+	private int batchLatency = -1;
+
+	private boolean batchPending;
+	private boolean batchScheduled;
+	private boolean batchUpdating;
+	private Runnable batchRunnable;
+
 	/**
 	 * Constructs an ObservableCollectionContentProvider
 	 * 
@@ -113,8 +131,13 @@ public abstract class ObservableCollectionContentProvider implements
 		if (observableCollection == null)
 			return new Object[0];
 
+		if (batchPending && !batchUpdating) {
+			// the viewer is refreshed with the current elements anyway
+			discardBatchedChanges();
+		}
+
 		knownElements.addAll(observableCollection);
-		if (realizedElements != null) {
+		if (realizedElements != null && !batchUpdating) {
 			if (!realizedElements.equals(knownElements)) {
 				asyncUpdateRealizedElements();
 			}
@@ -126,16 +149,165 @@ public abstract class ObservableCollectionContentProvider implements
 	private void asyncUpdateRealizedElements() {
 		if (realizedElements == null)
 			return;
-		display.asyncExec(new Runnable() {
-			public void run() {
-				if (realizedElements != null) {
-					realizedElements.addAll(knownElements);
+		if (asyncUpdatePending)
+			return;
+		if (asyncUpdateRunnable == null) {
+			asyncUpdateRunnable = new Runnable() {
+				public void run() {
+					asyncUpdatePending = false;
+					if (realizedElements != null) {
+						realizedElements.addAll(knownElements);
+					}
 				}
-			}
-		});
+			};
+		}
+		asyncUpdatePending = true;
+		display.asyncExec(asyncUpdateRunnable);
+	}
+
+	/**
+	 * Returns the maximum time in milliseconds that changes of the observable
+	 * collection are collected before the viewer is updated.
+	 * 
+	 * @return the maximum latency of viewer updates, or -1 if the viewer is
+	 *         updated on every change
+	 * @see #setBatchLatency(int)
+	 */
+	public int getBatchLatency() {
+		return batchLatency;
+	}
+
+	/**
+	 * Sets the maximum time in milliseconds that changes of the observable
+	 * collection are collected before the viewer is updated. All changes that
+	 * arrive in the meantime are shown in a single viewer update. A latency of
+	 * 0 updates the viewer once at the end of the current UI turn, a latency
+	 * of -1 updates the viewer on every change.
+	 * 
+	 * @param latency
+	 *            the maximum latency of viewer updates, or -1
+	 */
+	public void setBatchLatency(int latency) {
+		Assert.isTrue(latency >= -1, "Latency must not be less than -1"); //$NON-NLS-1$
+		batchLatency = latency;
+		if (latency < 0) {
+			// show the changes collected so far right away
+			updateBatch();
+		}
+	}
+
+	/**
+	 * Returns whether changes of the observable collection are collected and
+	 * shown in the viewer in batches. Collection change listeners in
+	 * subclasses should record the change and call
+	 * {@link #scheduleBatchUpdate()} instead of updating the viewer if this
+	 * method returns true.
+	 * 
+	 * @return whether the viewer is updated in batches
+	 */
+	protected final boolean isBatching() {
+		return batchLatency >= 0;
+	}
+
+	/**
+	 * Schedules a viewer update that shows all changes collected since the
+	 * last update. Has no effect if an update is already scheduled.
+	 */
+	protected final void scheduleBatchUpdate() {
+		batchPending = true;
+		if (batchScheduled)
+			return;
+		if (batchRunnable == null) {
+			batchRunnable = new Runnable() {
+				public void run() {
+					batchScheduled = false;
+					updateBatch();
+				}
+			};
+		}
+		batchScheduled = true;
+		if (batchLatency > 0)
+			display.timerExec(batchLatency, batchRunnable);
+		else
+			display.asyncExec(batchRunnable);
+	}
+
+	private void updateBatch() {
+		if (!batchPending)
+			return;
+		batchPending = false;
+		if (observableCollection == null || isViewerDisposed()) {
+			discardBatchedChanges();
+			return;
+		}
+
+		Set additions = ViewerElementSet.withComparer(comparer);
+		additions.addAll(observableCollection);
+		additions.removeAll(knownElements);
+		Set removals = ViewerElementSet.withComparer(comparer);
+		removals.addAll(knownElements);
+		removals.removeAll(observableCollection);
+
+		knownElements.addAll(additions);
+		if (realizedElements != null) {
+			realizedElements.removeAll(removals);
+		}
+
+		Viewer viewer = (Viewer) viewerObservable.getValue();
+		viewer.getControl().setRedraw(false);
+		batchUpdating = true;
+		try {
+			updateViewer(additions, removals);
+		} finally {
+			batchUpdating = false;
+			viewer.getControl().setRedraw(true);
+		}
+
+		if (realizedElements != null) {
+			realizedElements.addAll(additions);
+		}
+		knownElements.removeAll(removals);
+	}
+
+	/**
+	 * Shows the changes collected since the last batch update in the viewer.
+	 * The additions are already known elements and the removals are no longer
+	 * realized elements when this method is called. The default
+	 * implementation removes and adds the given elements through the
+	 * {@link #viewerUpdater viewer updater}.
+	 * 
+	 * @param additions
+	 *            the elements added to the observable collection
+	 * @param removals
+	 *            the elements removed from the observable collection
+	 */
+	protected void updateViewer(Set additions, Set removals) {
+		viewerUpdater.remove(removals.toArray());
+		viewerUpdater.add(additions.toArray());
+	}
+
+	/**
+	 * Discards the changes that subclasses recorded for the next batch update.
+	 * Called when the viewer shows the current elements of the observable
+	 * collection without a batch update. The default implementation does
+	 * nothing.
+	 */
+	protected void discardBatchedChanges() {
+	}
+
+	/**
+	 * Returns whether the viewer updater was passed to the constructor rather
+	 * than created for the viewer.
+	 * 
+	 * @return whether the viewer updater was given explicitly
+	 */
+	protected final boolean hasExplicitViewerUpdater() {
+		return explicitViewerUpdater != null;
 	}
 
 	public void dispose() {
+		batchPending = false;
+		discardBatchedChanges();
 		if (observableCollection != null)
 			removeCollectionChangeListener(observableCollection);
 
@@ -187,6 +359,10 @@ public abstract class ObservableCollectionContentProvider implements
 			observableCollection = null;
 		}
 
+		if (batchPending) {
+			batchPending = false;
+			discardBatchedChanges();
+		}
 		knownElements.clear();
 		if (realizedElements != null)
 			realizedElements.clear();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -696,8 +696,152 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 	 * @since 1.0
 	 */
 	private void internalRefreshAll(boolean updateLabels) {
-		// the parent
+		Object[] children = getSortedChildren(getRoot());
+		Item[] items = doGetItems();
+		if (!internalRefreshAllByDiff(children, items, updateLabels)) {
+			internalRefreshAllByPosition(children, items, updateLabels);
+		}
+	}
+
+	/**
+	 * Refresh all of the elements of the table by removing the items whose
+	 * elements are gone and inserting items for the new elements, keeping the
+	 * longest run of items whose elements are still in the same order. This
+	 * avoids updating every item below an insertion or removal.
+	 *
+	 * @param children
+	 *            the new elements
+	 * @param items
+	 *            the current items
+	 * @param updateLabels
+	 *            <code>true</code> to update the labels of the kept items
+	 * @return <code>false</code> if the table was not refreshed because the
+	 *         positional refresh needs fewer changes or the elements cannot be
+	 *         matched
+	 */
+	private boolean internalRefreshAllByDiff(Object[] children, Item[] items,
+			boolean updateLabels) {
+		if (virtualManager != null || children.length == 0
+				|| items.length == 0) {
+			return false;
+		}
+		int min = Math.min(children.length, items.length);
+		int mismatches = Math.abs(children.length - items.length);
+		for (int i = 0; i < min; ++i) {
+			if (!equals(children[i], items[i].getData())) {
+				mismatches++;
+			}
+		}
+		if (mismatches == 0) {
+			return false;
+		}
+		CustomHashtable oldIndices = newHashtable(items.length * 2);
+		for (int i = 0; i < items.length; ++i) {
+			Object data = items[i].getData();
+			if (data == null || oldIndices.put(data, new Integer(i)) != null) {
+				return false;
+			}
+		}
+		CustomHashtable newElements = newHashtable(children.length * 2);
+		int[] matches = new int[children.length];
+		for (int i = 0; i < children.length; ++i) {
+			if (newElements.put(children[i], children[i]) != null) {
+				return false;
+			}
+			Integer oldIndex = (Integer) oldIndices.get(children[i]);
+			matches[i] = oldIndex == null ? -1 : oldIndex.intValue();
+		}
+		boolean[] kept = new boolean[items.length];
+		int keptCount = markLongestIncreasingRun(matches, kept);
+		if (items.length + children.length - 2 * keptCount >= mismatches) {
+			return false;
+		}
+		int[] removed = new int[items.length - keptCount];
+		int count = 0;
+		for (int i = 0; i < items.length; ++i) {
+			if (!kept[i]) {
+				disassociate(items[i]);
+				removed[count++] = i;
+			}
+		}
+		if (count > 0) {
+			doRemove(removed);
+		}
+		for (int i = 0; i < children.length; ++i) {
+			int oldIndex = matches[i];
+			if (oldIndex != -1 && kept[oldIndex]) {
+				if (updateLabels) {
+					updateItem(items[oldIndex], children[i]);
+				} else {
+					// see internalRefreshAllByPosition
+					associate(children[i], items[oldIndex]);
+				}
+			} else {
+				createItem(children[i], i);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Marks the old indices that form the longest increasing subsequence of the
+	 * given matches, i.e. the largest set of items that keep their relative
+	 * order.
+	 *
+	 * @param matches
+	 *            the old index of each new element or <code>-1</code>
+	 * @param kept
+	 *            receives <code>true</code> for each old index in the
+	 *            subsequence
+	 * @return the length of the subsequence
+	 */
+	private static int markLongestIncreasingRun(int[] matches, boolean[] kept) {
+		// tails[k] is the position in matches of the smallest old index that
+		// ends an increasing run of length k + 1
+		int[] tails = new int[matches.length];
+		int[] previous = new int[matches.length];
+		int length = 0;
+		for (int i = 0; i < matches.length; ++i) {
+			if (matches[i] == -1) {
+				continue;
+			}
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (matches[tails[middle]] < matches[i]) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			previous[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		if (length > 0) {
+			for (int i = tails[length - 1]; i != -1; i = previous[i]) {
+				kept[matches[i]] = true;
+			}
+		}
+		return length;
+	}
 
+	/**
+	 * Refresh all of the elements of the table by comparing the elements and
+	 * items at the same index.
+	 *
+	 * @param children
+	 *            the new elements
+	 * @param items
+	 *            the current items
+	 * @param updateLabels
+	 *            <code>true</code> to update the labels of the unchanged items
+	 */
+	private void internalRefreshAllByPosition(Object[] children, Item[] items,
+			boolean updateLabels) {
 		// in the code below, it is important to do all disassociates
 		// before any associates, since a later disassociate can undo an
 		// earlier associate
@@ -705,8 +849,6 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		// item 1 could undo
 		// the associate of b to item 0.
 
-		Object[] children = getSortedChildren(getRoot());
-		Item[] items = doGetItems();
 		int min = Math.min(children.length, items.length);
 		for (int i = 0; i < min; ++i) {
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -265,7 +265,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 					}
 					tpvs.sort(this, path, filtered);
 				} else {
-					comparator.sort(this, filtered);
+					internalSort(comparator, filtered);
 				}
 			}
 			createAddedElements(widget, filtered);
@@ -623,7 +623,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		} else if (comparator != null) {
 			// be sure we're not modifying the original array from the model
 			result = (Object[]) result.clone();
-			comparator.sort(this, result);
+			internalSort(comparator, result);
 		}
 		return result;
 	}
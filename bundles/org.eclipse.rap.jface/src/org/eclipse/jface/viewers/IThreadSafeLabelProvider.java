@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+/**
+ * A label provider whose <code>getText</code> method may be called
+ * concurrently from threads other than the UI thread. These threads run in
+ * the context of the viewer's UI session.
+ * <p>
+ * Structured viewers that sort in parallel compute the labels of a label
+ * provider that implements this interface in parallel, too.
+ * </p>
+ *
+ * @see StructuredViewer#setUseParallelSortAndFilter(boolean)
+ * @since 3.12
+ */
+public interface IThreadSafeLabelProvider extends ILabelProvider {
+}
@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+/**
+ * Marks a <code>ViewerFilter</code> whose <code>select</code> method may be
+ * called concurrently from threads other than the UI thread. These threads
+ * run in the context of the viewer's UI session.
+ * <p>
+ * Structured viewers that filter in parallel only call the
+ * <code>select</code> method of filters that implement this interface in
+ * parallel.
+ * </p>
+ *
+ * @see StructuredViewer#setUseParallelSortAndFilter(boolean)
+ * @since 3.12
+ */
+public interface IThreadSafeViewerFilter {
+}
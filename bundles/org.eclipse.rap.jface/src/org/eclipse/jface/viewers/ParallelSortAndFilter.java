@@ -0,0 +1,304 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.service.UISession;
+
+/**
+ * Filters and sorts the children of a structured viewer in parallel. The
+ * elements are split into chunks that the calling thread processes together
+ * with helper tasks on the common fork-join pool. The helpers run in the
+ * context of the viewer's UI session. As the calling thread does not wait for
+ * the pool to pick up the helpers, it is never slower than processing all
+ * chunks on its own. The viewer then updates its widgets on the UI thread as
+ * usual.
+ *
+ * @see StructuredViewer#setUseParallelSortAndFilter(boolean)
+ */
+final class ParallelSortAndFilter {
+
+	/**
+	 * The minimum number of elements to process in parallel.
+	 */
+	static final int THRESHOLD = 1000;
+
+	private static final int CHUNK_SIZE = 256;
+
+	private ParallelSortAndFilter() {
+		// prevent instantiation
+	}
+
+	/**
+	 * Returns the elements that the given filter selects. Only filters that
+	 * implement <code>IThreadSafeViewerFilter</code> and do not override
+	 * <code>ViewerFilter#filter(Viewer, Object, Object[])</code> are applied
+	 * in parallel.
+	 *
+	 * @param viewer
+	 *            the viewer
+	 * @param parent
+	 *            the parent element
+	 * @param filter
+	 *            the filter
+	 * @param elements
+	 *            the elements to filter
+	 * @return the selected elements
+	 */
+	static Object[] filter(final Viewer viewer, final Object parent,
+			final ViewerFilter filter, final Object[] elements) {
+		if (elements.length < THRESHOLD
+				|| !(filter instanceof IThreadSafeViewerFilter)
+				|| overrides(filter, ViewerFilter.class, "filter", //$NON-NLS-1$
+						new Class[] { Viewer.class, Object.class, Object[].class })) {
+			return filter.filter(viewer, parent, elements);
+		}
+		final boolean[] selected = new boolean[elements.length];
+		runInParallel(viewer, new Range() {
+			void run(int from, int to) {
+				for (int i = from; i < to; i++) {
+					selected[i] = filter.select(viewer, parent, elements[i]);
+				}
+			}
+		}, elements.length);
+		ArrayList result = new ArrayList(elements.length);
+		for (int i = 0; i < elements.length; i++) {
+			if (selected[i]) {
+				result.add(elements[i]);
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Sorts the given elements in-place. The category and label of each
+	 * element are computed once and the labels are turned into collation keys
+	 * if the comparator compares strings with a <code>Collator</code>. The
+	 * categories and labels are only computed in parallel if the comparator
+	 * implements <code>IThreadSafeViewerComparator</code> and the label
+	 * provider implements <code>IThreadSafeLabelProvider</code>, respectively.
+	 * Comparators that override <code>compare</code> or <code>sort</code>
+	 * sort on the calling thread.
+	 *
+	 * @param viewer
+	 *            the viewer
+	 * @param comparator
+	 *            the comparator
+	 * @param elements
+	 *            the elements to sort
+	 */
+	static void sort(ContentViewer viewer, final ViewerComparator comparator,
+			Object[] elements) {
+		if (elements.length < THRESHOLD
+				|| overrides(comparator, ViewerComparator.class, "sort", //$NON-NLS-1$
+						new Class[] { Viewer.class, Object[].class })
+				|| overrides(comparator, ViewerComparator.class, "compare", //$NON-NLS-1$
+						new Class[] { Viewer.class, Object.class, Object.class })) {
+			comparator.sort(viewer, elements);
+			return;
+		}
+		final SortKey[] keys = new SortKey[elements.length];
+		final boolean threadSafeComparator = comparator instanceof IThreadSafeViewerComparator;
+		IBaseLabelProvider provider = viewer.getLabelProvider();
+		final ILabelProvider labelProvider = provider instanceof IThreadSafeLabelProvider
+				? (ILabelProvider) provider : null;
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = new SortKey(elements[i]);
+			// categories and labels that are not thread-safe are computed on
+			// the calling thread
+			if (!threadSafeComparator) {
+				keys[i].category = comparator.category(elements[i]);
+			}
+			if (labelProvider == null) {
+				keys[i].label = provider instanceof ILabelProvider
+						? ((ILabelProvider) provider).getText(elements[i])
+						: elements[i].toString();
+			}
+		}
+		final Comparator stringComparator = comparator.getComparator();
+		runInParallel(viewer, new Range() {
+			void run(int from, int to) {
+				// collators synchronize their methods, use one per chunk
+				Collator collator = stringComparator instanceof Collator
+						? (Collator) ((Collator) stringComparator).clone() : null;
+				for (int i = from; i < to; i++) {
+					SortKey key = keys[i];
+					if (threadSafeComparator) {
+						key.category = comparator.category(key.element);
+					}
+					if (labelProvider != null) {
+						key.label = labelProvider.getText(key.element);
+					}
+					if (key.label == null) {
+						key.label = "";//$NON-NLS-1$
+					}
+					if (collator != null) {
+						key.collationKey = collator.getCollationKey(key.label);
+					}
+				}
+			}
+		}, keys.length);
+		// comparing the keys is cheap, sort them on the calling thread
+		Arrays.sort(keys, new Comparator() {
+			public int compare(Object o1, Object o2) {
+				SortKey key1 = (SortKey) o1;
+				SortKey key2 = (SortKey) o2;
+				if (key1.category != key2.category) {
+					return key1.category - key2.category;
+				}
+				if (key1.collationKey != null) {
+					return key1.collationKey.compareTo(key2.collationKey);
+				}
+				return stringComparator.compare(key1.label, key2.label);
+			}
+		});
+		for (int i = 0; i < keys.length; i++) {
+			elements[i] = keys[i].element;
+		}
+	}
+
+	private static boolean overrides(Object object, Class type, String name,
+			Class[] parameterTypes) {
+		try {
+			return object.getClass().getMethod(name, parameterTypes)
+					.getDeclaringClass() != type;
+		} catch (NoSuchMethodException e) {
+			return true;
+		}
+	}
+
+	private static void runInParallel(Viewer viewer, Range range, int length) {
+		UISession uiSession = RWT.getUISession(viewer.getControl().getDisplay());
+		Chunks chunks = new Chunks(range, length);
+		int helperCount = Math.min(chunks.count - 1,
+				ForkJoinPool.getCommonPoolParallelism());
+		for (int i = 0; i < helperCount; i++) {
+			ForkJoinPool.commonPool().execute(new Helper(uiSession, chunks));
+		}
+		chunks.run();
+		chunks.await();
+	}
+
+	/**
+	 * The precomputed sort criteria of an element.
+	 */
+	private static final class SortKey {
+
+		final Object element;
+		int category;
+		String label;
+		CollationKey collationKey;
+
+		SortKey(Object element) {
+			this.element = element;
+		}
+	}
+
+	/**
+	 * The work to do for a range of indices.
+	 */
+	private static abstract class Range {
+
+		abstract void run(int from, int to);
+	}
+
+	/**
+	 * The chunks of a range of indices. Each thread that runs it processes
+	 * the chunks that no other thread has taken yet.
+	 */
+	private static final class Chunks implements Runnable {
+
+		final int count;
+		private final Range range;
+		private final int length;
+		private final AtomicInteger next = new AtomicInteger();
+		private final CountDownLatch done;
+		private final AtomicReference failure = new AtomicReference();
+
+		Chunks(Range range, int length) {
+			this.range = range;
+			this.length = length;
+			count = (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+			done = new CountDownLatch(count);
+		}
+
+		public void run() {
+			int chunk = next.getAndIncrement();
+			while (chunk < count) {
+				try {
+					if (failure.get() == null) {
+						int from = chunk * CHUNK_SIZE;
+						range.run(from, Math.min(from + CHUNK_SIZE, length));
+					}
+				} catch (Throwable throwable) {
+					failure.compareAndSet(null, throwable);
+				} finally {
+					done.countDown();
+				}
+				chunk = next.getAndIncrement();
+			}
+		}
+
+		/**
+		 * Waits for the chunks that other threads are still processing and
+		 * rethrows the first failure.
+		 */
+		void await() {
+			boolean interrupted = false;
+			while (done.getCount() > 0) {
+				try {
+					done.await();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			Throwable throwable = (Throwable) failure.get();
+			if (throwable instanceof RuntimeException) {
+				throw (RuntimeException) throwable;
+			}
+			if (throwable instanceof Error) {
+				throw (Error) throwable;
+			}
+		}
+	}
+
+	/**
+	 * Helps processing chunks in the context of a UI session.
+	 */
+	private static final class Helper implements Runnable {
+
+		private final UISession uiSession;
+		private final Chunks chunks;
+
+		Helper(UISession uiSession, Chunks chunks) {
+			this.uiSession = uiSession;
+			this.chunks = chunks;
+		}
+
+		public void run() {
+			uiSession.exec(chunks);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -102,6 +102,13 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	private boolean restoreSelection;
 
+	/**
+	 * Indicates whether the children are filtered and sorted in parallel.
+	 * 
+	 * @see #setUseParallelSortAndFilter(boolean)
+	 */
+	private boolean parallelSortAndFilter;
+
 	/**
 	 * List of double-click state listeners (element type:
 	 * <code>IDoubleClickListener</code>).
@@ -901,7 +908,9 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		if (filters != null) {
 			for (Iterator iter = filters.iterator(); iter.hasNext();) {
 				ViewerFilter f = (ViewerFilter) iter.next();
-				Object[] filteredResult = f.filter(this, parent, result);
+				Object[] filteredResult = parallelSortAndFilter
+						? ParallelSortAndFilter.filter(this, parent, f, result)
+						: f.filter(this, parent, result);
 				if (associateListener != null && filteredResult.length != result.length) {
 					notifyFilteredOut(result, filteredResult);
 				}
@@ -1071,11 +1080,28 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		if (sorter != null) {
 			// be sure we're not modifying the original array from the model
 			result = (Object[]) result.clone();
-			sorter.sort(this, result);
+			internalSort(sorter, result);
 		}
 		return result;
 	}
 
+	/**
+	 * Sorts the given elements in-place with the given comparator, in parallel
+	 * if enabled.
+	 * 
+	 * @param comparator
+	 *            the comparator
+	 * @param elements
+	 *            the elements to sort
+	 */
+	void internalSort(ViewerComparator comparator, Object[] elements) {
+		if (parallelSortAndFilter) {
+			ParallelSortAndFilter.sort(this, comparator, elements);
+		} else {
+			comparator.sort(this, elements);
+		}
+	}
+
 	/**
 	 * Returns this viewer's sorter, or <code>null</code> if it does not have
 	 * one.  If this viewer has a comparator that was set via 
@@ -1833,6 +1859,43 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		}
 	}
 
+	/**
+	 * Configures whether this structured viewer filters and sorts large sets of
+	 * children in parallel. The UI thread processes the children together with
+	 * helper tasks on the common fork-join pool and then updates the widgets as
+	 * usual. The helper tasks run in the context of the viewer's UI session.
+	 * <p>
+	 * Only the filters that implement {@link IThreadSafeViewerFilter} are
+	 * applied in parallel. The categories and labels that the comparator sorts
+	 * by are computed once per element; they are only computed in parallel if
+	 * the comparator implements {@link IThreadSafeViewerComparator} and the
+	 * label provider implements {@link IThreadSafeLabelProvider},
+	 * respectively. Filters and comparators that override
+	 * <code>filter(Viewer, Object, Object[])</code>, <code>sort</code> or
+	 * <code>compare</code> are applied on the UI thread.
+	 * </p>
+	 * 
+	 * @param enable
+	 *            <code>true</code> to filter and sort in parallel, and
+	 *            <code>false</code> to do so on the UI thread
+	 * @since 3.12
+	 */
+	public void setUseParallelSortAndFilter(boolean enable) {
+		parallelSortAndFilter = enable;
+	}
+
+	/**
+	 * Returns whether this structured viewer filters and sorts large sets of
+	 * children in parallel.
+	 * 
+	 * @return <code>true</code> if parallel filtering and sorting is enabled
+	 * @see #setUseParallelSortAndFilter(boolean)
+	 * @since 3.12
+	 */
+	public boolean getUseParallelSortAndFilter() {
+		return parallelSortAndFilter;
+	}
+
 	/**
 	 * Sets the comparer to use for comparing elements, or <code>null</code>
 	 * to use the default <code>equals</code> and <code>hashCode</code>
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2006 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,8 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.viewers.AcceptAllFilter;
 import org.eclipse.jface.viewers.IFilter;
 import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.service.UISession;
 
 /**
  * Contains the algorithm for performing background sorting and filtering in a virtual
@@ -39,7 +41,7 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
  * <ol>
  * <li>IConcurrentModel sends unordered elements to BackgroundContentProvider (in a background thread)</li>
  * <li>BackgroundContentProvider sorts, filters, and sends element/index pairs to
- *     ConcurrentTableUpdator (in a background thread)</li>
+ *     ConcurrentTableUpdator (in a thread of the application's <code>SortExecutor</code>)</li>
  * <li>ConcurrentTableUpdator batches the updates and sends them to an AbstractVirtualTable 
  *     (in the UI thread)</li>  
  * </ol>
@@ -127,7 +129,13 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
     private ConcurrentTableUpdator updator;
     
     private IProgressMonitor sortingProgressMonitor = new NullProgressMonitor();
-    private Thread sortThread = null;
+
+    /**
+     * The UI session of the table, sorts are queued per session
+     */
+    private UISession uiSession;
+
+    private SortTask sortTask = new SortTask();
 
 	private volatile FastProgressReporter sortMon = new FastProgressReporter();
 
@@ -144,6 +152,7 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
             IConcurrentModel model, Comparator sortOrder) {
         
         updator = new ConcurrentTableUpdator(table);
+        uiSession = RWT.getUISession(table.getControl().getDisplay());
         this.model = model;
         this.sortOrder = sortOrder;
         model.addListener(listener);
@@ -155,6 +164,7 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
      */
     public void dispose() {
         cancelSortJob();
+        getSortExecutor().cancel(uiSession, sortTask);
         updator.dispose();
         model.removeListener(listener);
     }
@@ -441,46 +451,46 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
     }
     
     /**
-     * This lock protects the two boolean variables sortThreadStarted and resortScheduled.
+     * This lock protects the two boolean variables sortTaskStarted and resortScheduled.
      */
     private Object lock = new Object();
 
     /**
-     * true if the sort thread is running
+     * true if the sort task is queued or running
      */
-    private boolean sortThreadStarted = false;
+    private boolean sortTaskStarted = false;
 
     /**
      * true if we need to sort
      */
     private boolean sortScheduled = false;
     
-	private final class SortThread extends Thread {
-		private SortThread(String name) {
-			super(name);
-		}
+	private final class SortTask implements Runnable, Serializable {
 
 		public void run() {
-			loop: while (true) {
-				synchronized (lock) {
-					sortScheduled = false;
-				}
-				try {
-					// this is the main work
-					doSort(sortingProgressMonitor);
-				} catch (Exception ex) {
-					// ignore
-				}
-				synchronized (lock) {
-					if (sortScheduled) {
-						continue loop;
-					}
-					sortThreadStarted = false;
-					break loop;
+			synchronized (lock) {
+				sortScheduled = false;
+			}
+			try {
+				// this is the main work
+				doSort(sortingProgressMonitor);
+			} catch (Exception ex) {
+				// ignore
+			}
+			synchronized (lock) {
+				if (sortScheduled && !updator.isDisposed()) {
+					// queue up again to give the other sessions their turn
+					getSortExecutor().execute(uiSession, this);
+				} else {
+					sortTaskStarted = false;
 				}
 			}
 		}
 	}
+
+	private SortExecutor getSortExecutor() {
+		return SortExecutor.getInstance(uiSession.getApplicationContext());
+	}
     
     /**
      * Must be called whenever the model changes. Dirties this object and triggers a sort
@@ -491,12 +501,9 @@ import org.eclipse.jface.viewers.deferred.ConcurrentTableUpdator.Range;
 			sortMon.cancel();
 			// request sorting
 			sortScheduled = true;
-			if (!sortThreadStarted) {
-				sortThreadStarted = true;
-				sortThread = new SortThread(SORTING);
-				sortThread.setDaemon(true);
-				sortThread.setPriority(Thread.NORM_PRIORITY - 1);
-				sortThread.start();
+			if (!sortTaskStarted) {
+				sortTaskStarted = true;
+				getSortExecutor().execute(uiSession, sortTask);
 			}
 		}
 	}
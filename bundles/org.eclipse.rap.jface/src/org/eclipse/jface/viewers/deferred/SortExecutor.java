@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers.deferred;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.rap.rwt.service.ApplicationContext;
+import org.eclipse.rap.rwt.service.ApplicationContextEvent;
+import org.eclipse.rap.rwt.service.ApplicationContextListener;
+import org.eclipse.rap.rwt.service.UISession;
+
+/**
+ * Runs the background sorting of all <code>DeferredContentProvider</code>s
+ * of an application on a bounded number of threads.
+ * <p>
+ * Pending sorts are queued per UI session and the sessions take turns, so a
+ * session with many deferred viewers cannot starve the others. Sorts of
+ * sessions that have ended are dropped. The executor is shut down together
+ * with its application context.
+ * </p>
+ *
+ * @see DeferredContentProvider
+ * @since 3.12
+ */
+public final class SortExecutor {
+
+	private static final String ATTRIBUTE = SortExecutor.class.getName();
+
+	private static final Object INSTANCE_LOCK = new Object();
+
+	private final int maximumThreadCount;
+
+	private final ThreadPoolExecutor pool;
+
+	/**
+	 * This lock protects the queues and counters below.
+	 */
+	private final Object lock = new Object();
+
+	/**
+	 * Map of UI sessions to the list of their pending sorts
+	 */
+	private final Map queues = new HashMap();
+
+	/**
+	 * The UI sessions with pending sorts, in the order they take turns
+	 */
+	private final LinkedList sessions = new LinkedList();
+
+	private int queuedCount;
+
+	private int runningCount;
+
+	private long completedCount;
+
+	private boolean shutdown;
+
+	/**
+	 * Returns the sort executor of the given application context, creating it
+	 * on first access.
+	 *
+	 * @param applicationContext
+	 *            the application context
+	 * @return the sort executor of the application context
+	 */
+	public static SortExecutor getInstance(ApplicationContext applicationContext) {
+		Assert.isNotNull(applicationContext);
+		synchronized (INSTANCE_LOCK) {
+			SortExecutor result = (SortExecutor) applicationContext
+					.getAttribute(ATTRIBUTE);
+			if (result == null) {
+				result = new SortExecutor(Math.max(2, Runtime.getRuntime()
+						.availableProcessors()));
+				final SortExecutor executor = result;
+				boolean added = applicationContext
+						.addApplicationContextListener(new ApplicationContextListener() {
+							public void beforeDestroy(ApplicationContextEvent event) {
+								executor.shutdown();
+							}
+						});
+				if (added) {
+					applicationContext.setAttribute(ATTRIBUTE, result);
+				} else {
+					// the application is about to be destroyed
+					result.shutdown();
+				}
+			}
+			return result;
+		}
+	}
+
+	SortExecutor(int maximumThreadCount) {
+		this.maximumThreadCount = maximumThreadCount;
+		pool = new ThreadPoolExecutor(maximumThreadCount, maximumThreadCount,
+				30, TimeUnit.SECONDS, new LinkedBlockingQueue(),
+				new ThreadFactory() {
+					private int count;
+
+					public synchronized Thread newThread(Runnable runnable) {
+						Thread thread = new Thread(runnable, "JFace Sorting " //$NON-NLS-1$
+								+ ++count);
+						thread.setDaemon(true);
+						thread.setPriority(Thread.NORM_PRIORITY - 1);
+						return thread;
+					}
+				});
+		pool.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Returns the maximum number of sorts that run at the same time.
+	 *
+	 * @return the number of sorting threads
+	 */
+	public int getMaximumThreadCount() {
+		return maximumThreadCount;
+	}
+
+	/**
+	 * Returns the number of sorts that wait for a thread.
+	 *
+	 * @return the number of queued sorts
+	 */
+	public int getQueuedSortCount() {
+		synchronized (lock) {
+			return queuedCount;
+		}
+	}
+
+	/**
+	 * Returns the number of sorts that are running.
+	 *
+	 * @return the number of running sorts
+	 */
+	public int getRunningSortCount() {
+		synchronized (lock) {
+			return runningCount;
+		}
+	}
+
+	/**
+	 * Returns the number of sorts that have finished since the executor was
+	 * created.
+	 *
+	 * @return the number of completed sorts
+	 */
+	public long getCompletedSortCount() {
+		synchronized (lock) {
+			return completedCount;
+		}
+	}
+
+	/**
+	 * Queues the given sort for the given UI session. Has no effect once the
+	 * executor is shut down.
+	 *
+	 * @param uiSession
+	 *            the UI session the sort belongs to
+	 * @param sort
+	 *            the sort to run
+	 */
+	void execute(UISession uiSession, Runnable sort) {
+		synchronized (lock) {
+			if (shutdown) {
+				return;
+			}
+			LinkedList queue = (LinkedList) queues.get(uiSession);
+			if (queue == null) {
+				queue = new LinkedList();
+				queues.put(uiSession, queue);
+				sessions.addLast(uiSession);
+			}
+			queue.addLast(sort);
+			queuedCount++;
+		}
+		try {
+			pool.execute(new Runnable() {
+				public void run() {
+					runNext();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// shut down in the meantime, the queues have been cleared
+		}
+	}
+
+	/**
+	 * Removes the given sort from the queue of the given UI session unless it
+	 * is already running.
+	 *
+	 * @param uiSession
+	 *            the UI session the sort belongs to
+	 * @param sort
+	 *            the sort to cancel
+	 * @return true iff the sort was removed from the queue
+	 */
+	boolean cancel(UISession uiSession, Runnable sort) {
+		synchronized (lock) {
+			LinkedList queue = (LinkedList) queues.get(uiSession);
+			if (queue == null || !queue.remove(sort)) {
+				return false;
+			}
+			queuedCount--;
+			if (queue.isEmpty()) {
+				queues.remove(uiSession);
+				sessions.remove(uiSession);
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Drops all queued sorts and stops the sorting threads.
+	 */
+	void shutdown() {
+		synchronized (lock) {
+			shutdown = true;
+			queues.clear();
+			sessions.clear();
+			queuedCount = 0;
+		}
+		pool.shutdownNow();
+	}
+
+	/**
+	 * Runs the next sort of the UI session whose turn it is. Called once per
+	 * queued sort, so there may be nothing left to run if sorts were cancelled.
+	 */
+	private void runNext() {
+		Runnable sort = null;
+		synchronized (lock) {
+			while (sort == null && !sessions.isEmpty()) {
+				UISession uiSession = (UISession) sessions.removeFirst();
+				LinkedList queue = (LinkedList) queues.get(uiSession);
+				if (!uiSession.isBound()) {
+					// the session has ended, drop its sorts
+					queuedCount -= queue.size();
+					queues.remove(uiSession);
+				} else {
+					sort = (Runnable) queue.removeFirst();
+					queuedCount--;
+					if (queue.isEmpty()) {
+						queues.remove(uiSession);
+					} else {
+						sessions.addLast(uiSession);
+					}
+				}
+			}
+			if (sort == null) {
+				return;
+			}
+			runningCount++;
+		}
+		try {
+			sort.run();
+		} finally {
+			synchronized (lock) {
+				runningCount--;
+				completedCount++;
+			}
+		}
+	}
+
+}
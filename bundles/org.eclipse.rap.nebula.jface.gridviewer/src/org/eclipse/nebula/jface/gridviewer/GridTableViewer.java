@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -221,6 +221,22 @@ public class GridTableViewer extends AbstractTableViewer {
     return grid.getItems();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  protected Widget doFindItem( Object element ) {
+    // [RAP] only created items can be associated with an element, searching them avoids to create
+    // an item for every placeholder row of a virtual grid
+    Widget result = null;
+    GridItem[] items = grid.getAdapter( IGridAdapter.class ).getCreatedItems();
+    for( int i = 0; i < items.length && result == null; i++ ) {
+      Object data = items[ i ].getData();
+      if( data != null && equals( data, element ) ) {
+        result = items[ i ];
+      }
+    }
+    return result;
+  }
+
   /** {@inheritDoc} */
   @Override
   protected Item[] doGetSelection() {
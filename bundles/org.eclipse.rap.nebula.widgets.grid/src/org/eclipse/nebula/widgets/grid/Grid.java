@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2019 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,7 +16,9 @@ import static org.eclipse.swt.internal.widgets.MarkupUtil.MarkupTarget.TEXT;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.nebula.widgets.grid.internal.IGridAdapter;
 import org.eclipse.nebula.widgets.grid.internal.IScrollBarProxy;
@@ -75,11 +77,13 @@ public class Grid extends Composite {
 
   private List<GridItem> items = new ArrayList<GridItem>();
   private List<GridItem> rootItems = new ArrayList<GridItem>();
-  private List<GridItem> selectedItems = new ArrayList<GridItem>();
+  private Set<GridItem> selectedItems = new LinkedHashSet<GridItem>();
   private List<Point> selectedCells = new ArrayList<Point>();
   private List<GridColumn> columns = new ArrayList<GridColumn>();
   private List<GridColumn> displayOrderedColumns = new ArrayList<GridColumn>();
   private List<GridColumnGroup> columnGroups = new ArrayList<GridColumnGroup>();
+  // the cached flat indices of all items before this position are up to date
+  private int validFlatIndices;
   private GridItem focusItem;
   private boolean isTree;
   private boolean disposing;
@@ -305,8 +309,10 @@ public class Grid extends Composite {
     checkWidget();
     int itemCount = Math.max( 0, count );
     while( itemCount < items.size() ) {
-      int flatIndex = items.size() - 1;
-      items.get( flatIndex ).dispose( flatIndex );
+      destroyItem( items.size() - 1 );
+    }
+    if( isVirtual() && !isTree ) {
+      addPlaceholders( itemCount - items.size() );
     }
     while( itemCount > items.size() ) {
       new GridItem( this, null, SWT.NONE, -1 );
@@ -348,6 +354,7 @@ public class Grid extends Composite {
    */
   public GridItem[] getItems() {
     checkWidget();
+    resolvePlaceholders();
     return items.toArray( new GridItem[ items.size() ] );
   }
 
@@ -374,7 +381,7 @@ public class Grid extends Composite {
     if( index < 0 || index >= items.size() ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
-    return items.get( index );
+    return resolveItem( index );
   }
 
   /**
@@ -409,11 +416,10 @@ public class Grid extends Composite {
       if( p.y > y ) {
         int row = getTopIndex();
         while( row < items.size() && y <= getClientArea().height && result == null ) {
-          GridItem currentItem = items.get( row );
-          if( currentItem.isVisible() ) {
-            int currentItemHeight = currentItem.getHeight();
+          if( isVisibleRow( row ) ) {
+            int currentItemHeight = getRowHeight( row );
             if( p.y >= y && p.y < y + currentItemHeight ) {
-              result = currentItem;
+              result = resolveItem( row );
             }
             y += currentItemHeight;
           }
@@ -447,7 +453,7 @@ public class Grid extends Composite {
     if( item == null ) {
       SWT.error( SWT.ERROR_NULL_ARGUMENT );
     }
-    return item.getParent() == this ? items.indexOf( item ) : -1;
+    return item.getParent() == this ? internalIndexOf( item ) : -1;
   }
 
   /**
@@ -484,6 +490,7 @@ public class Grid extends Composite {
    */
   public GridItem[] getRootItems() {
     checkWidget();
+    resolvePlaceholders();
     return rootItems.toArray( new GridItem[ rootItems.size() ] );
   }
 
@@ -497,7 +504,9 @@ public class Grid extends Composite {
     if( index < 0 || index >= rootItems.size() ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
-    return rootItems.get( index );
+    // placeholders exist only in flat grids, where root and flat indices are the same
+    GridItem result = rootItems.get( index );
+    return result == null ? resolveItem( index ) : result;
   }
 
   /**
@@ -515,13 +524,13 @@ public class Grid extends Composite {
   public GridItem getNextVisibleItem( GridItem item ) {
     checkWidget();
     GridItem result = null;
-    int index = items.indexOf( item );
+    int index = item == null ? -1 : internalIndexOf( item );
     if( index != items.size() - 1 ) {
-      result = items.get( index + 1 );
+      result = resolveItem( index + 1 );
       while( result != null && !result.isVisible() ) {
         index++;
         if( index != items.size() - 1 ) {
-          result = items.get( index + 1 );
+          result = resolveItem( index + 1 );
         } else {
           result = null;
         }
@@ -550,14 +559,14 @@ public class Grid extends Composite {
     if( item == null ) {
       index = items.size();
     } else {
-      index = items.indexOf( item );
+      index = internalIndexOf( item );
     }
     if( index > 0 ) {
-      result = items.get( index - 1 );
+      result = resolveItem( index - 1 );
       while( result != null && !result.isVisible() ) {
         index--;
         if( index > 0 ) {
-          result = items.get( index - 1 );
+          result = resolveItem( index - 1 );
         } else {
           result = null;
         }
@@ -984,7 +993,7 @@ public class Grid extends Composite {
     if( index < 0 || index >= items.size() ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
-    items.get( index ).clear( allChildren );
+    clearItem( index, allChildren );
     redraw();
   }
 
@@ -1018,7 +1027,7 @@ public class Grid extends Composite {
         SWT.error( SWT.ERROR_INVALID_RANGE );
       }
       for( int i = start; i <= end; i++ ) {
-        items.get( i ).clear( allChildren );
+        clearItem( i, allChildren );
       }
       redraw();
     }
@@ -1058,7 +1067,7 @@ public class Grid extends Composite {
         }
       }
       for( int i = 0; i < indices.length; i++ ) {
-        items.get( indices[ i ] ).clear( allChildren );
+        clearItem( indices[ i ], allChildren );
       }
       redraw();
     }
@@ -1253,7 +1262,9 @@ public class Grid extends Composite {
 //        selectAllCells();
       } else {
         selectedItems.clear();
-        selectedItems.addAll( items );
+        for( int index = 0; index < items.size(); index++ ) {
+          selectedItems.add( resolveItem( index ) );
+        }
       }
     }
   }
@@ -1481,7 +1492,7 @@ public class Grid extends Composite {
           if( item.isDisposed() ) {
             SWT.error( SWT.ERROR_INVALID_ARGUMENT );
           }
-          internalSelect( this.items.indexOf( item ) );
+          internalSelect( internalIndexOf( item ) );
         }
       }
     }
@@ -1583,7 +1594,7 @@ public class Grid extends Composite {
       }
     } else {
       if( selectedItems.size() != 0 ) {
-        result = items.indexOf( selectedItems.get( 0 ) );
+        result = internalIndexOf( selectedItems.iterator().next() );
       }
     }
     return result;
@@ -1622,13 +1633,13 @@ public class Grid extends Composite {
       result = new int[ selectedRows.size() ];
       for( int i = 0; i < result.length; i++ ) {
         GridItem item = selectedRows.get( i );
-        result[ i ] = items.indexOf( item );
+        result[ i ] = internalIndexOf( item );
       }
     } else {
       result = new int[ selectedItems.size() ];
-      for( int i = 0; i < result.length; i++ ) {
-        GridItem item = selectedItems.get( i );
-        result[ i ] = items.indexOf( item );
+      int i = 0;
+      for( GridItem item : selectedItems ) {
+        result[ i++ ] = internalIndexOf( item );
       }
     }
     return result;
@@ -1660,7 +1671,8 @@ public class Grid extends Composite {
           }
         }
       } else {
-        result = isSelected( items.get( index ) );
+        GridItem item = items.get( index );
+        result = item != null && isSelected( item );
       }
     }
     return result;
@@ -1690,7 +1702,7 @@ public class Grid extends Composite {
     }
     boolean result = false;
     if( cellSelectionEnabled ) {
-      int index = items.indexOf( item );
+      int index = internalIndexOf( item );
       if( index != -1 ) {
         for( Point cell : selectedCells ) {
           if( cell.y == index ) {
@@ -1725,7 +1737,7 @@ public class Grid extends Composite {
     if( index < 0 || index > items.size() - 1 ) {
       SWT.error( SWT.ERROR_INVALID_RANGE );
     }
-    items.get( index ).dispose( index );
+    destroyItem( index );
   }
 
   /**
@@ -1752,7 +1764,7 @@ public class Grid extends Composite {
       if( i < 0 || i > items.size() - 1 ) {
         SWT.error( SWT.ERROR_INVALID_RANGE );
       }
-      items.get( i ).dispose( i );
+      destroyItem( i );
     }
   }
 
@@ -1783,7 +1795,7 @@ public class Grid extends Composite {
     for( int i = 0; i < indices.length; i++ ) {
       int index = indices[ i ];
       if( isValidItemIndex( index ) ) {
-        removeThese[ i ] = items.get( index );
+        removeThese[ i ] = resolveItem( index );
       } else {
         SWT.error( SWT.ERROR_INVALID_RANGE );
       }
@@ -1806,8 +1818,7 @@ public class Grid extends Composite {
   public void removeAll() {
     checkWidget();
     while( items.size() > 0 ) {
-      int flatIndex = items.size() - 1;
-      items.get( flatIndex ).dispose( flatIndex );
+      destroyItem( items.size() - 1 );
     }
   }
 
@@ -2099,11 +2110,10 @@ public class Grid extends Composite {
     checkWidget();
     if( isValidItemIndex( index ) ) {
       updateScrollBars();
-      GridItem item = items.get( index );
-      if( item.isVisible() && vScroll.getVisible() ) {
+      if( isVisibleRow( index ) && vScroll.getVisible() ) {
         int vScrollAmount = 0;
         for( int i = 0; i < index; i++ ) {
-          if( items.get( i ).isVisible() ) {
+          if( isVisibleRow( i ) ) {
             vScrollAmount++;
           }
         }
@@ -2141,7 +2151,7 @@ public class Grid extends Composite {
             if( item.isVisible() ) {
               row--;
               if( row == 0 ) {
-                firstVisibleIndex = items.indexOf( item );
+                firstVisibleIndex = internalIndexOf( item );
               }
             }
           }
@@ -2189,7 +2199,7 @@ public class Grid extends Composite {
           parent = parent.getParentItem();
         }
         if( !isShown( item ) ) {
-          setTopIndex( items.indexOf( item ) );
+          setTopIndex( internalIndexOf( item ) );
         }
       }
     }
@@ -2265,7 +2275,7 @@ public class Grid extends Composite {
       }
     } else {
       if( selectedItems.size() != 0 ) {
-        item = selectedItems.get( 0 );
+        item = selectedItems.iterator().next();
         showItem( item );
       }
     }
@@ -2342,6 +2352,8 @@ public class Grid extends Composite {
     int row = 0;
     GridItem parentItem = item.getParentItem();
     if( !isTree && parentItem != null ) {
+      // placeholders are only supported as long as root and flat indices are the same
+      resolvePlaceholders();
       isTree = true;
     }
     int flatIndex = index;
@@ -2351,7 +2363,8 @@ public class Grid extends Composite {
       if( index >= rootItems.size() ) {
         flatIndex = -1;
       } else {
-        flatIndex = items.indexOf( rootItems.get( index ) );
+        GridItem rootItem = rootItems.get( index );
+        flatIndex = rootItem == null ? index : internalIndexOf( rootItem );
       }
     } else if( !root ) {
       if( index >= parentItem.getItemCount() || index == -1 ) {
@@ -2360,9 +2373,9 @@ public class Grid extends Composite {
           int lastChildIndex = rightMostDescendent.getItemCount() - 1;
           rightMostDescendent = rightMostDescendent.getItem( lastChildIndex );
         }
-        flatIndex = items.indexOf( rightMostDescendent ) + 1;
+        flatIndex = internalIndexOf( rightMostDescendent ) + 1;
       } else {
-        flatIndex = items.indexOf( parentItem.getItem( index ) );
+        flatIndex = internalIndexOf( parentItem.getItem( index ) );
       }
     }
     if( flatIndex == -1 ) {
@@ -2372,6 +2385,7 @@ public class Grid extends Composite {
       items.add( flatIndex, item );
       row = flatIndex;
     }
+    invalidateFlatIndices( row );
     updateVisibleItems( 1 );
     scheduleRedraw();
     return row;
@@ -2379,6 +2393,7 @@ public class Grid extends Composite {
 
   void removeItem( int index ) {
     GridItem item = items.remove( index );
+    invalidateFlatIndices( index );
     if( !disposing ) {
       selectedItems.remove (item );
 // TODO: [if] Implement cell selection
@@ -2414,7 +2429,10 @@ public class Grid extends Composite {
 
   private void adjustItemIndices( int start ) {
     for( int i = start; i < rootItems.size(); i++ ) {
-      rootItems.get( i ).index = i;
+      GridItem item = rootItems.get( i );
+      if( item != null ) {
+        item.index = i;
+      }
     }
   }
 
@@ -2428,7 +2446,9 @@ public class Grid extends Composite {
     }
     updatePrimaryCheckColumn();
     for( GridItem item : items ) {
-      item.columnAdded( index );
+      if( item != null ) {
+        item.columnAdded( index );
+      }
     }
     if( column.isCheck() ) {
       layoutCache.invalidateItemHeight();
@@ -2445,7 +2465,9 @@ public class Grid extends Composite {
     displayOrderedColumns.remove( column );
     updatePrimaryCheckColumn();
     for( GridItem item : items ) {
-      item.columnRemoved( index );
+      if( item != null ) {
+        item.columnRemoved( index );
+      }
     }
     if( column.isCheck() ) {
       layoutCache.invalidateItemHeight();
@@ -2496,7 +2518,8 @@ public class Grid extends Composite {
 
   int getMaxContentWidth( GridColumn column ) {
     doRedraw();
-    return getMaxInnerWidth( getRootItems(), columns.indexOf( column ) );
+    GridItem[] items = rootItems.toArray( new GridItem[ rootItems.size() ] );
+    return getMaxInnerWidth( items, columns.indexOf( column ) );
   }
 
   int getBottomIndex() {
@@ -2525,22 +2548,20 @@ public class Grid extends Composite {
         y += getHeaderHeight();
       }
       int topIndex = getTopIndex();
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
       while( topIndex != itemIndex ) {
         if( topIndex < itemIndex ) {
-          GridItem currentItem = items.get( topIndex );
-          if( currentItem.isVisible() ) {
-            y += currentItem.getHeight();
+          if( isVisibleRow( topIndex ) ) {
+            y += getRowHeight( topIndex );
           }
           topIndex++;
         } else if( topIndex > itemIndex ) {
           topIndex--;
-          GridItem currentItem = items.get( topIndex );
-          if( currentItem.isVisible() ) {
-            y -= currentItem.getHeight();
+          if( isVisibleRow( topIndex ) ) {
+            y -= getRowHeight( topIndex );
           }
         }
       }
@@ -2552,7 +2573,7 @@ public class Grid extends Composite {
     checkWidget();
     boolean result = false;
     if( item.isVisible() ) {
-      int itemIndex = items.indexOf( item );
+      int itemIndex = internalIndexOf( item );
       if( itemIndex == -1 ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
@@ -2567,8 +2588,8 @@ public class Grid extends Composite {
   private void doRedraw() {
     if( isVirtual() && items.size() > 0 ) {
       for( int index = getTopIndex(); index <= getBottomIndex(); index++ ) {
-        GridItem item = items.get( index );
-        if( item.isVisible() ) {
+        if( isVisibleRow( index ) ) {
+          GridItem item = resolveItem( index );
           item.ensureItemData();
           item.handleVirtual();
         }
@@ -2673,7 +2694,9 @@ public class Grid extends Composite {
     event.type = SWT.None;
     disposing = true;
     for( GridItem item : items ) {
-      item.dispose();
+      if( item != null ) {
+        item.dispose();
+      }
     }
     for( GridColumn column : columns ) {
       column.dispose();
@@ -2708,9 +2731,9 @@ public class Grid extends Composite {
   private int getGridHeight() {
     int result = 0;
     if( hasDifferingHeights ) {
-      for( GridItem item : items ) {
-        if( item.isVisible() ) {
-          result += item.getHeight();
+      for( int index = 0; index < items.size(); index++ ) {
+        if( isVisibleRow( index ) ) {
+          result += getRowHeight( index );
         }
       }
     } else {
@@ -2728,7 +2751,7 @@ public class Grid extends Composite {
   private static int getMaxInnerWidth( GridItem[] items, int index ) {
     int maxInnerWidth = 0;
     for( GridItem item : items ) {
-      if( item.isResolved() ) {
+      if( item != null && item.isResolved() ) {
         maxInnerWidth = Math.max( maxInnerWidth, item.getPreferredWidth( index ) );
         if( item.isExpanded() ) {
           int innerWidth = getMaxInnerWidth( item.getItems(), index );
@@ -2741,22 +2764,22 @@ public class Grid extends Composite {
 
   private void internalSelect( int index ) {
     if( isValidItemIndex( index ) ) {
-      GridItem item = items.get( index );
+      GridItem item = resolveItem( index );
       if( cellSelectionEnabled ) {
 // TODO: [if] Implement cell selection
 //        selectCells( getCells( item ) );
-      } else if( !selectedItems.contains( item ) ) {
+      } else {
         selectedItems.add( item );
       }
     }
   }
   private void internalDeselect( int index ) {
-    if( isValidItemIndex( index ) ) {
-      GridItem item = items.get( index );
+    GridItem item = isValidItemIndex( index ) ? items.get( index ) : null;
+    if( item != null ) {
       if( cellSelectionEnabled ) {
 // TODO: [if] Implement cell selection
 //        deselectCells( getCells( item ) );
-      } else if( selectedItems.contains( item ) ) {
+      } else {
         selectedItems.remove( item );
       }
     }
@@ -3074,13 +3097,13 @@ public class Grid extends Composite {
       }
       do {
         startIndex += inverse ? -1 : 1;
-      } while( isValidItemIndex( startIndex ) && !items.get( startIndex ).isVisible() );
+      } while( isValidItemIndex( startIndex ) && !isVisibleRow( startIndex ) );
       if( !isValidItemIndex( startIndex ) ) {
         result = null;
       }
     }
     if( result != null ) {
-      if( startIndex < 0 || startIndex >= items.size() || !items.get( startIndex ).isVisible() ) {
+      if( !isValidItemIndex( startIndex ) || !isVisibleRow( startIndex ) ) {
         SWT.error( SWT.ERROR_INVALID_ARGUMENT );
       }
       if( availableHeight <= 0 ) {
@@ -3093,27 +3116,21 @@ public class Grid extends Composite {
         int consumedItems = 0;
         int consumedHeight = 0;
         consumedItems++;
-        consumedHeight += items.get( otherIndex ).getHeight();
+        consumedHeight += getRowHeight( otherIndex );
         boolean abort = false;
         while( consumedHeight + 1 <= availableHeight && !abort ) {
           int nextIndex = otherIndex;
-          GridItem nextItem;
           do {
             nextIndex += inverse ? -1 : 1;
-            if( isValidItemIndex( nextIndex ) ) {
-              nextItem = items.get( nextIndex );
-            } else {
-              nextItem = null;
-            }
-          } while( nextItem != null && !nextItem.isVisible() );
-          if(    nextItem == null
+          } while( isValidItemIndex( nextIndex ) && !isVisibleRow( nextIndex ) );
+          if(    !isValidItemIndex( nextIndex )
               || forceEndCompletelyInside
-              && !( consumedHeight + nextItem.getHeight() <= availableHeight ) )
+              && !( consumedHeight + getRowHeight( nextIndex ) <= availableHeight ) )
           {
             abort = true;
           } else {
             consumedItems++;
-            consumedHeight += nextItem.getHeight();
+            consumedHeight += getRowHeight( nextIndex );
             otherIndex = nextIndex;
           }
         }
@@ -3143,7 +3160,88 @@ public class Grid extends Composite {
   }
 
   int internalIndexOf( GridItem item ) {
-    return items.indexOf( item );
+    int size = items.size();
+    if( validFlatIndices < size ) {
+      for( int i = validFlatIndices; i < size; i++ ) {
+        GridItem current = items.get( i );
+        if( current != null ) {
+          current.flatIndex = i;
+        }
+      }
+      validFlatIndices = size;
+    }
+    int index = item.flatIndex;
+    return index < size && items.get( index ) == item ? index : -1;
+  }
+
+  private void invalidateFlatIndices( int start ) {
+    validFlatIndices = Math.min( validFlatIndices, start );
+  }
+
+  /*
+   * In a flat virtual grid, setItemCount() adds null placeholders to the items instead of items.
+   * A placeholder stands for a visible, unresolved row of the default height and is replaced by
+   * an item as soon as the row is resolved or the item is requested through the API. Returns the
+   * item at the given index, never null.
+   */
+  private GridItem resolveItem( int index ) {
+    GridItem result = items.get( index );
+    if( result == null ) {
+      result = new GridItem( this, null, SWT.NONE, index, false );
+      items.set( index, result );
+      rootItems.set( index, result );
+    }
+    return result;
+  }
+
+  private void addPlaceholders( int count ) {
+    if( count > 0 ) {
+      for( int i = 0; i < count; i++ ) {
+        items.add( null );
+        rootItems.add( null );
+      }
+      updateVisibleItems( count );
+      scheduleRedraw();
+    }
+  }
+
+  private void resolvePlaceholders() {
+    if( isVirtual() && !isTree ) {
+      for( int index = 0; index < items.size(); index++ ) {
+        resolveItem( index );
+      }
+    }
+  }
+
+  private void destroyItem( int index ) {
+    GridItem item = items.get( index );
+    if( item == null ) {
+      items.remove( index );
+      rootItems.remove( index );
+      invalidateFlatIndices( index );
+      adjustItemIndices( index );
+      updateVisibleItems( -1 );
+      scheduleRedraw();
+    } else {
+      item.dispose( index );
+    }
+  }
+
+  private void clearItem( int index, boolean allChildren ) {
+    GridItem item = items.get( index );
+    if( item != null ) {
+      item.clear( allChildren );
+    }
+  }
+
+  private boolean isVisibleRow( int index ) {
+    GridItem item = items.get( index );
+    return item == null || item.isVisible();
+  }
+
+  private int getRowHeight( int index ) {
+    GridItem item = items.get( index );
+    return item == null ? getItemHeight() : item.getHeight();
   }
 
   void scheduleRedraw() {
@@ -3241,6 +3339,17 @@ public class Grid extends Composite {
       return item.index;
     }
 
+    @Override
+    public GridItem[] getCreatedItems() {
+      List<GridItem> result = new ArrayList<GridItem>();
+      for( GridItem item : items ) {
+        if( item != null ) {
+          result.add( item );
+        }
+      }
+      return result.toArray( new GridItem[ result.size() ] );
+    }
+
     @Override
     public ICellToolTipProvider getCellToolTipProvider() {
       return provider;
@@ -3276,7 +3385,7 @@ public class Grid extends Composite {
       }
       if( isVirtual() ) {
         for( GridItem item : items ) {
-          if( item.isResolved() ) {
+          if( item != null && item.isResolved() ) {
             visitor.visit( item );
           }
         }
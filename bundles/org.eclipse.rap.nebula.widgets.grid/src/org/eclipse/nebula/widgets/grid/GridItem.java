@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -64,6 +64,7 @@ public class GridItem extends Item {
   private boolean cached;
   private transient IGridItemAdapter gridItemAdapter;
   int index;
+  int flatIndex;
 
   /**
    * Creates a new instance of this class and places the item at the end of
@@ -166,10 +167,21 @@ public class GridItem extends Item {
   }
 
   GridItem( Grid parent, GridItem parentItem, int style, int index ) {
+    this( parent, parentItem, style, index, true );
+  }
+
+  /*
+   * With create set to false, the item replaces a placeholder row of a virtual grid at the given
+   * flat index. The row is already part of the grid.
+   */
+  GridItem( Grid parent, GridItem parentItem, int style, int index, boolean create ) {
     super( parent, style, index );
     this.parent = parent;
     this.parentItem = parentItem;
-    if( parentItem == null ) {
+    if( !create ) {
+      this.index = index;
+      flatIndex = index;
+    } else if( parentItem == null ) {
       parent.newItem( this, index, true );
       parent.newRootItem( this, index );
     } else {
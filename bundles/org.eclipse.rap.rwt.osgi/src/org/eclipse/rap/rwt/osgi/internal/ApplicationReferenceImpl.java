@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2018 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,9 @@ import javax.servlet.http.HttpServlet;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ApplicationRunner;
 import org.eclipse.rap.rwt.engine.RWTServlet;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceServlet;
 import org.eclipse.rap.rwt.osgi.ApplicationReference;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.osgi.framework.BundleContext;
@@ -141,8 +144,7 @@ class ApplicationReferenceImpl implements ApplicationReference {
   @SuppressWarnings( "restriction" )
   private Collection<String> getServletPaths() {
     ApplicationContext applicationContext = applicationRunner.getApplicationContext();
-    org.eclipse.rap.rwt.internal.application.ApplicationContextImpl applicationContextImpl
-      = ( org.eclipse.rap.rwt.internal.application.ApplicationContextImpl ) applicationContext;
+    ApplicationContextImpl applicationContextImpl = ( ApplicationContextImpl )applicationContext;
     return applicationContextImpl.getEntryPointManager().getServletPaths();
   }
 
@@ -195,16 +197,24 @@ class ApplicationReferenceImpl implements ApplicationReference {
     }
   }
 
+  @SuppressWarnings( "restriction" )
   private void registerResourceDirectory() {
     String alias = ApplicationRunner.RESOURCES;
-    String location = contextLocation + "/" + alias;
+    ApplicationContext applicationContext = applicationRunner.getApplicationContext();
+    ApplicationContextImpl applicationContextImpl = ( ApplicationContextImpl )applicationContext;
+    ResourceManagerImpl resourceManager
+      = ( ResourceManagerImpl )applicationContextImpl.getResourceManager();
+    // not wrapped in CutOffContextPathWrapper, the resource servlet does not need a session
+    HttpServlet servlet = new ResourceServlet( resourceManager );
     try {
-      httpService.registerResources( getContextSegment() + "/" + alias, location, httpContext );
+      httpService.registerServlet( getContextSegment() + "/" + alias, servlet, null, httpContext );
     } catch( RuntimeException rte ) {
       throw rte;
     } catch( Exception shouldNotHappen ) {
       throw new RuntimeException( shouldNotHappen );
     }
+    // resources in memory can be delivered now that the servlet is registered
+    resourceManager.enableMemoryStore();
   }
 
   private void clearFields() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -50,7 +50,8 @@ import org.eclipse.rap.rwt.service.ServiceHandler;
  * In a traditional web application (without OSGi), this servlet must be
  * registered in the application's deployment descriptor like shown below. Note
  * that the RWT servlet has to be registered for every entrypoint of the
- * application.
+ * application. When the servlet supports asynchronous requests, server push
+ * requests wait for UI updates without occupying a container thread.
  * </p>
  *
  * <pre>
@@ -66,6 +67,7 @@ import org.eclipse.rap.rwt.service.ServiceHandler;
  * &lt;servlet&gt;
  *   &lt;servlet-name&gt;rwtServlet&lt;/servlet-name&gt;
  *   &lt;servlet-class&gt;org.eclipse.rap.rwt.engine.RWTServlet&lt;/servlet-class&gt;
+ *   &lt;async-supported&gt;true&lt;/async-supported&gt;
  * &lt;/servlet&gt;
  *
  * &lt;servlet-mapping&gt;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,7 +21,12 @@ import org.eclipse.rap.rwt.application.Application;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ApplicationRunner;
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceManagerImpl;
+import org.eclipse.rap.rwt.internal.resources.ResourceServlet;
 import org.eclipse.rap.rwt.internal.util.ClassUtil;
+import org.eclipse.rap.rwt.service.ResourceManager;
 
 
 /**
@@ -40,6 +45,7 @@ public class RWTServletContextListener implements ServletContextListener {
    */
   static final String ENTRY_POINTS_PARAM = "org.eclipse.rwt.entryPoints";
   static final String RWT_SERVLET_NAME = "rwtServlet";
+  static final String RESOURCE_SERVLET_NAME = "rwtResourceServlet";
 
   private ApplicationRunner applicationRunner;
 
@@ -49,6 +55,7 @@ public class RWTServletContextListener implements ServletContextListener {
     ApplicationConfiguration configuration = readConfiguration( servletContext );
     applicationRunner = new ApplicationRunner( configuration, servletContext );
     applicationRunner.start();
+    registerResourceServlet( servletContext );
   }
 
   @Override
@@ -57,6 +64,44 @@ public class RWTServletContextListener implements ServletContextListener {
     applicationRunner = null;
   }
 
+  private void registerResourceServlet( ServletContext servletContext ) {
+    ApplicationContextImpl applicationContext
+      = ( ApplicationContextImpl )applicationRunner.getApplicationContext();
+    ResourceManager resourceManager = applicationContext.getResourceManager();
+    if( resourceManager instanceof ResourceManagerImpl ) {
+      ResourceManagerImpl resourceManagerImpl = ( ResourceManagerImpl )resourceManager;
+      if( addResourceServlet( servletContext, resourceManagerImpl ) ) {
+        resourceManagerImpl.enableMemoryStore();
+      } else if( RWTProperties.getResourceMemoryStoreSize( 0 ) > 0 ) {
+        String message = "The resource servlet is not registered, "
+                       + "resources are kept on disk instead of in memory";
+        servletContext.log( message );
+      }
+    }
+  }
+
+  private static boolean addResourceServlet( ServletContext servletContext,
+                                             ResourceManagerImpl resourceManager )
+  {
+    boolean result = false;
+    if( servletContext.getMajorVersion() >= 3 ) {
+      ResourceServlet servlet = new ResourceServlet( resourceManager );
+      try {
+        ServletRegistration.Dynamic registration
+          = servletContext.addServlet( RESOURCE_SERVLET_NAME, servlet );
+        if( registration != null ) {
+          String pattern = "/" + ApplicationRunner.RESOURCES + "/*";
+          result = registration.addMapping( pattern ).isEmpty();
+        }
+      } catch( UnsupportedOperationException | IllegalStateException exception ) {
+        String message = "Could not register the resource servlet, "
+                       + "resources are served as static files by the servlet container";
+        servletContext.log( message, exception );
+      }
+    }
+    return result;
+  }
+
   private ApplicationConfiguration readConfiguration( ServletContext servletContext ) {
     String name = servletContext.getInitParameter( ApplicationConfiguration.CONFIGURATION_PARAM );
     if( name != null ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,14 @@ public final class RWTProperties {
   public static final String SERVICE_HANDLER_BASE_URL = "org.eclipse.rap.rwt.serviceHandlerBaseURL";
   public static final String DEVELOPMEMT_MODE = "org.eclipse.rap.rwt.developmentMode";
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
+  public static final String VIRTUAL_UI_THREADS = "org.eclipse.rap.rwt.virtualUIThreads";
+  public static final String IMAGE_CACHE_SIZE = "org.eclipse.rap.rwt.imageCacheSize";
+  public static final String TEXT_SIZE_SNAPSHOT_INTERVAL
+    = "org.eclipse.rap.rwt.textSizeSnapshotInterval";
+  public static final String SKIP_UNMODIFIED_SESSION_REPLICATION
+    = "org.eclipse.rap.rwt.skipUnmodifiedSessionReplication";
+  public static final String RESOURCE_MEMORY_STORE_SIZE
+    = "org.eclipse.rap.rwt.resourceMemoryStoreSize";
 
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
@@ -40,6 +48,26 @@ public final class RWTProperties {
     return getIntProperty( TEXT_SIZE_STORE_SIZE, defaultValue );
   }
 
+  public static boolean isVirtualUIThreadsEnabled() {
+    return getBooleanProperty( VIRTUAL_UI_THREADS, false );
+  }
+
+  public static int getImageCacheSize( int defaultValue ) {
+    return getIntProperty( IMAGE_CACHE_SIZE, defaultValue );
+  }
+
+  public static int getTextSizeSnapshotInterval( int defaultValue ) {
+    return getIntProperty( TEXT_SIZE_SNAPSHOT_INTERVAL, defaultValue );
+  }
+
+  public static boolean isSkipUnmodifiedSessionReplication() {
+    return getBooleanProperty( SKIP_UNMODIFIED_SESSION_REPLICATION, false );
+  }
+
+  public static int getResourceMemoryStoreSize( int defaultValue ) {
+    return getIntProperty( RESOURCE_MEMORY_STORE_SIZE, defaultValue );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
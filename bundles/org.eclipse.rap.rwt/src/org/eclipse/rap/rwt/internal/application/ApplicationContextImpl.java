@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.application;
 
+import java.io.File;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -23,6 +24,7 @@ import javax.servlet.ServletContext;
 
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.eclipse.rap.rwt.application.ExceptionHandler;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.client.ClientSelector;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleFactory;
@@ -43,6 +45,7 @@ import org.eclipse.rap.rwt.internal.service.ServiceManagerImpl;
 import org.eclipse.rap.rwt.internal.service.SettingStoreManager;
 import org.eclipse.rap.rwt.internal.service.StartupPage;
 import org.eclipse.rap.rwt.internal.textsize.ProbeStore;
+import org.eclipse.rap.rwt.internal.textsize.TextSizeSnapshot;
 import org.eclipse.rap.rwt.internal.textsize.TextSizeStorage;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
@@ -61,6 +64,7 @@ import org.eclipse.swt.internal.graphics.ImageFactory;
 import org.eclipse.swt.internal.graphics.InternalImageFactory;
 import org.eclipse.swt.internal.graphics.ResourceFactory;
 import org.eclipse.swt.internal.widgets.DisplaysHolder;
+import org.eclipse.swt.internal.widgets.SharedTimer;
 
 
 public class ApplicationContextImpl implements ApplicationContext {
@@ -99,6 +103,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final FontDataFactory fontDataFactory;
   private final StartupPage startupPage;
   private final DisplaysHolder displaysHolder;
+  private final SharedTimer sharedTimer;
   private final TextSizeStorage textSizeStorage;
   private final ProbeStore probeStore;
   private final ServletContext servletContext;
@@ -108,6 +113,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final SerializableLock listenersLock;
   private final AtomicReference<State> state;
   private ExceptionHandler exceptionHandler;
+  private TextSizeSnapshot textSizeSnapshot;
 
   public ApplicationContextImpl( ApplicationConfiguration applicationConfiguration,
                                  ServletContext servletContext )
@@ -133,6 +139,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     startupPage = new StartupPage( this );
     serviceManager = createServiceManager();
     displaysHolder = new DisplaysHolder();
+    sharedTimer = new SharedTimer();
     textSizeStorage = new TextSizeStorage();
     probeStore = new ProbeStore( textSizeStorage );
     clientSelector = new ClientSelector();
@@ -332,6 +339,10 @@ public class ApplicationContextImpl implements ApplicationContext {
     return displaysHolder;
   }
 
+  public SharedTimer getSharedTimer() {
+    return sharedTimer;
+  }
+
   public TextSizeStorage getTextSizeStorage() {
     return textSizeStorage;
   }
@@ -382,11 +393,15 @@ public class ApplicationContextImpl implements ApplicationContext {
     }
     resourceRegistry.registerResources();
     clientSelector.activate();
+    sharedTimer.activate();
+    startTextSizeSnapshot();
   }
 
   void doDeactivate() {
     startupPage.deactivate();
     lifeCycleFactory.deactivate();
+    sharedTimer.shutdown();
+    stopTextSizeSnapshot();
     serviceManager.clear();
     themeManager.deactivate();
     if( !skipResoureDeletion ) {
@@ -400,10 +415,36 @@ public class ApplicationContextImpl implements ApplicationContext {
     applicationStore.reset();
   }
 
+  private void startTextSizeSnapshot() {
+    int interval = RWTProperties.getTextSizeSnapshotInterval( 0 );
+    // the snapshot contains measured texts and must not be placed in the web-served directory
+    Object tempDir = servletContext.getAttribute( "javax.servlet.context.tempdir" );
+    if( interval > 0 && tempDir instanceof File ) {
+      File file = TextSizeSnapshot.getFile( ( File )tempDir, getApplicationId() );
+      textSizeSnapshot = new TextSizeSnapshot( textSizeStorage, file );
+      textSizeSnapshot.load();
+      textSizeSnapshot.start( interval );
+    }
+  }
+
+  private void stopTextSizeSnapshot() {
+    if( textSizeSnapshot != null ) {
+      textSizeSnapshot.stop();
+      textSizeSnapshot = null;
+    }
+  }
+
   private ServiceManagerImpl createServiceManager() {
     return new ServiceManagerImpl( new LifeCycleServiceHandler( messageChainReference ) );
   }
 
+  /*
+   * Identifies this application among others that share the same servlet temp directory
+   */
+  private String getApplicationId() {
+    return servletContext.getContextPath() + "|" + getContextDirectory();
+  }
+
   private String getContextDirectory() {
     String location
       = ( String )servletContext.getAttribute( ApplicationConfiguration.RESOURCE_ROOT_LOCATION );
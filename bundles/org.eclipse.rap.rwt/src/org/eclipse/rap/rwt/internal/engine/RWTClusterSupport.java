@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessageConst;
 import org.eclipse.rap.rwt.internal.service.UISessionImpl;
@@ -88,11 +89,18 @@ public class RWTClusterSupport implements Filter {
     // See also: J2EE clustering, Part 2, section Session-storage guidelines
     // http://java.sun.com/developer/technicalArticles/J2EE/clustering/
     UISessionImpl uiSession = UISessionImpl.getInstanceFromSession( httpSession, connectionId );
-    if( uiSession != null ) {
+    if( uiSession != null && mustReplicate( uiSession ) ) {
       uiSession.attachToHttpSession();
     }
   }
 
+  private static boolean mustReplicate( UISessionImpl uiSession ) {
+    // Requests that did not reach the life cycle and did not change any UI session attribute,
+    // e.g. resource or server push requests, leave the session unchanged. Skipping them avoids
+    // serializing the entire widget tree for nothing.
+    return !RWTProperties.isSkipUnmodifiedSessionReplication() || uiSession.isModified();
+  }
+
   private static HttpSession getHttpSession( ServletRequest request ) {
     return ( ( HttpServletRequest )request ).getSession( false );
   }
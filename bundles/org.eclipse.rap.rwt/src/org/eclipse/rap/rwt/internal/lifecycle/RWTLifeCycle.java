@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import java.io.IOException;
 import javax.servlet.http.HttpServletRequest;
 
 import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.IPhase.IInterruptible;
 import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
@@ -187,10 +188,7 @@ public class RWTLifeCycle extends LifeCycle {
       uiThread = createUIThread();
       // The serviceContext MUST be set before thread.start() is called
       uiThread.setServiceContext( context );
-      synchronized( uiThread.getLock() ) {
-        uiThread.getThread().start();
-        uiThread.switchThread();
-      }
+      startUIThread( uiThread );
     } else {
       uiThread.setServiceContext( context );
       // See bug 354368
@@ -205,6 +203,19 @@ public class RWTLifeCycle extends LifeCycle {
     handleUIThreadException();
   }
 
+  private static void startUIThread( IUIThreadHolder uiThread ) {
+    if( uiThread instanceof VirtualUIThread ) {
+      // The UI thread waits for its turn, no need to hold the lock while starting it
+      uiThread.getThread().start();
+      uiThread.switchThread();
+    } else {
+      synchronized( uiThread.getLock() ) {
+        uiThread.getThread().start();
+        uiThread.switchThread();
+      }
+    }
+  }
+
   private static void handleUIThreadException() throws IOException {
     ServiceStore serviceStore = ContextProvider.getServiceStore();
     Throwable throwable = ( Throwable )serviceStore.getAttribute( UI_THREAD_THROWABLE );
@@ -237,7 +248,7 @@ public class RWTLifeCycle extends LifeCycle {
 
   private IUIThreadHolder createUIThread() {
     UISession uiSession = ContextProvider.getUISession();
-    IUIThreadHolder result = new UIThread( uiRunnable );
+    IUIThreadHolder result = createUIThreadHolder();
     result.getThread().setDaemon( true );
     result.getThread().setName( "UIThread [" + uiSession.getId() + "]" );
     LifeCycleUtil.setUIThread( uiSession, result );
@@ -245,6 +256,13 @@ public class RWTLifeCycle extends LifeCycle {
     return result;
   }
 
+  private IUIThreadHolder createUIThreadHolder() {
+    if( RWTProperties.isVirtualUIThreadsEnabled() && VirtualUIThread.isSupported() ) {
+      return new VirtualUIThread( uiRunnable );
+    }
+    return new UIThread( uiRunnable );
+  }
+
   private static Integer getCurrentPhase() {
     ServiceStore serviceStore = ContextProvider.getServiceStore();
     return ( Integer )serviceStore.getAttribute( CURRENT_PHASE );
@@ -279,36 +297,53 @@ public class RWTLifeCycle extends LifeCycle {
   private final class UIThreadController implements Runnable {
     @Override
     public void run() {
-      IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+      IUIThreadHolder uiThread = getCurrentUIThreadHolder();
       try {
-        // [rh] sync exception handling and switchThread (see bug 316676)
-        synchronized( uiThread.getLock() ) {
-          try {
-            uiThread.updateServiceContext();
-            ServerPushManager.getInstance().notifyUIThreadStart();
-            continueLifeCycle();
-            createUI();
-            continueLifeCycle();
-            ServerPushManager.getInstance().notifyUIThreadEnd();
-          } catch( UIThreadTerminatedError thr ) {
-            throw thr;
-          } catch( Throwable thr ) {
-            ServiceStore serviceStore = ContextProvider.getServiceStore();
-            serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
+        if( uiThread instanceof VirtualUIThread ) {
+          // Holding a monitor would pin the virtual thread to its carrier thread
+          runUIThread( uiThread );
+        } else {
+          // [rh] sync exception handling and switchThread (see bug 316676)
+          synchronized( uiThread.getLock() ) {
+            runUIThread( uiThread );
           }
-          // We have to prevent the ui thread from waking up at that point, otherwise
-          // processShutdown would never be executed and session store would not be cleared.
-          // See bug 354368
-          UISession uiSession = ContextProvider.getUISession();
-          uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
-          // In any case: wait for the thread to be terminated by session timeout
-          uiThread.switchThread();
         }
       } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError e ) {
         // If we get here, the session is being invalidated, see UIThread#terminateThread()
         ( ( ISessionShutdownAdapter )uiThread ).processShutdown();
       }
     }
+
+    private void runUIThread( IUIThreadHolder uiThread ) {
+      try {
+        uiThread.updateServiceContext();
+        ServerPushManager.getInstance().notifyUIThreadStart();
+        continueLifeCycle();
+        createUI();
+        continueLifeCycle();
+        ServerPushManager.getInstance().notifyUIThreadEnd();
+      } catch( UIThreadTerminatedError thr ) {
+        throw thr;
+      } catch( Throwable thr ) {
+        ServiceStore serviceStore = ContextProvider.getServiceStore();
+        serviceStore.setAttribute( UI_THREAD_THROWABLE, thr );
+      }
+      // We have to prevent the ui thread from waking up at that point, otherwise
+      // processShutdown would never be executed and session store would not be cleared.
+      // See bug 354368
+      UISession uiSession = ContextProvider.getUISession();
+      uiSession.setAttribute( UI_THREAD_WAITING_FOR_TERMINATION, Boolean.TRUE );
+      // In any case: wait for the thread to be terminated by session timeout
+      uiThread.switchThread();
+    }
+
+    private IUIThreadHolder getCurrentUIThreadHolder() {
+      IUIThreadHolder result = VirtualUIThread.getCurrent();
+      if( result == null ) {
+        result = ( IUIThreadHolder )Thread.currentThread();
+      }
+      return result;
+    }
   }
 
 }
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.service.UISession;
+
+
+/*
+ * A UI thread holder that runs the UI code on a virtual thread if the JVM supports them.
+ * Control is handed between request thread and UI thread by passing ownership through an atomic
+ * reference and parking the thread that gave it away. No monitor is held while a thread waits for
+ * its turn, thus an idle UI thread does not occupy a carrier thread.
+ */
+final class VirtualUIThread implements IUIThreadHolder, ISessionShutdownAdapter {
+
+  private static final ThreadLocal<VirtualUIThread> CURRENT = new ThreadLocal<>();
+  private static final Method OF_VIRTUAL = findMethod( "java.lang.Thread", "ofVirtual" );
+  private static final Method UNSTARTED
+    = findMethod( "java.lang.Thread$Builder", "unstarted", Runnable.class );
+
+  private final Thread thread;
+  private final Object lock;
+  private final AtomicReference<Thread> owner;
+  private volatile Thread requestThread;
+  private volatile ServiceContext serviceContext;
+  private volatile boolean uiThreadTerminating;
+  private volatile boolean uiThreadEnded;
+  private UISession uiSession;
+  private Runnable shutdownCallback;
+
+  VirtualUIThread( Runnable runnable ) {
+    this( runnable, new ThreadFactory() {
+      @Override
+      public Thread newThread( Runnable target ) {
+        return createVirtualThread( target );
+      }
+    } );
+  }
+
+  VirtualUIThread( final Runnable runnable, ThreadFactory threadFactory ) {
+    lock = new Object();
+    owner = new AtomicReference<>();
+    thread = threadFactory.newThread( new Runnable() {
+      @Override
+      public void run() {
+        CURRENT.set( VirtualUIThread.this );
+        try {
+          awaitTurn();
+          runnable.run();
+        } catch( @SuppressWarnings( "unused" ) UIThreadTerminatedError error ) {
+          // terminated before the UI code was entered
+          processShutdown();
+        } finally {
+          CURRENT.remove();
+          uiThreadEnded = true;
+          handBackControl();
+        }
+      }
+    } );
+  }
+
+  static boolean isSupported() {
+    return OF_VIRTUAL != null && UNSTARTED != null;
+  }
+
+  static VirtualUIThread getCurrent() {
+    return CURRENT.get();
+  }
+
+  //////////////////////////
+  // interface IThreadHolder
+
+  @Override
+  public void setServiceContext( ServiceContext serviceContext ) {
+    this.serviceContext = serviceContext;
+  }
+
+  @Override
+  public void updateServiceContext() {
+    if( ContextProvider.hasContext() ) {
+      ContextProvider.releaseContextHolder();
+    }
+    ContextProvider.setContext( serviceContext );
+  }
+
+  @Override
+  public void switchThread() {
+    Thread currentThread = Thread.currentThread();
+    Thread nextThread;
+    if( currentThread == thread ) {
+      nextThread = requestThread;
+    } else {
+      checkAndReportTerminatedUIThread();
+      requestThread = currentThread;
+      nextThread = thread;
+    }
+    owner.set( nextThread );
+    LockSupport.unpark( nextThread );
+    awaitTurn();
+    if( currentThread != thread && uiThreadEnded ) {
+      // callers check Thread#isAlive() to find out whether the UI thread has ended
+      awaitTermination();
+    }
+  }
+
+  @Override
+  public void terminateThread() {
+    // Prepare a service context to be used by the UI thread when it continues its execution
+    setServiceContext( ContextUtil.createFakeContext( uiSession ) );
+    uiThreadTerminating = true;
+    // the UI thread checks the flag as soon as it waits for its turn
+    LockSupport.unpark( thread );
+    try {
+      thread.join();
+    } catch( InterruptedException e ) {
+      String msg = "Received InterruptedException while terminating UIThread";
+      ServletLog.log( msg, e );
+    }
+    uiThreadTerminating = false;
+  }
+
+  @Override
+  public Thread getThread() {
+    return thread;
+  }
+
+  /*
+   * Control is handed over without any monitor, so holding this lock does not keep the UI thread
+   * from running. RWTLifeCycle only synchronizes on it for the platform thread based UIThread.
+   */
+  @Override
+  public Object getLock() {
+    return lock;
+  }
+
+  ////////////////////////////////////
+  // interface ISessionShutdownAdapter
+
+  @Override
+  public void setUISession( UISession uiSession ) {
+    this.uiSession = uiSession;
+  }
+
+  @Override
+  public void setShutdownCallback( Runnable shutdownCallback ) {
+    this.shutdownCallback = shutdownCallback;
+  }
+
+  @Override
+  public void interceptShutdown() {
+    terminateThread();
+  }
+
+  @Override
+  public void processShutdown() {
+    updateServiceContext();
+    try {
+      UIThread.shutdownUISession( uiSession, shutdownCallback );
+    } finally {
+      ContextProvider.disposeContext();
+    }
+  }
+
+  /*
+   * Unlike the monitor of the platform thread based UIThread, nothing wakes up the request thread
+   * when the UI thread ends, be it regularly or by an exception. Hence control is passed back
+   * explicitly.
+   */
+  private void handBackControl() {
+    Thread nextThread = requestThread;
+    if( nextThread != null && owner.compareAndSet( thread, nextThread ) ) {
+      LockSupport.unpark( nextThread );
+    }
+  }
+
+  private void awaitTurn() {
+    Thread currentThread = Thread.currentThread();
+    while( owner.get() != currentThread ) {
+      if( currentThread != thread && !thread.isAlive() ) {
+        // the UI thread has ended and will never hand back control
+        return;
+      }
+      if( uiThreadTerminating && currentThread == thread ) {
+        // Equip the UI thread that is continuing its execution with a service context and the
+        // proper phase (see terminateThread)
+        updateServiceContext();
+        CurrentPhase.set( PhaseId.PROCESS_ACTION );
+        uiThreadTerminating = false;
+        throw new UIThreadTerminatedError();
+      }
+      LockSupport.park( this );
+      // switchThread must not unblock when the thread is interrupted, see bug 351277
+      Thread.interrupted();
+    }
+  }
+
+  private void awaitTermination() {
+    boolean interrupted = false;
+    while( thread.isAlive() ) {
+      try {
+        thread.join();
+      } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+        interrupted = true;
+      }
+    }
+    if( interrupted ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void checkAndReportTerminatedUIThread() {
+    if( !thread.isAlive() ) {
+      String msg
+        = "Thread '"
+        + Thread.currentThread()
+        + "' is waiting for already terminated UIThread";
+      ServletLog.log( "", new RuntimeException( msg ) );
+    }
+  }
+
+  private static Thread createVirtualThread( Runnable runnable ) {
+    try {
+      Object builder = OF_VIRTUAL.invoke( null );
+      return ( Thread )UNSTARTED.invoke( builder, runnable );
+    } catch( Exception exception ) {
+      throw new IllegalStateException( "Failed to create virtual UI thread", exception );
+    }
+  }
+
+  private static Method findMethod( String className, String name, Class<?>... parameterTypes ) {
+    try {
+      return Class.forName( className ).getMethod( name, parameterTypes );
+    } catch( @SuppressWarnings( "unused" ) Exception exception ) {
+      // virtual threads are not available before Java 21
+      return null;
+    }
+  }
+
+}
@@ -12,9 +12,10 @@ package org.eclipse.rap.rwt.internal.protocol;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
@@ -37,7 +38,7 @@ public class ClientMessage extends RequestMessage {
   }
 
   private void createOperationsIndex() {
-    index = new HashMap<>();
+    index = new LinkedHashMap<>();
     for( Operation operation : getOperations() ) {
       String target = operation.getTarget();
       List<Operation> targetOperations = index.get( target );
@@ -49,6 +50,10 @@ public class ClientMessage extends RequestMessage {
     }
   }
 
+  public Set<String> getAllTargets() {
+    return Collections.unmodifiableSet( index.keySet() );
+  }
+
   public List<Operation> getAllOperationsFor( String target ) {
     List<Operation> operations = index.get( target );
     if( operations == null ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,7 +10,9 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.protocol;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.Writer;
 
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
@@ -35,6 +37,31 @@ public abstract class Operation implements Serializable {
     return new JsonArray().add( action ).add( target );
   }
 
+  /*
+   * Writes the same JSON as toJson().writeTo( writer ) without building the array first.
+   */
+  void writeTo( Writer writer ) throws IOException {
+    writer.write( '[' );
+    JsonValue.valueOf( action ).writeTo( writer );
+    writer.write( ',' );
+    JsonValue.valueOf( target ).writeTo( writer );
+    writeArguments( writer );
+    writer.write( ']' );
+  }
+
+  void writeArguments( Writer writer ) throws IOException {
+    // no arguments by default
+  }
+
+  static void writeArgument( Writer writer, String argument ) throws IOException {
+    writeArgument( writer, JsonValue.valueOf( argument ) );
+  }
+
+  static void writeArgument( Writer writer, JsonValue argument ) throws IOException {
+    writer.write( ',' );
+    argument.writeTo( writer );
+  }
+
   public static class CreateOperation extends Operation {
 
     private final JsonObject properties;
@@ -63,6 +90,12 @@ public abstract class Operation implements Serializable {
       return super.toJson().add( type ).add( properties );
     }
 
+    @Override
+    void writeArguments( Writer writer ) throws IOException {
+      writeArgument( writer, type );
+      writeArgument( writer, properties );
+    }
+
     void putProperty( String key, JsonValue value ) {
       properties.set( key, value );
     }
@@ -99,6 +132,11 @@ public abstract class Operation implements Serializable {
       return super.toJson().add( properties );
     }
 
+    @Override
+    void writeArguments( Writer writer ) throws IOException {
+      writeArgument( writer, properties );
+    }
+
     void putProperty( String key, JsonValue value ) {
       properties.set( key, value );
     }
@@ -129,6 +167,12 @@ public abstract class Operation implements Serializable {
       return super.toJson().add( method ).add( parameters );
     }
 
+    @Override
+    void writeArguments( Writer writer ) throws IOException {
+      writeArgument( writer, method );
+      writeArgument( writer, parameters );
+    }
+
   }
 
   public static class ListenOperation extends Operation {
@@ -153,6 +197,11 @@ public abstract class Operation implements Serializable {
       return super.toJson().add( properties );
     }
 
+    @Override
+    void writeArguments( Writer writer ) throws IOException {
+      writeArgument( writer, properties );
+    }
+
     void putListener( String event, boolean listening ) {
       properties.set( event, JsonValue.valueOf( listening ) );
     }
@@ -187,6 +236,12 @@ public abstract class Operation implements Serializable {
       return super.toJson().add( event ).add( properties );
     }
 
+    @Override
+    void writeArguments( Writer writer ) throws IOException {
+      writeArgument( writer, event );
+      writeArgument( writer, properties );
+    }
+
     void putProperty( String key, JsonValue value ) {
       properties.set( key, value );
     }
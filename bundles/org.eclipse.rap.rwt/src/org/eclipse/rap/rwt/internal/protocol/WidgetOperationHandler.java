@@ -36,6 +36,15 @@ public abstract class WidgetOperationHandler<T extends Widget> extends AbstractO
     this.widget = widget;
   }
 
+  /**
+   * Returns the widget that receives the operations handled by this handler.
+   *
+   * @return the widget of this handler
+   */
+  public T getWidget() {
+    return widget;
+  }
+
   @Override
   public void handleSet( JsonObject properties ) {
     handleSet( widget, properties );
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+
+/**
+ * Stores resources as files in the {@link ResourceDirectory}.
+ */
+public class DiskResourceStore implements ResourceStore {
+
+  private final ResourceDirectory resourceDirectory;
+
+  public DiskResourceStore( ResourceDirectory resourceDirectory ) {
+    this.resourceDirectory = resourceDirectory;
+  }
+
+  @Override
+  public void write( String path, InputStream inputStream ) throws IOException {
+    File file = getFile( path );
+    createDirectories( file );
+    OutputStream outputStream = new FileOutputStream( file );
+    try {
+      byte[] buffer = new byte[ 4096 ];
+      int read = inputStream.read( buffer );
+      while( read != -1 ) {
+        outputStream.write( buffer, 0, read );
+        read = inputStream.read( buffer );
+      }
+    } finally {
+      outputStream.close();
+    }
+  }
+
+  @Override
+  public long getLength( String path ) {
+    File file = getFile( path );
+    return file.isFile() ? file.length() : -1;
+  }
+
+  @Override
+  public long getLastModified( String path ) {
+    return getFile( path ).lastModified();
+  }
+
+  @Override
+  public InputStream read( String path ) throws IOException {
+    return new FileInputStream( getFile( path ) );
+  }
+
+  @Override
+  public void transferTo( String path, WritableByteChannel channel ) throws IOException {
+    FileInputStream inputStream = new FileInputStream( getFile( path ) );
+    try {
+      FileChannel fileChannel = inputStream.getChannel();
+      long size = fileChannel.size();
+      long position = 0;
+      while( position < size ) {
+        position += fileChannel.transferTo( position, size - position, channel );
+      }
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  @Override
+  public boolean delete( String path ) {
+    return getFile( path ).delete();
+  }
+
+  private File getFile( String path ) {
+    return new File( resourceDirectory.getDirectory(), path );
+  }
+
+  private static void createDirectories( File file ) throws IOException {
+    File dir = file.getParentFile();
+    if( !dir.mkdirs() ) {
+      if( !dir.exists() ) {
+        throw new IOException( "Could not create directory structure: " + dir.getAbsolutePath() );
+      }
+    }
+  }
+
+}
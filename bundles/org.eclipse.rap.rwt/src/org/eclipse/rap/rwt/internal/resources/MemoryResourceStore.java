@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Keeps resources in direct buffers outside of the Java heap. When the total size of the
+ * resources would exceed the capacity of the store, further resources are written to an
+ * overflow store instead.
+ * <p>
+ * The memory of a removed resource is released when its buffer is garbage collected. The direct
+ * memory available to the JVM is limited by <code>-XX:MaxDirectMemorySize</code>.
+ * </p>
+ */
+public class MemoryResourceStore implements ResourceStore {
+
+  private final long capacity;
+  private final ResourceStore overflowStore;
+  private final Map<String, Entry> entries;
+  private final AtomicLong size;
+
+  public MemoryResourceStore( long capacity, ResourceStore overflowStore ) {
+    this.capacity = capacity;
+    this.overflowStore = overflowStore;
+    entries = new ConcurrentHashMap<>();
+    size = new AtomicLong();
+  }
+
+  @Override
+  public void write( String path, InputStream inputStream ) throws IOException {
+    byte[] content = readContent( inputStream );
+    release( entries.remove( path ) );
+    if( reserve( content.length ) ) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect( content.length );
+      buffer.put( content );
+      buffer.flip();
+      release( entries.put( path, new Entry( buffer.asReadOnlyBuffer() ) ) );
+      overflowStore.delete( path );
+    } else {
+      overflowStore.write( path, new ByteArrayInputStream( content ) );
+    }
+  }
+
+  @Override
+  public long getLength( String path ) {
+    Entry entry = entries.get( path );
+    return entry != null ? entry.buffer.capacity() : overflowStore.getLength( path );
+  }
+
+  @Override
+  public long getLastModified( String path ) {
+    Entry entry = entries.get( path );
+    return entry != null ? entry.lastModified : overflowStore.getLastModified( path );
+  }
+
+  @Override
+  public InputStream read( String path ) throws IOException {
+    Entry entry = entries.get( path );
+    if( entry == null ) {
+      return overflowStore.read( path );
+    }
+    return new ByteBufferInputStream( entry.buffer.duplicate() );
+  }
+
+  @Override
+  public void transferTo( String path, WritableByteChannel channel ) throws IOException {
+    Entry entry = entries.get( path );
+    if( entry == null ) {
+      overflowStore.transferTo( path, channel );
+    } else {
+      ByteBuffer buffer = entry.buffer.duplicate();
+      while( buffer.hasRemaining() ) {
+        channel.write( buffer );
+      }
+    }
+  }
+
+  @Override
+  public boolean delete( String path ) {
+    Entry entry = entries.remove( path );
+    release( entry );
+    return overflowStore.delete( path ) || entry != null;
+  }
+
+  /**
+   * Returns the total size of the resources kept in memory.
+   */
+  long getSize() {
+    return size.get();
+  }
+
+  private boolean reserve( int length ) {
+    long current = size.get();
+    while( current + length <= capacity ) {
+      if( size.compareAndSet( current, current + length ) ) {
+        return true;
+      }
+      current = size.get();
+    }
+    return false;
+  }
+
+  private void release( Entry entry ) {
+    if( entry != null ) {
+      size.addAndGet( -entry.buffer.capacity() );
+    }
+  }
+
+  private static byte[] readContent( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 4096 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      result.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    return result.toByteArray();
+  }
+
+  private static final class Entry {
+
+    final ByteBuffer buffer;
+    final long lastModified;
+
+    Entry( ByteBuffer buffer ) {
+      this.buffer = buffer;
+      lastModified = System.currentTimeMillis();
+    }
+
+  }
+
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream( ByteBuffer buffer ) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read( byte[] bytes, int offset, int length ) {
+      if( length == 0 ) {
+        return 0;
+      }
+      if( !buffer.hasRemaining() ) {
+        return -1;
+      }
+      int count = Math.min( length, buffer.remaining() );
+      buffer.get( bytes, offset, count );
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+
+  }
+
+}
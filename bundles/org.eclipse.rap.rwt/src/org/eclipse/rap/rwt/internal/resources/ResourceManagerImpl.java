@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,18 +13,22 @@
 package org.eclipse.rap.rwt.internal.resources;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceLoader;
@@ -38,6 +42,18 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  * requested. Usually resources are stored in libraries in the WEB-INF/lib
  * directory of a web-application
  * <p>
+ * The location of a resource contains a hash of its content, so that clients can cache it
+ * forever and still load a changed resource after a redeployment. Text resources are also stored
+ * in a compressed form that can be delivered to clients that accept it.
+ * </p>
+ * <p>
+ * The content of the resources is kept in a {@link ResourceStore}. By default, the resources are
+ * written to the {@link ResourceDirectory}. Resources in memory can only be delivered by the
+ * {@link ResourceServlet}. Therefore, the number of bytes given by the system property
+ * <code>org.eclipse.rap.rwt.resourceMemoryStoreSize</code> is kept in memory only after the
+ * servlet has been registered (see {@link #enableMemoryStore()}).
+ * </p>
+ * <p>
  * Implementation as singleton.
  * </p>
  * <p>
@@ -46,12 +62,25 @@ import org.eclipse.rap.rwt.service.ResourceManager;
  */
 public class ResourceManagerImpl implements ResourceManager {
 
-  private final ResourceDirectory resourceDirectory;
+  static final String COMPRESSED_SUFFIX = "$gz";
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final int HASH_LENGTH = 16;
+  private static final int MIN_COMPRESSED_SIZE = 1024;
+  private static final String[] COMPRESSIBLE_EXTENSIONS
+    = { ".js", ".css", ".json", ".html", ".htm", ".svg", ".txt", ".xml" };
+
+  private volatile ResourceStore store;
   private final Set<String> resources;
+  private final Map<String, String> hashes;
 
   public ResourceManagerImpl( ResourceDirectory resourceDirectory ) {
-    this.resourceDirectory = resourceDirectory;
+    this( new DiskResourceStore( resourceDirectory ) );
+  }
+
+  public ResourceManagerImpl( ResourceStore store ) {
+    this.store = store;
     resources = Collections.synchronizedSet( new HashSet<String>() );
+    hashes = new ConcurrentHashMap<>();
   }
 
   /////////////////////////////
@@ -90,8 +119,10 @@ public class ResourceManagerImpl implements ResourceManager {
     boolean result = false;
     if( resources.remove( name ) ) {
       result = true;
-      File file = getDiskLocation( name );
-      file.delete();
+      String path = getRequestPath( name );
+      hashes.remove( path );
+      store.delete( path );
+      store.delete( path + COMPRESSED_SUFFIX );
     }
     return result;
   }
@@ -108,7 +139,9 @@ public class ResourceManagerImpl implements ResourceManager {
     if( !resources.contains( name ) ) {
       throw new IllegalArgumentException( "Resource does not exist: " + name );
     }
-    return createRequestUrl( name );
+    String path = getRequestPath( name );
+    String hash = hashes.get( path );
+    return hash == null ? createRequestUrl( path ) : createRequestUrl( path ) + "?" + hash;
   }
 
   @Override
@@ -116,67 +149,162 @@ public class ResourceManagerImpl implements ResourceManager {
     ParamCheck.notNull( name, "name" );
     InputStream result = null;
     if( resources.contains( name ) ) {
-      File file = getDiskLocation( name );
       try {
-        result = new FileInputStream( file );
-      } catch( FileNotFoundException fnfe ) {
-        throw new RuntimeException( fnfe );
+        result = store.read( getRequestPath( name ) );
+      } catch( IOException ioe ) {
+        throw new RuntimeException( ioe );
       }
     }
     return result;
   }
 
+  /**
+   * Returns the hash of the content of the resource with the given request path, i.e. the part
+   * of its location between the resource directory and the hash, or <code>null</code> if there
+   * is no such resource.
+   */
+  String getHash( String path ) {
+    return hashes.get( path );
+  }
+
+  ResourceStore getStore() {
+    return store;
+  }
+
+  /**
+   * Keeps resources in memory if the system property
+   * <code>org.eclipse.rap.rwt.resourceMemoryStoreSize</code> is set. Must only be called after
+   * the {@link ResourceServlet} has been registered for the resource directory, since resources
+   * in memory cannot be delivered as static files. Resources that are already registered are
+   * moved into memory as far as the capacity allows.
+   */
+  public void enableMemoryStore() {
+    enableMemoryStore( RWTProperties.getResourceMemoryStoreSize( 0 ) );
+  }
+
+  void enableMemoryStore( long capacity ) {
+    if( capacity > 0 && !( store instanceof MemoryResourceStore ) ) {
+      MemoryResourceStore memoryStore = new MemoryResourceStore( capacity, store );
+      try {
+        for( String name : getResourceNames() ) {
+          String path = getRequestPath( name );
+          moveResource( memoryStore, path );
+          moveResource( memoryStore, path + COMPRESSED_SUFFIX );
+        }
+      } catch( IOException ioe ) {
+        throw new RuntimeException( "Failed to move resources to memory", ioe );
+      }
+      store = memoryStore;
+    }
+  }
+
   //////////////////
   // helping methods
 
-  private static String createRequestUrl( String resourceName ) {
+  private String[] getResourceNames() {
+    synchronized( resources ) {
+      return resources.toArray( new String[ resources.size() ] );
+    }
+  }
+
+  private void moveResource( ResourceStore target, String path ) throws IOException {
+    if( store.getLength( path ) != -1 ) {
+      ByteArrayOutputStream content = new ByteArrayOutputStream();
+      InputStream inputStream = store.read( path );
+      try {
+        copyContent( inputStream, content );
+      } finally {
+        inputStream.close();
+      }
+      // removes the resource from the previous store if it fits into memory
+      target.write( path, new ByteArrayInputStream( content.toByteArray() ) );
+    }
+  }
+
+  private static String createRequestUrl( String path ) {
     return new StringBuilder()
       .append( ResourceDirectory.DIRNAME )
       .append( "/" )
-      .append( escapeResourceName( resourceName.replace( '\\', '/' ) ) )
+      .append( path )
       .toString();
   }
 
+  private static String getRequestPath( String resourceName ) {
+    return escapeResourceName( resourceName.replace( '\\', '/' ) );
+  }
+
   private void internalRegister( String name, InputStream inputStream ) {
-    File location = getDiskLocation( name );
+    String path = getRequestPath( name );
+    MessageDigest digest = createDigest();
     try {
-      createDirectories( location );
-      writeResource( inputStream, location );
+      store.write( path, new DigestInputStream( new BufferedInputStream( inputStream ), digest ) );
+      writeCompressedResource( name, path );
     } catch ( IOException ioe ) {
       throw new RuntimeException( "Failed to register resource: " + name, ioe );
     }
+    hashes.put( path, toHexString( digest.digest(), HASH_LENGTH ) );
     resources.add( name );
   }
 
-  private static void writeResource( InputStream inputStream, File location )
+  private void writeCompressedResource( String name, String path ) throws IOException {
+    String compressedPath = path + COMPRESSED_SUFFIX;
+    store.delete( compressedPath );
+    long length = store.getLength( path );
+    if( isCompressible( name ) && length >= MIN_COMPRESSED_SIZE ) {
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      InputStream inputStream = store.read( path );
+      try {
+        copyContent( inputStream, new GZIPOutputStream( compressed ) );
+      } finally {
+        inputStream.close();
+      }
+      // only keep the compressed resource if it saves some bytes
+      if( compressed.size() < length ) {
+        store.write( compressedPath, new ByteArrayInputStream( compressed.toByteArray() ) );
+      }
+    }
+  }
+
+  private static void copyContent( InputStream inputStream, OutputStream outputStream )
     throws IOException
   {
-    BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-    OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( location ) );
     try {
-      byte[] buffer = new byte[ 256 ];
-      int read = bufferedStream.read( buffer );
+      byte[] buffer = new byte[ 4096 ];
+      int read = inputStream.read( buffer );
       while( read != -1 ) {
         outputStream.write( buffer, 0, read );
-        read = bufferedStream.read( buffer );
+        read = inputStream.read( buffer );
       }
     } finally {
       outputStream.close();
     }
   }
 
-  private static void createDirectories( File file ) throws IOException {
-    File dir = new File( file.getParent() );
-    if( !dir.mkdirs() ) {
-      if( !dir.exists() ) {
-        throw new IOException( "Could not create directory structure: " + dir.getAbsolutePath() );
+  private static boolean isCompressible( String name ) {
+    String lowerCaseName = name.toLowerCase();
+    for( String extension : COMPRESSIBLE_EXTENSIONS ) {
+      if( lowerCaseName.endsWith( extension ) ) {
+        return true;
       }
     }
+    return false;
   }
 
-  private File getDiskLocation( String resourceName ) {
-    String escapedResourceName = escapeResourceName( resourceName );
-    return new File( resourceDirectory.getDirectory(), escapedResourceName );
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance( HASH_ALGORITHM );
+    } catch( NoSuchAlgorithmException exception ) {
+      throw new RuntimeException( "Hash algorithm not available: " + HASH_ALGORITHM, exception );
+    }
+  }
+
+  private static String toHexString( byte[] bytes, int length ) {
+    StringBuilder result = new StringBuilder();
+    for( int i = 0; i < length / 2; i++ ) {
+      result.append( Character.forDigit( ( bytes[ i ] >> 4 ) & 0xF, 16 ) );
+      result.append( Character.forDigit( bytes[ i ] & 0xF, 16 ) );
+    }
+    return result.toString();
   }
 
   //////////////////
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static javax.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+
+/**
+ * Delivers the resources of a {@link ResourceManagerImpl}.
+ * <p>
+ * Requests for the location of a resource, which contains the hash of its content, are answered
+ * with headers that allow clients to cache the resource forever. Requests without or with an
+ * outdated hash have to be revalidated by the client using the ETag. Compressed resources are
+ * delivered to clients that accept gzip encoding.
+ * </p>
+ */
+public class ResourceServlet extends HttpServlet {
+
+  static final String CACHE_FOREVER = "public, max-age=31536000, immutable";
+  static final String REVALIDATE = "no-cache";
+
+  private final ResourceManagerImpl resourceManager;
+
+  public ResourceServlet( ResourceManagerImpl resourceManager ) {
+    this.resourceManager = resourceManager;
+  }
+
+  @Override
+  public String getServletInfo() {
+    return "RWT Resource Servlet";
+  }
+
+  @Override
+  protected void doGet( HttpServletRequest request, HttpServletResponse response )
+    throws IOException
+  {
+    String path = getPath( request );
+    ResourceStore store = resourceManager.getStore();
+    if( path == null || store.getLength( path ) == -1 ) {
+      response.sendError( SC_NOT_FOUND );
+    } else {
+      sendResource( request, response, store, path );
+    }
+  }
+
+  private void sendResource( HttpServletRequest request,
+                             HttpServletResponse response,
+                             ResourceStore store,
+                             String path ) throws IOException
+  {
+    String contentPath = path;
+    String encodingSuffix = "";
+    String compressedPath = path + ResourceManagerImpl.COMPRESSED_SUFFIX;
+    if( store.getLength( compressedPath ) != -1 ) {
+      response.setHeader( "Vary", "Accept-Encoding" );
+      if( acceptsGzip( request ) ) {
+        response.setHeader( "Content-Encoding", "gzip" );
+        contentPath = compressedPath;
+        encodingSuffix = "-gzip";
+      }
+    }
+    boolean modified;
+    String hash = resourceManager.getHash( path );
+    if( hash != null ) {
+      String etag = "\"" + hash + encodingSuffix + "\"";
+      response.setHeader( "ETag", etag );
+      response.setHeader( "Cache-Control",
+                          hash.equals( request.getQueryString() ) ? CACHE_FOREVER : REVALIDATE );
+      modified = !matchesETag( request.getHeader( "If-None-Match" ), etag );
+    } else {
+      // not registered in this application, e.g. left over from a previous start
+      long lastModified = store.getLastModified( path ) / 1000 * 1000;
+      response.setDateHeader( "Last-Modified", lastModified );
+      response.setHeader( "Cache-Control", REVALIDATE );
+      modified = request.getDateHeader( "If-Modified-Since" ) < lastModified;
+    }
+    if( !modified ) {
+      response.setStatus( SC_NOT_MODIFIED );
+    } else {
+      String contentType = getServletContext().getMimeType( path );
+      if( contentType != null ) {
+        response.setContentType( contentType );
+      }
+      long length = store.getLength( contentPath );
+      if( length <= Integer.MAX_VALUE ) {
+        response.setContentLength( ( int )length );
+      }
+      store.transferTo( contentPath, Channels.newChannel( response.getOutputStream() ) );
+    }
+  }
+
+  private String getPath( HttpServletRequest request ) {
+    String pathInfo = request.getPathInfo();
+    if( pathInfo == null || pathInfo.length() <= 1 ) {
+      return null;
+    }
+    String result = pathInfo.substring( 1 );
+    if( isCompressedVariant( result ) ) {
+      return null;
+    }
+    for( String segment : result.split( "[/\\\\]" ) ) {
+      if( "..".equals( segment ) ) {
+        return null;
+      }
+    }
+    return result;
+  }
+
+  /*
+   * Compressed variants are delivered only in place of the original resource. The name of a
+   * registered resource may also end with the suffix, but since its path is escaped, it never
+   * collides with the path of a compressed variant and has a hash of its own.
+   */
+  private boolean isCompressedVariant( String path ) {
+    return    path.endsWith( ResourceManagerImpl.COMPRESSED_SUFFIX )
+           && resourceManager.getHash( path ) == null;
+  }
+
+  private static boolean acceptsGzip( HttpServletRequest request ) {
+    String acceptEncoding = request.getHeader( "Accept-Encoding" );
+    return acceptEncoding != null && acceptEncoding.toLowerCase().contains( "gzip" );
+  }
+
+  private static boolean matchesETag( String ifNoneMatch, String etag ) {
+    return    ifNoneMatch != null
+           && ( "*".equals( ifNoneMatch.trim() ) || ifNoneMatch.contains( etag ) );
+  }
+
+}
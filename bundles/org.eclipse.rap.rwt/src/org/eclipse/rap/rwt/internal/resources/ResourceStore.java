@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+
+
+/**
+ * Stores the content of the resources registered with a {@link ResourceManagerImpl}. The content
+ * is identified by the path of the resource relative to the resource directory.
+ * <p>
+ * Implementations must be thread-safe.
+ * </p>
+ */
+public interface ResourceStore {
+
+  /**
+   * Stores the content read from the given stream, replacing any content stored for the path.
+   * The stream is read to its end but not closed.
+   */
+  void write( String path, InputStream inputStream ) throws IOException;
+
+  /**
+   * Returns the length of the content stored for the given path, or <code>-1</code> if there is
+   * no such content.
+   */
+  long getLength( String path );
+
+  /**
+   * Returns the time the content for the given path was stored, in milliseconds since the
+   * epoch, or <code>0</code> if there is no such content.
+   */
+  long getLastModified( String path );
+
+  /**
+   * Returns a stream to read the content stored for the given path.
+   *
+   * @throws FileNotFoundException if there is no content for the path
+   */
+  InputStream read( String path ) throws IOException;
+
+  /**
+   * Writes the content stored for the given path to the given channel.
+   *
+   * @throws FileNotFoundException if there is no content for the path
+   */
+  void transferTo( String path, WritableByteChannel channel ) throws IOException;
+
+  /**
+   * Removes the content stored for the given path.
+   *
+   * @return <code>true</code> if there was content for the path
+   */
+  boolean delete( String path );
+
+}
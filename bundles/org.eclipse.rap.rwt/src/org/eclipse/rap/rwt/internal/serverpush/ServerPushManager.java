@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,10 @@ package org.eclipse.rap.rwt.internal.serverpush;
 import java.io.IOException;
 import java.io.PrintWriter;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
@@ -41,6 +45,7 @@ public final class ServerPushManager implements SerializableCompatibility {
   private boolean hasRunnables;
   private int requestCheckInterval;
   private transient ServerPushRequestTracker serverPushRequestTracker;
+  private transient SuspendedRequest suspendedRequest;
 
   private ServerPushManager() {
     lock = new SerializableLock();
@@ -56,22 +61,26 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   public boolean isCallBackRequestBlocked() {
     synchronized( lock ) {
-      return !serverPushRequestTracker.hasActive();
+      return !serverPushRequestTracker.hasActive() || suspendedRequest != null;
     }
   }
 
   public void wakeClient() {
+    SuspendedRequest releasedRequest = null;
     synchronized( lock ) {
       if( !uiThreadRunning ) {
-        releaseBlockedRequest();
+        releasedRequest = notifyBlockedRequest();
       }
     }
+    resume( releasedRequest );
   }
 
   public void releaseBlockedRequest() {
+    SuspendedRequest releasedRequest;
     synchronized( lock ) {
-      lock.notifyAll();
+      releasedRequest = notifyBlockedRequest();
     }
+    resume( releasedRequest );
   }
 
   public void setHasRunnables( boolean hasRunnables ) {
@@ -95,11 +104,13 @@ public final class ServerPushManager implements SerializableCompatibility {
   }
 
   public void notifyUIThreadEnd() {
+    boolean mustWakeClient;
     synchronized( lock ) {
       uiThreadRunning = false;
-      if( hasRunnables ) {
-        wakeClient();
-      }
+      mustWakeClient = hasRunnables;
+    }
+    if( mustWakeClient ) {
+      wakeClient();
     }
   }
 
@@ -125,10 +136,14 @@ public final class ServerPushManager implements SerializableCompatibility {
   }
 
   void processRequest( HttpServletResponse response ) {
+    SuspendedRequest releasedRequest = null;
     synchronized( lock ) {
       if( isCallBackRequestBlocked() ) {
-        releaseBlockedRequest();
+        releasedRequest = notifyBlockedRequest();
       }
+    }
+    resume( releasedRequest );
+    synchronized( lock ) {
       if( mustBlockCallBackRequest() ) {
         long requestStartTime = System.currentTimeMillis();
         serverPushRequestTracker.activate( Thread.currentThread() );
@@ -149,6 +164,73 @@ public final class ServerPushManager implements SerializableCompatibility {
     }
   }
 
+  /*
+   * Asynchronous counterpart of processRequest(). Instead of parking the container thread until
+   * the client needs to be notified, the request is put into asynchronous mode and completed by
+   * the thread that releases it.
+   */
+  void suspendRequest( HttpServletRequest request ) {
+    SuspendedRequest previousRequest;
+    synchronized( lock ) {
+      if( isCallBackRequestBlocked() ) {
+        lock.notifyAll();
+      }
+      previousRequest = detachSuspendedRequest();
+      if( mustBlockCallBackRequest() ) {
+        UISession uiSession = ContextProvider.getUISession();
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout( getSuspendTimeout( uiSession ) );
+        suspendedRequest = new SuspendedRequest( asyncContext, uiSession );
+        suspendedRequest.attach();
+      }
+    }
+    resume( previousRequest );
+  }
+
+  /*
+   * Must be called while holding the lock. The returned request, if any, must be resumed after
+   * the lock has been released, since completing it calls into the container, which may call
+   * back listeners that acquire the lock on another thread.
+   */
+  private SuspendedRequest notifyBlockedRequest() {
+    lock.notifyAll();
+    return mustBlockCallBackRequest() ? null : detachSuspendedRequest();
+  }
+
+  private static void resume( SuspendedRequest request ) {
+    if( request != null ) {
+      request.resume();
+    }
+  }
+
+  private SuspendedRequest detachSuspendedRequest() {
+    SuspendedRequest result = suspendedRequest;
+    suspendedRequest = null;
+    return result;
+  }
+
+  private void releaseSuspendedRequest( SuspendedRequest request ) {
+    boolean released = false;
+    synchronized( lock ) {
+      if( suspendedRequest == request ) {
+        suspendedRequest = null;
+        released = true;
+      }
+    }
+    if( released ) {
+      resume( request );
+    }
+  }
+
+  private void forgetSuspendedRequest( SuspendedRequest request ) {
+    synchronized( lock ) {
+      if( suspendedRequest == request ) {
+        suspendedRequest = null;
+      }
+    }
+    request.detach();
+  }
+
   private boolean canReleaseBlockedRequest( HttpServletResponse response, long requestStartTime ) {
     boolean result = false;
     if( !mustBlockCallBackRequest() ) {
@@ -183,6 +265,11 @@ public final class ServerPushManager implements SerializableCompatibility {
     return result;
   }
 
+  private static long getSuspendTimeout( UISession uiSession ) {
+    int maxInactiveInterval = uiSession.getHttpSession().getMaxInactiveInterval();
+    return maxInactiveInterval > 0 ? maxInactiveInterval * 1000L : 0;
+  }
+
   private static boolean isSessionExpired( long requestStartTime ) {
     return isSessionExpired( requestStartTime, System.currentTimeMillis() );
   }
@@ -244,4 +331,65 @@ public final class ServerPushManager implements SerializableCompatibility {
 
   }
 
+  /*
+   * A suspended request only lives as long as its HTTP request and is not restored when the UI
+   * session is deserialized, see the transient field suspendedRequest.
+   */
+  private class SuspendedRequest implements AsyncListener, UISessionListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient AsyncContext asyncContext;
+    private transient UISession uiSession;
+
+    private SuspendedRequest( AsyncContext asyncContext, UISession uiSession ) {
+      this.asyncContext = asyncContext;
+      this.uiSession = uiSession;
+    }
+
+    public void attach() {
+      asyncContext.addListener( this );
+      uiSession.addUISessionListener( this );
+    }
+
+    public void detach() {
+      uiSession.removeUISessionListener( this );
+    }
+
+    public void resume() {
+      detach();
+      try {
+        asyncContext.complete();
+      } catch( @SuppressWarnings( "unused" ) IllegalStateException ise ) {
+        // request was already completed by the container, e.g. due to a broken connection
+      }
+    }
+
+    @Override
+    public void beforeDestroy( UISessionEvent event ) {
+      releaseSuspendedRequest( this );
+    }
+
+    @Override
+    public void onTimeout( AsyncEvent event ) {
+      releaseSuspendedRequest( this );
+    }
+
+    @Override
+    public void onError( AsyncEvent event ) {
+      forgetSuspendedRequest( this );
+    }
+
+    @Override
+    public void onComplete( AsyncEvent event ) {
+      forgetSuspendedRequest( this );
+    }
+
+    @Override
+    public void onStartAsync( AsyncEvent event ) {
+      // nothing to do
+    }
+
+  }
+
 }
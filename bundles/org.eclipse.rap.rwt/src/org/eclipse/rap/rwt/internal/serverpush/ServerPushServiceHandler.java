@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -31,10 +31,24 @@ public class ServerPushServiceHandler implements ServiceHandler {
   {
     setResponseHeaders( response );
     if( getUISession() != null ) {
-      ServerPushManager.getInstance().processRequest( response );
+      ServerPushManager serverPushManager = ServerPushManager.getInstance();
+      if( isAsyncSupported( request ) ) {
+        serverPushManager.suspendRequest( request );
+      } else {
+        serverPushManager.processRequest( response );
+      }
     }
   }
 
+  /*
+   * Only servlets registered with async support enabled can suspend requests, e.g. declared with
+   * <async-supported>true</async-supported> in the web.xml. Requests to other servlets, such as
+   * servlets registered with the OSGi HttpService, block a container thread as before.
+   */
+  private static boolean isAsyncSupported( HttpServletRequest request ) {
+    return request.isAsyncSupported();
+  }
+
   private static void setResponseHeaders( HttpServletResponse response ) {
     // Ensures that the response is not cached
     // 410157: [ServerPush] ServerPush requests always return immediately in IE
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,10 @@ import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.SHUTDOWN;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
+import static org.eclipse.rap.rwt.internal.util.HTTP.ENCODING_GZIP;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_ACCEPT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_CONTENT_ENCODING;
+import static org.eclipse.rap.rwt.internal.util.HTTP.HEADER_VARY;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -35,6 +39,8 @@ import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
 import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
+import org.eclipse.rap.rwt.internal.util.GzipCompressor;
+import org.eclipse.rap.rwt.internal.util.Utf8BufferWriter;
 import org.eclipse.rap.rwt.service.ServiceHandler;
 import org.eclipse.rap.rwt.service.UISession;
 
@@ -44,6 +50,9 @@ public class LifeCycleServiceHandler implements ServiceHandler {
   private static final String PROP_ERROR = "error";
   private static final String ATTR_LAST_RESPONSE_MESSAGE
     = LifeCycleServiceHandler.class.getName() + "#lastResponseMessage";
+  private static final int INITIAL_BUFFER_SIZE = 8192;
+  // Smaller messages hardly shrink but still cost the compression overhead
+  static final int MIN_COMPRESSION_SIZE = 1024;
 
   private final MessageChainReference messageChainReference;
 
@@ -92,14 +101,15 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       writeEmptyMessage( response );
     } else if( !isRequestCounterValid( requestMessage ) ) {
       if( isDuplicateRequest( requestMessage ) ) {
-        writeBufferedResponse( response );
+        writeBufferedResponse( request, response );
       } else {
         writeInvalidRequestCounterError( response );
       }
     } else {
       ResponseMessage responseMessage = processMessage( requestMessage );
-      writeResponseMessage( responseMessage, response );
+      writeResponseMessage( responseMessage, request, response );
       RequestCounter.getInstance().nextRequestId();
+      markUISessionModified();
     }
   }
 
@@ -143,6 +153,13 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     return sentRequestId != null && sentRequestId.asInt() == currentRequestId - 1;
   }
 
+  private static void markUISessionModified() {
+    UISessionImpl uiSession = ( UISessionImpl )getUISession();
+    if( uiSession != null ) {
+      uiSession.markModified();
+    }
+  }
+
   private static void shutdownUISession() {
     UISessionImpl uiSession = ( UISessionImpl )getUISession();
     uiSession.shutdown();
@@ -165,7 +182,7 @@ public class LifeCycleServiceHandler implements ServiceHandler {
     response.setStatus( statusCode );
     ProtocolMessageWriter writer = new ProtocolMessageWriter();
     writer.appendHead( PROP_ERROR, JsonValue.valueOf( errorType ) );
-    writer.createMessage().toJson().writeTo( response.getWriter() );
+    writer.createMessage().writeTo( response.getWriter() );
   }
 
   private static boolean isSessionShutdown( RequestMessage requestMessage ) {
@@ -178,30 +195,95 @@ public class LifeCycleServiceHandler implements ServiceHandler {
   }
 
   private static void writeEmptyMessage( ServletResponse response ) throws IOException {
-    new ProtocolMessageWriter().createMessage().toJson().writeTo( response.getWriter() );
+    new ProtocolMessageWriter().createMessage().writeTo( response.getWriter() );
   }
 
   private static void writeResponseMessage( ResponseMessage responseMessage,
-                                            ServletResponse response )
+                                            HttpServletRequest request,
+                                            HttpServletResponse response )
+    throws IOException
+  {
+    byte[] content = serialize( responseMessage );
+    bufferMessage( content );
+    writeContent( request, response, content );
+  }
+
+  private static void writeBufferedResponse( HttpServletRequest request,
+                                             HttpServletResponse response )
+    throws IOException
+  {
+    writeContent( request, response, getBufferedMessage() );
+  }
+
+  private static void writeContent( HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    byte[] content )
     throws IOException
   {
-    bufferMessage( responseMessage );
-    responseMessage.toJson().writeTo( response.getWriter() );
+    if( mustCompress( request, content ) ) {
+      writeCompressed( response, content );
+    } else {
+      response.setContentLength( content.length );
+      response.getOutputStream().write( content );
+    }
   }
 
-  private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
-    getBufferedMessage().toJson().writeTo( response.getWriter() );
+  private static boolean mustCompress( HttpServletRequest request, byte[] content ) {
+    return content.length >= MIN_COMPRESSION_SIZE && acceptsGzip( request );
   }
 
-  private static void bufferMessage( ResponseMessage responseMessage ) {
+  static boolean acceptsGzip( HttpServletRequest request ) {
+    String acceptEncoding = request.getHeader( HEADER_ACCEPT_ENCODING );
+    if( acceptEncoding != null ) {
+      for( String encoding : acceptEncoding.split( "," ) ) {
+        String[] parts = encoding.split( ";" );
+        if( ENCODING_GZIP.equalsIgnoreCase( parts[ 0 ].trim() ) ) {
+          return parts.length == 1 || !isZeroQuality( parts[ 1 ] );
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean isZeroQuality( String parameter ) {
+    String value = parameter.trim().replace( " ", "" );
+    return value.matches( "q=0(\\.0*)?" );
+  }
+
+  private static void writeCompressed( HttpServletResponse response, byte[] content )
+    throws IOException
+  {
+    byte[] compressed = GzipCompressor.compress( content );
+    response.setHeader( HEADER_CONTENT_ENCODING, ENCODING_GZIP );
+    response.setHeader( HEADER_VARY, HEADER_ACCEPT_ENCODING );
+    response.setContentLength( compressed.length );
+    response.getOutputStream().write( compressed );
+  }
+
+  /*
+   * The message is encoded directly into a byte buffer. The only copy made is the byte array that
+   * is kept for duplicate requests and written to the response without decoding it again. The
+   * buffer is not shared between requests, so that no memory is left on idle request threads.
+   */
+  private static byte[] serialize( ResponseMessage responseMessage ) throws IOException {
+    Utf8BufferWriter writer = new Utf8BufferWriter( INITIAL_BUFFER_SIZE );
+    responseMessage.writeTo( writer );
+    return writer.toByteArray();
+  }
+
+  /*
+   * Only the serialized message is kept for duplicate requests. Holding the ResponseMessage
+   * itself would keep the JSON trees of all operations in the UI session.
+   */
+  private static void bufferMessage( byte[] content ) {
     UISession uiSession = getUISession();
     if( uiSession != null ) {
-      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, responseMessage );
+      uiSession.setAttribute( ATTR_LAST_RESPONSE_MESSAGE, content );
     }
   }
 
-  private static ResponseMessage getBufferedMessage() {
-    return ( ResponseMessage )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
+  private static byte[] getBufferedMessage() {
+    return ( byte[] )getUISession().getAttribute( ATTR_LAST_RESPONSE_MESSAGE );
   }
 
 }
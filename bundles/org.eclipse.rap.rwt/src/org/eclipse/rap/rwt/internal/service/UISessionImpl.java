@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2018 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -58,6 +58,7 @@ public class UISessionImpl
   private Connection connection;
   private boolean bound;
   private boolean inDestroy;
+  private transient boolean modified;
   private transient HttpSession httpSession;
   private transient ISessionShutdownAdapter shutdownAdapter;
   private transient ApplicationContextImpl applicationContext;
@@ -88,9 +89,28 @@ public class UISessionImpl
   }
 
   public void attachToHttpSession() {
+    synchronized( lock ) {
+      modified = false;
+    }
     httpSession.setAttribute( getUISessionAttributeName( connectionId ), this );
   }
 
+  /**
+   * Marks this UI session as changed since it has last been attached to the HTTP session, e.g.
+   * because a request has been processed by the life cycle.
+   */
+  public void markModified() {
+    synchronized( lock ) {
+      modified = true;
+    }
+  }
+
+  public boolean isModified() {
+    synchronized( lock ) {
+      return modified;
+    }
+  }
+
   public void setApplicationContext( ApplicationContextImpl applicationContext ) {
     if( this.applicationContext != null ) {
       this.applicationContext.removeApplicationContextListener( this );
@@ -156,6 +176,7 @@ public class UISessionImpl
     synchronized( lock ) {
       if( bound ) {
         result = true;
+        modified = true;
         attributes.put( name, value );
       }
     }
@@ -169,6 +190,7 @@ public class UISessionImpl
     synchronized( lock ) {
       if( bound ) {
         result = true;
+        modified = true;
         attributes.remove( name );
       }
     }
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+
+/*
+ * Identifies a measured text size. In contrast to a plain hash code, keys of different texts
+ * never collide. The probe is part of the key, since sizes measured with a different probe result
+ * are not comparable.
+ */
+final class TextSizeKey {
+
+  private final FontData fontData;
+  private final String string;
+  private final int wrapWidth;
+  private final int mode;
+  private final String probeText;
+  private final Point probeSize;
+  private final int hashCode;
+
+  TextSizeKey( FontData fontData,
+               String string,
+               int wrapWidth,
+               int mode,
+               String probeText,
+               Point probeSize )
+  {
+    this.fontData = fontData;
+    this.string = string;
+    this.wrapWidth = wrapWidth;
+    this.mode = mode;
+    this.probeText = probeText;
+    this.probeSize = new Point( probeSize.x, probeSize.y );
+    hashCode = computeHashCode();
+  }
+
+  FontData getFontData() {
+    return fontData;
+  }
+
+  String getString() {
+    return string;
+  }
+
+  int getWrapWidth() {
+    return wrapWidth;
+  }
+
+  int getMode() {
+    return mode;
+  }
+
+  String getProbeText() {
+    return probeText;
+  }
+
+  Point getProbeSize() {
+    return new Point( probeSize.x, probeSize.y );
+  }
+
+  @Override
+  public boolean equals( Object object ) {
+    if( this == object ) {
+      return true;
+    }
+    if( object == null || getClass() != object.getClass() ) {
+      return false;
+    }
+    TextSizeKey other = ( TextSizeKey )object;
+    return    hashCode == other.hashCode
+           && wrapWidth == other.wrapWidth
+           && mode == other.mode
+           && string.equals( other.string )
+           && fontData.equals( other.fontData )
+           && probeText.equals( other.probeText )
+           && probeSize.equals( other.probeSize );
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  private int computeHashCode() {
+    int result = 1;
+    result = 31 * result + probeText.hashCode();
+    result = 31 * result + probeSize.hashCode();
+    result = 31 * result + fontData.hashCode();
+    result = 31 * result + string.hashCode();
+    result = 31 * result + wrapWidth;
+    result = 31 * result + mode;
+    return result;
+  }
+
+}
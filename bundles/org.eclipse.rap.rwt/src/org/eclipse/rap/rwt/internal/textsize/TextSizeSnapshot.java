@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+
+
+/**
+ * Saves the probed fonts and the measured text sizes of a {@link TextSizeStorage} to a file and
+ * restores them from there. Preloading a snapshot after a restart spares the first sessions the
+ * estimated text sizes and the additional measurement requests.
+ * <p>
+ * Text sizes are only reused for clients whose probe results match the stored ones, since the key
+ * of every text size includes the probe. Probe results themselves depend on the client and are not
+ * part of the snapshot.
+ * </p>
+ */
+public final class TextSizeSnapshot {
+
+  static final String THREAD_NAME = "RWT text size snapshot";
+  private static final String FILE_PREFIX = "rwt-text-sizes-";
+  private static final String FILE_SUFFIX = ".dat";
+  private static final int MAGIC = 0x52545353;
+  private static final int VERSION = 1;
+  // writeUTF is limited to 64k bytes, longer texts are rarely measured again anyway
+  private static final int MAX_TEXT_LENGTH = 4096;
+
+  private final TextSizeStorage storage;
+  private final File file;
+  private final Object lock;
+  private ScheduledThreadPoolExecutor executor;
+
+  public TextSizeSnapshot( TextSizeStorage storage, File file ) {
+    this.storage = storage;
+    this.file = file;
+    lock = new Object();
+  }
+
+  /*
+   * Several applications may share the same temporary directory. The file name contains a hash of
+   * the given application id, so that each of them reads and writes its own snapshot.
+   */
+  public static File getFile( File directory, String applicationId ) {
+    String hash = Integer.toHexString( applicationId.hashCode() );
+    return new File( directory, FILE_PREFIX + hash + FILE_SUFFIX );
+  }
+
+  public void load() {
+    if( file.isFile() ) {
+      try {
+        read();
+      } catch( IOException exception ) {
+        ServletLog.log( "Failed to load text size snapshot: " + file, exception );
+      } catch( RuntimeException exception ) {
+        ServletLog.log( "Discarded invalid text size snapshot: " + file, exception );
+      }
+    }
+  }
+
+  public void save() {
+    synchronized( lock ) {
+      try {
+        write();
+      } catch( IOException exception ) {
+        ServletLog.log( "Failed to save text size snapshot: " + file, exception );
+      }
+    }
+  }
+
+  public void start( long interval ) {
+    synchronized( lock ) {
+      if( executor == null ) {
+        executor = createExecutor();
+        executor.scheduleWithFixedDelay( new Runnable() {
+          @Override
+          public void run() {
+            save();
+          }
+        }, interval, interval, TimeUnit.SECONDS );
+      }
+    }
+  }
+
+  public void stop() {
+    synchronized( lock ) {
+      if( executor != null ) {
+        executor.shutdownNow();
+        executor = null;
+        save();
+      }
+    }
+  }
+
+  private void read() throws IOException {
+    DataInputStream input = new DataInputStream( createInputStream() );
+    try {
+      if( input.readInt() != MAGIC || input.readInt() != VERSION ) {
+        throw new IOException( "Unsupported file format" );
+      }
+      FontData[] fonts = new FontData[ input.readInt() ];
+      for( int i = 0; i < fonts.length; i++ ) {
+        fonts[ i ] = new FontData( input.readUTF(), input.readInt(), input.readInt() );
+        if( input.readBoolean() ) {
+          storage.storeFont( fonts[ i ] );
+        }
+      }
+      String[] probeTexts = new String[ input.readInt() ];
+      for( int i = 0; i < probeTexts.length; i++ ) {
+        probeTexts[ i ] = input.readUTF();
+      }
+      int count = input.readInt();
+      for( int i = 0; i < count; i++ ) {
+        FontData fontData = fonts[ input.readInt() ];
+        String probeText = probeTexts[ input.readInt() ];
+        Point probeSize = new Point( input.readInt(), input.readInt() );
+        String string = input.readUTF();
+        int wrapWidth = input.readInt();
+        int mode = input.readInt();
+        Point size = new Point( input.readInt(), input.readInt() );
+        storage.storeTextSize( new TextSizeKey( fontData,
+                                                string,
+                                                wrapWidth,
+                                                mode,
+                                                probeText,
+                                                probeSize ), size );
+      }
+    } finally {
+      input.close();
+    }
+  }
+
+  private void write() throws IOException {
+    Set<FontData> probedFonts = new HashSet<>( Arrays.asList( storage.getFontList() ) );
+    Map<TextSizeKey, Point> textSizes = getTextSizes();
+    // fonts and probe texts are shared by many entries and are written only once
+    Map<FontData, Integer> fonts = new LinkedHashMap<>();
+    Map<String, Integer> probeTexts = new LinkedHashMap<>();
+    for( FontData fontData : probedFonts ) {
+      addIndex( fonts, fontData );
+    }
+    for( TextSizeKey key : textSizes.keySet() ) {
+      addIndex( fonts, key.getFontData() );
+      addIndex( probeTexts, key.getProbeText() );
+    }
+    File tempFile = createTempFile();
+    try {
+      writeTo( tempFile, probedFonts, fonts, probeTexts, textSizes );
+      // replace the previous snapshot only when the new one is complete
+      Files.move( tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    } finally {
+      tempFile.delete();
+    }
+  }
+
+  private static void writeTo( File tempFile,
+                               Set<FontData> probedFonts,
+                               Map<FontData, Integer> fonts,
+                               Map<String, Integer> probeTexts,
+                               Map<TextSizeKey, Point> textSizes )
+    throws IOException
+  {
+    DataOutputStream output = new DataOutputStream( createOutputStream( tempFile ) );
+    try {
+      output.writeInt( MAGIC );
+      output.writeInt( VERSION );
+      output.writeInt( fonts.size() );
+      for( FontData fontData : fonts.keySet() ) {
+        output.writeUTF( fontData.getName() );
+        output.writeInt( fontData.getHeight() );
+        output.writeInt( fontData.getStyle() );
+        output.writeBoolean( probedFonts.contains( fontData ) );
+      }
+      output.writeInt( probeTexts.size() );
+      for( String probeText : probeTexts.keySet() ) {
+        output.writeUTF( probeText );
+      }
+      output.writeInt( textSizes.size() );
+      for( Map.Entry<TextSizeKey, Point> entry : textSizes.entrySet() ) {
+        TextSizeKey key = entry.getKey();
+        Point probeSize = key.getProbeSize();
+        output.writeInt( fonts.get( key.getFontData() ).intValue() );
+        output.writeInt( probeTexts.get( key.getProbeText() ).intValue() );
+        output.writeInt( probeSize.x );
+        output.writeInt( probeSize.y );
+        output.writeUTF( key.getString() );
+        output.writeInt( key.getWrapWidth() );
+        output.writeInt( key.getMode() );
+        output.writeInt( entry.getValue().x );
+        output.writeInt( entry.getValue().y );
+      }
+    } finally {
+      output.close();
+    }
+  }
+
+  /*
+   * A unique temporary file in the target directory, so that the final move stays on the same
+   * file system and concurrent writers never share the same temporary file
+   */
+  private File createTempFile() throws IOException {
+    File directory = file.getAbsoluteFile().getParentFile();
+    directory.mkdirs();
+    return File.createTempFile( file.getName() + "-", ".tmp", directory );
+  }
+
+  private static <T> void addIndex( Map<T, Integer> indexes, T value ) {
+    if( !indexes.containsKey( value ) ) {
+      indexes.put( value, Integer.valueOf( indexes.size() ) );
+    }
+  }
+
+  private Map<TextSizeKey, Point> getTextSizes() {
+    Map<TextSizeKey, Point> result = new HashMap<>();
+    for( Map.Entry<Object, Point> entry : storage.getTextSizes().entrySet() ) {
+      if( entry.getKey() instanceof TextSizeKey ) {
+        TextSizeKey key = ( TextSizeKey )entry.getKey();
+        if( key.getString().length() <= MAX_TEXT_LENGTH ) {
+          result.put( key, entry.getValue() );
+        }
+      }
+    }
+    return result;
+  }
+
+  private InputStream createInputStream() throws IOException {
+    FileInputStream stream = new FileInputStream( file );
+    try {
+      return new GZIPInputStream( new BufferedInputStream( stream ) );
+    } catch( IOException exception ) {
+      stream.close();
+      throw exception;
+    }
+  }
+
+  private static OutputStream createOutputStream( File file ) throws IOException {
+    FileOutputStream stream = new FileOutputStream( file );
+    return new GZIPOutputStream( new BufferedOutputStream( stream ) );
+  }
+
+  private static ScheduledThreadPoolExecutor createExecutor() {
+    return new ScheduledThreadPoolExecutor( 1, new ThreadFactory() {
+      @Override
+      public Thread newThread( Runnable runnable ) {
+        Thread thread = new Thread( runnable, THREAD_NAME );
+        thread.setDaemon( true );
+        return thread;
+      }
+    } );
+  }
+
+}
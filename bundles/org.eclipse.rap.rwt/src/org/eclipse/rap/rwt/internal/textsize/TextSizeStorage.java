@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,100 +13,92 @@ package org.eclipse.rap.rwt.internal.textsize;
 
 import static org.eclipse.rap.rwt.internal.RWTProperties.getTextSizeStoreSize;
 
-import java.io.Serializable;
 import java.math.BigDecimal;
 import java.text.MessageFormat;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 
 
+/*
+ * Application scoped store of measured text sizes, shared by all sessions. Lookups and stores do
+ * not block each other. When the store is full, the least recently used entries are evicted
+ * approximately, following the CLOCK algorithm: entries are visited in insertion order and an
+ * entry that was looked up since the last visit gets a second chance.
+ */
 public final class TextSizeStorage {
 
   public static final int MIN_STORE_SIZE = 1000;
   public static final int DEFAULT_STORE_SIZE = 10000;
 
-  private final Object lock;
-  // access is guarded by 'lock'
   private final Set<FontData> fontDatas;
-  // access is guarded by 'lock'
-  private final Map<Integer,Entry> data;
-  private int maximumStoreSize;
-  private int clearRange;
-  private long clock;
+  private final ConcurrentHashMap<Object, Entry> data;
+  private final Queue<Object> clock;
+  private final Lock evictionLock;
+  private volatile int maximumStoreSize;
+  private volatile int clearRange;
 
 
   private static class Entry {
-    private Point point;
-    private long timeStamp;
-  }
-
-  private static class EntryComparator implements Comparator<Entry>, Serializable {
-
-    @Override
-    public int compare( Entry entry1, Entry entry2 ) {
-      int result = 0;
-      if( entry1.timeStamp > entry2.timeStamp ) {
-        result = 1;
-      } else if( entry1.timeStamp < entry2.timeStamp ) {
-        result = -1;
-      }
-      return result;
-    }
+    private volatile Point point;
+    private volatile boolean accessed;
   }
 
 
   public TextSizeStorage() {
-    lock = new Object();
-    data = new HashMap<>();
-    fontDatas = new HashSet<>();
+    data = new ConcurrentHashMap<>();
+    fontDatas = ConcurrentHashMap.newKeySet();
+    clock = new ConcurrentLinkedQueue<>();
+    evictionLock = new ReentrantLock();
     setMaximumStoreSize( getTextSizeStoreSize( DEFAULT_STORE_SIZE ) );
   }
 
   FontData[] getFontList() {
-    FontData[] result;
-    synchronized( lock ) {
-      result = new FontData[ fontDatas.size() ];
-      fontDatas.toArray( result );
-    }
-    return result;
+    return fontDatas.toArray( new FontData[ 0 ] );
   }
 
   void storeFont( FontData fontData ) {
-    synchronized( lock ) {
-      fontDatas.add( fontData );
-    }
+    fontDatas.add( fontData );
   }
 
-  Point lookupTextSize( Integer key ) {
+  Point lookupTextSize( Object key ) {
     Point result = null;
-    synchronized( lock ) {
-      Entry entry = data.get( key );
-      if( entry != null ) {
-        updateTimestamp( entry );
-        result = entry.point;
-      }
+    Entry entry = data.get( key );
+    if( entry != null ) {
+      entry.accessed = true;
+      result = entry.point;
     }
-    result = defensiveCopy( result );
-    return result;
+    return defensiveCopy( result );
   }
 
-  void storeTextSize( Integer key, Point size ) {
+  void storeTextSize( Object key, Point size ) {
     Entry entry = new Entry();
     entry.point = defensiveCopy( size );
-    updateTimestamp( entry );
-    synchronized( lock ) {
-      data.put( key, entry );
+    Entry existing = data.putIfAbsent( key, entry );
+    if( existing == null ) {
+      clock.offer( key );
       handleOverFlow();
+    } else {
+      existing.point = entry.point;
     }
   }
 
+  Map<Object, Point> getTextSizes() {
+    Map<Object, Point> result = new HashMap<>();
+    for( Map.Entry<Object, Entry> entry : data.entrySet() ) {
+      result.put( entry.getKey(), defensiveCopy( entry.getValue().point ) );
+    }
+    return result;
+  }
+
   ////////////////////
   // overflow handling
 
@@ -121,19 +113,36 @@ public final class TextSizeStorage {
   }
 
   private void handleOverFlow() {
-    if( data.size() >= maximumStoreSize ) {
-      Entry[] entries = sortEntries();
-      for( int i = 0; i < clearRange; i++ ) {
-        data.values().remove( entries[ i ] );
+    // only one thread evicts at a time, the others continue without waiting
+    if( data.size() >= maximumStoreSize && evictionLock.tryLock() ) {
+      try {
+        evictEntries( clearRange );
+      } finally {
+        evictionLock.unlock();
       }
     }
   }
 
-  private Entry[] sortEntries() {
-    Entry[] result = new Entry[ data.size() ];
-    data.values().toArray( result );
-    Arrays.sort( result, new EntryComparator() );
-    return result;
+  private void evictEntries( int count ) {
+    int evicted = 0;
+    // every entry is visited at most twice, the second time without access flag
+    int visits = 2 * data.size();
+    while( evicted < count && visits > 0 ) {
+      Object key = clock.poll();
+      if( key == null ) {
+        return;
+      }
+      visits--;
+      Entry entry = data.get( key );
+      if( entry != null ) {
+        if( entry.accessed ) {
+          entry.accessed = false;
+          clock.offer( key );
+        } else if( data.remove( key, entry ) ) {
+          evicted++;
+        }
+      }
+    }
   }
 
 
@@ -152,10 +161,6 @@ public final class TextSizeStorage {
     return point == null ? null : new Point( point.x, point.y );
   }
 
-  private void updateTimestamp( Entry entry ) {
-    entry.timeStamp = clock++;
-  }
-
   private void calculateClearRange( int maximumStoreSize ) {
     BigDecimal ten = new BigDecimal( 10 );
     BigDecimal bdStoreSize = new BigDecimal( maximumStoreSize );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,9 +23,16 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleAdapterUtil;
+import org.eclipse.rap.rwt.internal.theme.ThemeResourceCache.ResourceParser;
 import org.eclipse.rap.rwt.internal.theme.css.CssFileReader;
 import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
@@ -88,6 +95,10 @@ public class ThemeManager {
     "org.eclipse.nebula.widgets.grid.Grid"
   };
 
+  // resources of the standard loader are the same for all application contexts
+  static final ThemeResourceCache STANDARD_RESOURCE_CACHE = new ThemeResourceCache();
+  private static final String LOADER_THREAD_NAME = "RWT theme loader";
+
   private final Map<String, Theme> themes;
   private final ThemeableWidgetHolder themeableWidgets;
   private final List<String> appearances;
@@ -101,7 +112,7 @@ public class ThemeManager {
     themeableWidgets = new ThemeableWidgetHolder();
     appearances = new ArrayList<>();
     themeAdapterManager = new ThemeAdapterManager();
-    resolvedPackageNames = new HashMap<>();
+    resolvedPackageNames = new ConcurrentHashMap<>();
     initialized = false;
     createAndAddFallbackTheme();
     addDefaultThemableWidgets();
@@ -245,8 +256,67 @@ public class ThemeManager {
 
   private void initializeThemeableWidgets() {
     ThemeableWidget[] widgets = themeableWidgets.getAll();
+    loadThemeableWidgetResources( widgets );
+    // merge in the order of registration to keep the resulting theme independent of the loading
     for( ThemeableWidget widget : widgets ) {
-      loadThemeableWidgetResources( widget );
+      if( widget.appearance != null ) {
+        appearances.add( widget.appearance );
+      }
+      if( widget.defaultStyleSheet != null ) {
+        fallbackTheme.addStyleSheet( widget.defaultStyleSheet );
+      }
+    }
+  }
+
+  private void loadThemeableWidgetResources( ThemeableWidget[] widgets ) {
+    int threadCount = Math.min( Runtime.getRuntime().availableProcessors(), widgets.length );
+    if( threadCount <= 1 ) {
+      for( ThemeableWidget widget : widgets ) {
+        loadThemeableWidgetResources( widget );
+      }
+    } else {
+      ExecutorService executor = Executors.newFixedThreadPool( threadCount, new ThreadFactory() {
+        @Override
+        public Thread newThread( Runnable runnable ) {
+          Thread thread = new Thread( runnable, LOADER_THREAD_NAME );
+          thread.setDaemon( true );
+          return thread;
+        }
+      } );
+      try {
+        List<Future<?>> futures = new ArrayList<>();
+        for( final ThemeableWidget widget : widgets ) {
+          futures.add( executor.submit( new Runnable() {
+            @Override
+            public void run() {
+              loadThemeableWidgetResources( widget );
+            }
+          } ) );
+        }
+        for( Future<?> future : futures ) {
+          waitFor( future );
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  private static void waitFor( Future<?> future ) {
+    try {
+      future.get();
+    } catch( InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+      throw new ThemeManagerException( "Interrupted while loading themeable widgets", exception );
+    } catch( ExecutionException exception ) {
+      Throwable cause = exception.getCause();
+      if( cause instanceof RuntimeException ) {
+        throw ( RuntimeException )cause;
+      }
+      if( cause instanceof Error ) {
+        throw ( Error )cause;
+      }
+      throw new ThemeManagerException( "Failed to load themeable widgets", cause );
     }
   }
 
@@ -266,9 +336,6 @@ public class ThemeManager {
         found |= loadAppearanceJs( themeWidget, variants[ i ], className );
         found |= loadDefaultCss( themeWidget, variants[ i ], className );
       }
-      if( themeWidget.defaultStyleSheet != null ) {
-        fallbackTheme.addStyleSheet( themeWidget.defaultStyleSheet );
-      }
     } catch( IOException e ) {
       String msg = "Failed to initialize themeable widget: " + themeWidget.className;
       throw new ThemeManagerException( msg, e );
@@ -278,64 +345,83 @@ public class ThemeManager {
   private boolean loadThemeDef( ThemeableWidget themeWidget, String pkgName, String className )
     throws IOException
   {
-    boolean result = false;
     String resPkgName = resolvePackageName( pkgName );
-    String fileName = resPkgName + "/" + className + ".theme.xml";
-    InputStream inStream = themeWidget.loader.getResourceAsStream( fileName );
-    if( inStream != null ) {
-      result = true;
-      try {
-        ThemeDefinitionReader reader = new ThemeDefinitionReader( inStream, fileName );
-        reader.read();
-        themeWidget.elements = reader.getThemeCssElements();
-      } catch( Exception e ) {
-        String message = "Failed to parse theme definition file " + fileName;
-        throw new ThemeManagerException( message, e );
-      } finally {
-        inStream.close();
+    final String fileName = resPkgName + "/" + className + ".theme.xml";
+    ResourceLoader resLoader = themeWidget.loader;
+    CssElement[] elements = loadResource( fileName, resLoader, new ResourceParser<CssElement[]>() {
+      @Override
+      public CssElement[] parse( InputStream inStream ) {
+        try {
+          ThemeDefinitionReader reader = new ThemeDefinitionReader( inStream, fileName );
+          reader.read();
+          return reader.getThemeCssElements();
+        } catch( Exception e ) {
+          String message = "Failed to parse theme definition file " + fileName;
+          throw new ThemeManagerException( message, e );
+        }
       }
+    } );
+    if( elements != null ) {
+      themeWidget.elements = elements;
     }
-    return result;
+    return elements != null;
   }
 
   private boolean loadAppearanceJs( ThemeableWidget themeWidget, String pkgName, String className )
     throws IOException
   {
-    boolean result = false;
     String resPkgName = resolvePackageName( pkgName );
     String fileName = resPkgName + "/" + className + ".appearances.js";
-    InputStream inStream = themeWidget.loader.getResourceAsStream( fileName );
-    if( inStream != null ) {
-      try {
-        String content = AppearancesUtil.readAppearanceFile( inStream );
-        appearances.add( content );
-        result = true;
-      } finally {
-        inStream.close();
+    String content = loadResource( fileName, themeWidget.loader, new ResourceParser<String>() {
+      @Override
+      public String parse( InputStream inStream ) throws IOException {
+        return AppearancesUtil.readAppearanceFile( inStream );
       }
+    } );
+    if( content != null ) {
+      themeWidget.appearance = content;
     }
-    return result;
+    return content != null;
   }
 
   private boolean loadDefaultCss( ThemeableWidget themeWidget, String pkgName, String className )
     throws IOException
   {
-    boolean result = false;
     String resPkgName = resolvePackageName( pkgName );
-    String fileName = resPkgName + "/" + className + ".default.css";
-    ResourceLoader resLoader = themeWidget.loader;
-    InputStream inStream = resLoader.getResourceAsStream( fileName );
-    if( inStream != null ) {
-      try {
+    final String fileName = resPkgName + "/" + className + ".default.css";
+    final ResourceLoader resLoader = themeWidget.loader;
+    StyleSheet styleSheet = loadResource( fileName, resLoader, new ResourceParser<StyleSheet>() {
+      @Override
+      public StyleSheet parse( InputStream inStream ) throws IOException {
         // TODO [rst] Check for illegal element names in selector list
-        themeWidget.defaultStyleSheet
-          = CssFileReader.readStyleSheet( inStream, fileName, resLoader );
-        result = true;
-      } finally {
-        inStream.close();
+        return CssFileReader.readStyleSheet( inStream, fileName, resLoader );
       }
+    } );
+    if( styleSheet != null ) {
+      themeWidget.defaultStyleSheet = styleSheet;
+    }
+    return styleSheet != null;
+  }
+
+  /*
+   * Parsed resources of the standard loader are taken from the shared cache, resources of other
+   * loaders are parsed again, as their results refer to the loader.
+   */
+  static <T> T loadResource( String fileName, ResourceLoader loader, ResourceParser<T> parser )
+    throws IOException
+  {
+    if( loader == STANDARD_RESOURCE_LOADER ) {
+      return STANDARD_RESOURCE_CACHE.load( fileName, loader, parser );
+    }
+    InputStream inStream = loader.getResourceAsStream( fileName );
+    if( inStream == null ) {
+      return null;
+    }
+    try {
+      return parser.parse( inStream );
+    } finally {
+      inStream.close();
     }
-    return result;
   }
 
   private String resolvePackageName( String packageName ) {
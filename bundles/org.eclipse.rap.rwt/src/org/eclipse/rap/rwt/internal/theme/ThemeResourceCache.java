@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.rap.rwt.service.ResourceLoader;
+
+
+/**
+ * Keeps the results of parsing theme resources, e.g. theme definitions and default style sheets,
+ * so that they can be reused when another application context is started. A cached result is
+ * only returned as long as the resource content has the same hash as the parsed one.
+ * <p>
+ * The parsed results must not be modified, as they are shared between all callers.
+ * </p>
+ */
+final class ThemeResourceCache {
+
+  private static final String HASH_ALGORITHM = "SHA-1";
+
+  private final Map<String, Entry> entries;
+
+  ThemeResourceCache() {
+    entries = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns the parsed resource with the given name, or <code>null</code> if the loader does not
+   * find the resource.
+   */
+  <T> T load( String fileName, ResourceLoader loader, ResourceParser<T> parser )
+    throws IOException
+  {
+    InputStream inputStream = loader.getResourceAsStream( fileName );
+    if( inputStream == null ) {
+      return null;
+    }
+    byte[] content;
+    try {
+      content = readContent( inputStream );
+    } finally {
+      inputStream.close();
+    }
+    byte[] hash = createHash( content );
+    Entry entry = entries.get( fileName );
+    if( entry != null && Arrays.equals( entry.hash, hash ) ) {
+      @SuppressWarnings( "unchecked" )
+      T result = ( T )entry.value;
+      return result;
+    }
+    T result = parser.parse( new ByteArrayInputStream( content ) );
+    entries.put( fileName, new Entry( hash, result ) );
+    return result;
+  }
+
+  private static byte[] readContent( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 8192 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      result.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    return result.toByteArray();
+  }
+
+  private static byte[] createHash( byte[] content ) {
+    try {
+      return MessageDigest.getInstance( HASH_ALGORITHM ).digest( content );
+    } catch( NoSuchAlgorithmException exception ) {
+      throw new RuntimeException( "Hash algorithm not available: " + HASH_ALGORITHM, exception );
+    }
+  }
+
+  interface ResourceParser<T> {
+    T parse( InputStream inputStream ) throws IOException;
+  }
+
+  private static final class Entry {
+
+    final byte[] hash;
+    final Object value;
+
+    Entry( byte[] hash, Object value ) {
+      this.hash = hash;
+      this.value = value;
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.rap.rwt.internal.theme;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.Map;
 
@@ -23,6 +24,7 @@ import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.theme.ThemeResourceCache.ResourceParser;
 import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
 import org.eclipse.rap.rwt.internal.theme.css.CssFileReader;
 import org.eclipse.rap.rwt.internal.theme.css.StyleSheet;
@@ -93,12 +95,21 @@ public final class ThemeUtil {
   static StyleSheet readDefaultThemeStyleSheet() {
     StyleSheet result;
     try {
-      ResourceLoader resLoader = ThemeManager.STANDARD_RESOURCE_LOADER;
-      result = CssFileReader.readStyleSheet( DEFAULT_THEME_CSS, resLoader );
+      final ResourceLoader resLoader = ThemeManager.STANDARD_RESOURCE_LOADER;
+      ResourceParser<StyleSheet> parser = new ResourceParser<StyleSheet>() {
+        @Override
+        public StyleSheet parse( InputStream inputStream ) throws IOException {
+          return CssFileReader.readStyleSheet( inputStream, DEFAULT_THEME_CSS, resLoader );
+        }
+      };
+      result = ThemeManager.loadResource( DEFAULT_THEME_CSS, resLoader, parser );
     } catch( IOException ioe ) {
       String msg = "Failed to load default theme: " + DEFAULT_THEME_CSS;
       throw new ThemeManagerException( msg, ioe );
     }
+    if( result == null ) {
+      throw new IllegalArgumentException( "Could not open resource " + DEFAULT_THEME_CSS );
+    }
     return result;
   }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ final class ThemeableWidget {
   final String className;
   final ResourceLoader loader;
   CssElement[] elements;
+  String appearance;
   StyleSheet defaultStyleSheet;
 
   ThemeableWidget( String className, ResourceLoader loader ) {
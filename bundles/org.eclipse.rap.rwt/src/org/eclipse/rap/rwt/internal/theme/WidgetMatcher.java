@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,8 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.theme;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -19,40 +21,55 @@ import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
 import org.eclipse.swt.widgets.Widget;
 
 
+/**
+ * Selects the first conditional value whose constraints are met by a widget.
+ * <p>
+ * The constraints of every conditional values array are compiled once into a list of style and
+ * state constraints and a list of variants. A widget is then reduced to a key that consists of the
+ * style and state constraints it matches and its variant, and the selected value is remembered
+ * per key.
+ * </p>
+ */
 public final class WidgetMatcher implements ValueSelector {
 
   public static interface Constraint {
     boolean matches( Widget widget );
   }
 
+  // styles and states that can be encoded in the bits of a key
+  private static final int MAX_KEY_BITS = 12;
+  private static final int MAX_RESULTS_SIZE = 4096;
+
   private final Map<String, Constraint> constraintMap;
+  private final Map<ConditionalValue[], CompiledValues> compiledValuesMap;
 
   public WidgetMatcher() {
-    // This map is accessed by all UI sessions simultaneously. However, We don't need to
+    // These maps are accessed by all UI sessions simultaneously. However, We don't need to
     // synchronize get and put since constraints are deterministic, i.e. in case of concurrent
     // insertions one constraint overwriting the other is not critical.
     constraintMap = new ConcurrentHashMap<>();
+    // arrays are compared by identity, values arrays are created once per theme
+    compiledValuesMap = new ConcurrentHashMap<>();
   }
 
   public void addStyle( String string, int style ) {
     constraintMap.put( "[" + string, createStyleConstraint( style ) );
+    compiledValuesMap.clear();
   }
 
   public void addState( String string, Constraint constraint ) {
     constraintMap.put( ":" + string, constraint );
+    compiledValuesMap.clear();
   }
 
   @Override
   public CssValue select( Widget widget, ConditionalValue... values ) {
-    CssValue result = null;
-    for( int i = 0; i < values.length && result == null; i++ ) {
-      ConditionalValue condValue = values[ i ];
-      String[] constraints = condValue.constraints;
-      if( matches( widget, constraints ) ) {
-        result = condValue.value;
-      }
+    CompiledValues compiledValues = compiledValuesMap.get( values );
+    if( compiledValues == null ) {
+      compiledValues = new CompiledValues( values );
+      compiledValuesMap.put( values, compiledValues );
     }
-    return result;
+    return compiledValues.select( widget );
   }
 
   private boolean matches( Widget widget, String[] constraints ) {
@@ -97,4 +114,120 @@ public final class WidgetMatcher implements ValueSelector {
     return actualVariant != null && actualVariant.equals( variant );
   }
 
+  private final class CompiledValues {
+
+    private final ConditionalValue[] values;
+    private final List<String> keyConstraintNames;
+    private final List<Constraint> keyConstraints;
+    private final List<String> variants;
+    // per value, the key bits that must be set and the variant, zero for any, -1 for none
+    private final int[] requiredBits;
+    private final int[] requiredVariants;
+    // per key, the index of the selected value plus one, or zero if not yet computed
+    private final int[] results;
+
+    CompiledValues( ConditionalValue[] values ) {
+      this.values = values;
+      keyConstraintNames = new ArrayList<>();
+      keyConstraints = new ArrayList<>();
+      variants = new ArrayList<>();
+      requiredBits = new int[ values.length ];
+      requiredVariants = new int[ values.length ];
+      for( int i = 0; i < values.length; i++ ) {
+        compileConstraints( i );
+      }
+      int keyBits = keyConstraints.size();
+      if( keyBits <= MAX_KEY_BITS && variants.size() < MAX_RESULTS_SIZE >> keyBits ) {
+        results = new int[ ( variants.size() + 1 ) << keyBits ];
+      } else {
+        results = null;
+      }
+    }
+
+    CssValue select( Widget widget ) {
+      if( results == null ) {
+        return selectUncompiled( widget );
+      }
+      int key = createKey( widget );
+      int result = results[ key ];
+      if( result == 0 ) {
+        // concurrent writes are not critical, they store the same result
+        result = findValue( key ) + 1;
+        results[ key ] = result;
+      }
+      return result <= values.length ? values[ result - 1 ].value : null;
+    }
+
+    private void compileConstraints( int index ) {
+      int bits = 0;
+      int variant = 0;
+      for( String string : values[ index ].constraints ) {
+        if( string.startsWith( "." ) ) {
+          int variantIndex = addIfAbsent( variants, string.substring( 1 ) ) + 1;
+          variant = variant == 0 || variant == variantIndex ? variantIndex : -1;
+        } else {
+          Constraint constraint = constraintMap.get( string );
+          if( constraint == null ) {
+            variant = -1;
+          } else {
+            int bit = addIfAbsent( keyConstraintNames, string );
+            if( bit == keyConstraints.size() ) {
+              keyConstraints.add( constraint );
+            }
+            bits |= 1 << bit;
+          }
+        }
+      }
+      requiredBits[ index ] = bits;
+      requiredVariants[ index ] = variant;
+    }
+
+    private int createKey( Widget widget ) {
+      int key = 0;
+      for( int i = 0; i < keyConstraints.size(); i++ ) {
+        if( keyConstraints.get( i ).matches( widget ) ) {
+          key |= 1 << i;
+        }
+      }
+      if( !variants.isEmpty() ) {
+        key |= ( variants.indexOf( WidgetUtil.getVariant( widget ) ) + 1 ) << keyConstraints.size();
+      }
+      return key;
+    }
+
+    private int findValue( int key ) {
+      int variant = key >>> keyConstraints.size();
+      for( int i = 0; i < values.length; i++ ) {
+        int required = requiredVariants[ i ];
+        if( required == 0 || required == variant ) {
+          if( ( key & requiredBits[ i ] ) == requiredBits[ i ] ) {
+            return i;
+          }
+        }
+      }
+      return values.length;
+    }
+
+    private CssValue selectUncompiled( Widget widget ) {
+      CssValue result = null;
+      for( int i = 0; i < values.length && result == null; i++ ) {
+        ConditionalValue condValue = values[ i ];
+        if( matches( widget, condValue.constraints ) ) {
+          result = condValue.value;
+        }
+      }
+      return result;
+    }
+
+  }
+
+  private static int addIfAbsent( List<String> list, String string ) {
+    int index = list.indexOf( string );
+    if( index == -1 ) {
+      index = list.size();
+      list.add( string );
+    }
+    return index;
+  }
+
 }
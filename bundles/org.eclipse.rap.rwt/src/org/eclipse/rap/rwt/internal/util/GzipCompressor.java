@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+
+/*
+ * Compresses byte arrays into the gzip format (RFC 1952). In contrast to GZIPOutputStream, which
+ * allocates a new Deflater and its native buffers for every stream, the deflaters are pooled and
+ * reused across requests.
+ */
+public final class GzipCompressor {
+
+  private static final int MAX_POOLED_DEFLATERS = 16;
+  private static final int BUFFER_SIZE = 8192;
+  private static final byte[] HEADER = {
+    ( byte )0x1f, ( byte )0x8b, // magic number
+    Deflater.DEFLATED,          // compression method
+    0,                          // flags
+    0, 0, 0, 0,                 // modification time
+    0,                          // extra flags
+    ( byte )0xff                // operating system: unknown
+  };
+  private static final BlockingQueue<Deflater> DEFLATERS
+    = new ArrayBlockingQueue<>( MAX_POOLED_DEFLATERS );
+
+  private GzipCompressor() {
+    // prevent instantiation
+  }
+
+  public static byte[] compress( byte[] content ) {
+    ByteArrayOutputStream result = new ByteArrayOutputStream( content.length / 4 + 32 );
+    result.write( HEADER, 0, HEADER.length );
+    Deflater deflater = acquireDeflater();
+    try {
+      deflater.setInput( content );
+      deflater.finish();
+      byte[] buffer = new byte[ BUFFER_SIZE ];
+      while( !deflater.finished() ) {
+        int length = deflater.deflate( buffer );
+        result.write( buffer, 0, length );
+      }
+    } finally {
+      releaseDeflater( deflater );
+    }
+    CRC32 crc = new CRC32();
+    crc.update( content );
+    writeInt( result, ( int )crc.getValue() );
+    writeInt( result, content.length );
+    return result.toByteArray();
+  }
+
+  private static Deflater acquireDeflater() {
+    Deflater deflater = DEFLATERS.poll();
+    if( deflater == null ) {
+      deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+    }
+    return deflater;
+  }
+
+  private static void releaseDeflater( Deflater deflater ) {
+    deflater.reset();
+    if( !DEFLATERS.offer( deflater ) ) {
+      deflater.end();
+    }
+  }
+
+  private static void writeInt( ByteArrayOutputStream out, int value ) {
+    // gzip stores numbers in little endian byte order
+    out.write( value & 0xff );
+    out.write( ( value >> 8 ) & 0xff );
+    out.write( ( value >> 16 ) & 0xff );
+    out.write( ( value >> 24 ) & 0xff );
+  }
+
+}
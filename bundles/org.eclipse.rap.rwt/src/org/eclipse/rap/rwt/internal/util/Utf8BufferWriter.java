@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import java.io.Writer;
+import java.util.Arrays;
+
+
+/*
+ * A writer that encodes characters as UTF-8 directly into a growable byte array. In contrast to
+ * an OutputStreamWriter on a ByteArrayOutputStream, characters are not copied through an
+ * intermediate encoder buffer and no method is synchronized. Instances can be reused after a call
+ * to reset(). Like String#getBytes, unpaired surrogates are replaced by '?'.
+ */
+public final class Utf8BufferWriter extends Writer {
+
+  private static final byte REPLACEMENT = ( byte )'?';
+
+  private byte[] buffer;
+  private int count;
+  private char highSurrogate;
+
+  public Utf8BufferWriter( int initialCapacity ) {
+    buffer = new byte[ initialCapacity ];
+  }
+
+  @Override
+  public void write( int character ) {
+    ensureCapacity( 4 );
+    encode( ( char )character );
+  }
+
+  @Override
+  public void write( char[] chars, int offset, int length ) {
+    ensureCapacity( length * 3 + 1 );
+    for( int i = offset; i < offset + length; i++ ) {
+      encode( chars[ i ] );
+    }
+  }
+
+  @Override
+  public void write( String string, int offset, int length ) {
+    ensureCapacity( length * 3 + 1 );
+    for( int i = offset; i < offset + length; i++ ) {
+      encode( string.charAt( i ) );
+    }
+  }
+
+  @Override
+  public void flush() {
+    // nothing to flush, bytes are encoded immediately
+  }
+
+  @Override
+  public void close() {
+    // nothing to close
+  }
+
+  public int size() {
+    return count + ( highSurrogate != 0 ? 1 : 0 );
+  }
+
+  public byte[] toByteArray() {
+    finishPendingSurrogate();
+    return Arrays.copyOf( buffer, count );
+  }
+
+  public void reset() {
+    count = 0;
+    highSurrogate = 0;
+  }
+
+  private void encode( char character ) {
+    if( highSurrogate != 0 ) {
+      char high = highSurrogate;
+      highSurrogate = 0;
+      if( Character.isLowSurrogate( character ) ) {
+        encodeCodePoint( Character.toCodePoint( high, character ) );
+        return;
+      }
+      buffer[ count++ ] = REPLACEMENT;
+    }
+    if( character < 0x80 ) {
+      buffer[ count++ ] = ( byte )character;
+    } else if( character < 0x800 ) {
+      buffer[ count++ ] = ( byte )( 0xc0 | character >> 6 );
+      buffer[ count++ ] = ( byte )( 0x80 | character & 0x3f );
+    } else if( Character.isHighSurrogate( character ) ) {
+      highSurrogate = character;
+    } else if( Character.isLowSurrogate( character ) ) {
+      buffer[ count++ ] = REPLACEMENT;
+    } else {
+      buffer[ count++ ] = ( byte )( 0xe0 | character >> 12 );
+      buffer[ count++ ] = ( byte )( 0x80 | character >> 6 & 0x3f );
+      buffer[ count++ ] = ( byte )( 0x80 | character & 0x3f );
+    }
+  }
+
+  private void encodeCodePoint( int codePoint ) {
+    buffer[ count++ ] = ( byte )( 0xf0 | codePoint >> 18 );
+    buffer[ count++ ] = ( byte )( 0x80 | codePoint >> 12 & 0x3f );
+    buffer[ count++ ] = ( byte )( 0x80 | codePoint >> 6 & 0x3f );
+    buffer[ count++ ] = ( byte )( 0x80 | codePoint & 0x3f );
+  }
+
+  private void finishPendingSurrogate() {
+    if( highSurrogate != 0 ) {
+      ensureCapacity( 1 );
+      highSurrogate = 0;
+      buffer[ count++ ] = REPLACEMENT;
+    }
+  }
+
+  private void ensureCapacity( int additional ) {
+    int required = count + additional;
+    if( required > buffer.length ) {
+      buffer = Arrays.copyOf( buffer, Math.max( required, buffer.length * 2 ) );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -54,6 +54,13 @@ public interface ResourceManager {
   /**
    * Returns the location within the web-applications context where the resource will be available
    * for download.
+   * <p>
+   * Since RAP 3.12, the location ends with a query string that identifies the current content of
+   * the resource, e.g. <code>rwt-resources/lib/script.js?0123456789abcdef</code>, so that clients
+   * can cache the resource until its content changes. The location must be used as a whole. It is
+   * not suitable to derive the locations of other resources by appending to it, or to compare it
+   * with a location that was not obtained from this method.
+   * </p>
    *
    * @param name the name which identifies the registered resource
    * @return the location where the resource will be available for download
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2018 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.WidgetDataUtil;
 import org.eclipse.rap.rwt.internal.protocol.JsonUtil;
@@ -29,8 +30,10 @@ import org.eclipse.rap.rwt.scripting.ClientListener;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.internal.events.EventLCAUtil;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Text;
@@ -382,7 +385,11 @@ public class DropDown extends Widget {
       //             not ideal. Revise once Bug 397602 (Render operations in the order of their
       //             occurrence) is fixed.
       if( widgetAdapter == null ) {
-        widgetAdapter = new WidgetRemoteAdapter( getProtocolId() );
+        WidgetRemoteAdapter remoteAdapter = new WidgetRemoteAdapter( getProtocolId() );
+        Display display = LifeCycleUtil.getSessionDisplay();
+        IDisplayAdapter displayAdapter = display.getAdapter( IDisplayAdapter.class );
+        remoteAdapter.setDirtyAdapters( displayAdapter.getDirtyAdapters() );
+        widgetAdapter = remoteAdapter;
       }
       result = ( T )widgetAdapter;
     } else {
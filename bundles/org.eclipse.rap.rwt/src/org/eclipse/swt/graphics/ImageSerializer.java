@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2013 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,33 +24,68 @@ import org.eclipse.rap.rwt.internal.resources.ResourceUtil;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.swt.internal.graphics.InternalImage;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.widgets.Display;
 
 
 class ImageSerializer {
 
-  private static class SerializableBytes implements Serializable {
+  /*
+   * The content of an internal image. There is only one instance per internal image, which is
+   * shared by all images that use it (see InternalImage#getSerializableContent). Since an object
+   * stream writes a shared object only once, the content of such images is contained only once
+   * per stream. The bytes are read from the resource manager when the content is written.
+   */
+  private static class ImageContent implements Serializable {
 
-    final byte[] data;
+    private static final long serialVersionUID = 1L;
 
-    SerializableBytes( byte[] data ) {
-      this.data = data;
+    transient ResourceManager resourceManager;
+    transient String resourceName;
+    transient byte[] data;
+    transient boolean registered;
+
+    ImageContent( ResourceManager resourceManager, String resourceName ) {
+      this.resourceManager = resourceManager;
+      this.resourceName = resourceName;
+    }
+
+    private void writeObject( ObjectOutputStream stream ) throws IOException {
+      stream.defaultWriteObject();
+      stream.writeObject( readImageBytes() );
+    }
+
+    private void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
+      stream.defaultReadObject();
+      data = ( byte[] )stream.readObject();
+    }
+
+    private byte[] readImageBytes() throws IOException {
+      InputStream inputStream = resourceManager.getRegisteredContent( resourceName );
+      try {
+        return ResourceUtil.readBinary( inputStream );
+      } finally {
+        StreamUtil.close( inputStream );
+      }
     }
   }
 
   private class PostDeserializationValidation implements ObjectInputValidation {
-    private final SerializableBytes imageBytes;
+    private final ImageContent imageContent;
 
-    PostDeserializationValidation( SerializableBytes imageBytes ) {
-      this.imageBytes = imageBytes;
+    PostDeserializationValidation( ImageContent imageContent ) {
+      this.imageContent = imageContent;
     }
 
     public void validateObject() throws InvalidObjectException {
       PostDeserialization.addProcessor( getUISession(), new Runnable() {
         public void run() {
-          InputStream inputStream = new ByteArrayInputStream( imageBytes.data );
-          getResourceManager().register( image.internalImage.getResourceName(), inputStream );
+          if( !imageContent.registered ) {
+            imageContent.registered = true;
+            InputStream inputStream = new ByteArrayInputStream( imageContent.data );
+            getResourceManager().register( image.internalImage.getResourceName(), inputStream );
+          }
         }
       } );
     }
@@ -64,25 +99,25 @@ class ImageSerializer {
 
   void writeObject( ObjectOutputStream stream ) throws IOException {
     stream.defaultWriteObject();
-    stream.writeObject( new SerializableBytes( getImageBytes() ) );
+    stream.writeObject( getImageContent() );
   }
 
   void readObject( ObjectInputStream stream ) throws IOException, ClassNotFoundException {
     stream.defaultReadObject();
-    SerializableBytes imageBytes = ( SerializableBytes )stream.readObject();
-    stream.registerValidation( new PostDeserializationValidation( imageBytes ), 0 );
+    ImageContent imageContent = ( ImageContent )stream.readObject();
+    stream.registerValidation( new PostDeserializationValidation( imageContent ), 0 );
   }
 
-  private byte[] getImageBytes() {
-    String resourceName = image.internalImage.getResourceName();
-    InputStream inputStream = getResourceManager().getRegisteredContent( resourceName );
-    try {
-      return ResourceUtil.readBinary( inputStream );
-    } catch( IOException ioe ) {
-      throw new RuntimeException( ioe );
-    } finally {
-      StreamUtil.close( inputStream );
+  private ImageContent getImageContent() {
+    InternalImage internalImage = image.internalImage;
+    // Note: no need to synchronize, at worst concurrent writers create two instances and the
+    // content is written twice
+    ImageContent result = ( ImageContent )internalImage.getSerializableContent();
+    if( result == null ) {
+      result = new ImageContent( getResourceManager(), internalImage.getResourceName() );
+      internalImage.setSerializableContent( result );
     }
+    return result;
   }
 
   private UISession getUISession() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2012 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,8 +11,9 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.swt.graphics.ImageData;
@@ -25,13 +26,21 @@ final class ImageDataCache {
 
   /** Maximum size of image data that is being cached */
   private static final int MAX_DATA_SIZE = 1024;
+  /** Maximum number of image data that is being cached */
+  static final int MAX_ENTRIES = 256;
 
   private final Map<InternalImage,ImageData> cache;
   private final Object cacheLock;
 
   ImageDataCache() {
     cacheLock = new Object();
-    cache = new HashMap<InternalImage,ImageData>( 25 );
+    // least recently used image data is evicted first
+    cache = new LinkedHashMap<InternalImage,ImageData>( 25, 0.75f, true ) {
+      @Override
+      protected boolean removeEldestEntry( Entry<InternalImage,ImageData> eldest ) {
+        return size() > MAX_ENTRIES;
+      }
+    };
   }
 
   ImageData getImageData( InternalImage internalImage ) {
@@ -48,7 +57,6 @@ final class ImageDataCache {
     ParamCheck.notNull( imageData, "imageData" );
     if( imageData.data.length <= MAX_DATA_SIZE ) {
       synchronized( cacheLock ) {
-        // TODO [rst] Implement replacement strategy (LRU or LFU)
         cache.put( internalImage, ( ImageData )imageData.clone() );
       }
     }
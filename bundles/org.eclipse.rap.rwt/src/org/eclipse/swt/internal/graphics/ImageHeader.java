@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import org.eclipse.swt.SWT;
+
+
+/*
+ * Reads the format and the dimensions of an image from the header of its encoded content without
+ * decoding the pixel data. Supports PNG, GIF, JPEG and BMP. For GIF images, the dimensions of the
+ * first frame are reported, since this is what an ImageData created from the stream would contain.
+ * As a cheap check for truncated content, the content must also end with the end marker of its
+ * format (or, for BMP, be at least as long as the file size in the header).
+ */
+final class ImageHeader {
+
+  final int type;
+  final int width;
+  final int height;
+
+  ImageHeader( int type, int width, int height ) {
+    this.type = type;
+    this.width = width;
+    this.height = height;
+  }
+
+  /*
+   * Returns null if the format is not recognized, the header is malformed or the content does not
+   * end like a complete image of its format
+   */
+  static ImageHeader read( byte[] content ) {
+    ImageHeader result = null;
+    try {
+      if( isPNG( content ) ) {
+        result = readPNG( content );
+      } else if( isGIF( content ) ) {
+        result = readGIF( content );
+      } else if( isJPEG( content ) ) {
+        result = readJPEG( content );
+      } else if( isBMP( content ) ) {
+        result = readBMP( content );
+      }
+    } catch( @SuppressWarnings( "unused" ) ArrayIndexOutOfBoundsException exception ) {
+      // truncated header
+      result = null;
+    }
+    if( result != null && ( result.width <= 0 || result.height <= 0 ) ) {
+      result = null;
+    }
+    if( result != null && !isComplete( content, result.type ) ) {
+      result = null;
+    }
+    return result;
+  }
+
+  private static boolean isComplete( byte[] content, int type ) {
+    boolean result;
+    if( type == SWT.IMAGE_PNG ) {
+      // IEND chunk type followed by its CRC
+      result = endsWith( content, 8, 'I', 'E', 'N', 'D' );
+    } else if( type == SWT.IMAGE_GIF ) {
+      // trailer
+      result = endsWith( content, 1, 0x3b );
+    } else if( type == SWT.IMAGE_JPEG ) {
+      // end of image marker
+      result = endsWith( content, 2, 0xff, 0xd9 );
+    } else {
+      // the file size is stored in the BMP file header
+      result = readIntLE( content, 2 ) <= content.length;
+    }
+    return result;
+  }
+
+  private static boolean isPNG( byte[] content ) {
+    return startsWith( content, 0x89, 'P', 'N', 'G', 0x0d, 0x0a, 0x1a, 0x0a );
+  }
+
+  private static ImageHeader readPNG( byte[] content ) {
+    // the IHDR chunk must come first
+    ImageHeader result = null;
+    if(    content[ 12 ] == 'I'
+        && content[ 13 ] == 'H'
+        && content[ 14 ] == 'D'
+        && content[ 15 ] == 'R' )
+    {
+      int width = readIntBE( content, 16 );
+      int height = readIntBE( content, 20 );
+      result = new ImageHeader( SWT.IMAGE_PNG, width, height );
+    }
+    return result;
+  }
+
+  private static boolean isGIF( byte[] content ) {
+    return startsWith( content, 'G', 'I', 'F', '8' );
+  }
+
+  private static ImageHeader readGIF( byte[] content ) {
+    int offset = 13;
+    int flags = content[ 10 ] & 0xff;
+    if( ( flags & 0x80 ) != 0 ) {
+      // skip global color table
+      offset += 3 * ( 1 << ( ( flags & 0x07 ) + 1 ) );
+    }
+    while( ( content[ offset ] & 0xff ) == 0x21 ) {
+      // skip extension blocks, they consist of a label and a sequence of sub-blocks
+      offset += 2;
+      int blockSize = content[ offset ] & 0xff;
+      while( blockSize != 0 ) {
+        offset += blockSize + 1;
+        blockSize = content[ offset ] & 0xff;
+      }
+      offset++;
+    }
+    ImageHeader result = null;
+    if( ( content[ offset ] & 0xff ) == 0x2c ) {
+      int width = readShortLE( content, offset + 5 );
+      int height = readShortLE( content, offset + 7 );
+      result = new ImageHeader( SWT.IMAGE_GIF, width, height );
+    }
+    return result;
+  }
+
+  private static boolean isJPEG( byte[] content ) {
+    return startsWith( content, 0xff, 0xd8 );
+  }
+
+  private static ImageHeader readJPEG( byte[] content ) {
+    ImageHeader result = null;
+    int offset = 2;
+    while( result == null && offset < content.length ) {
+      if( ( content[ offset ] & 0xff ) != 0xff ) {
+        return null;
+      }
+      int marker = content[ offset + 1 ] & 0xff;
+      if( marker == 0xff ) {
+        // fill byte
+        offset++;
+      } else if( marker == 0x01 || marker >= 0xd0 && marker <= 0xd8 ) {
+        // standalone marker without length
+        offset += 2;
+      } else if( marker == 0xd9 || marker == 0xda ) {
+        // end of image or start of scan before any frame header
+        return null;
+      } else if( isStartOfFrame( marker ) ) {
+        int height = readShortBE( content, offset + 5 );
+        int width = readShortBE( content, offset + 7 );
+        result = new ImageHeader( SWT.IMAGE_JPEG, width, height );
+      } else {
+        offset += 2 + readShortBE( content, offset + 2 );
+      }
+    }
+    return result;
+  }
+
+  private static boolean isStartOfFrame( int marker ) {
+    return    marker >= 0xc0
+           && marker <= 0xcf
+           && marker != 0xc4
+           && marker != 0xc8
+           && marker != 0xcc;
+  }
+
+  private static boolean isBMP( byte[] content ) {
+    return startsWith( content, 'B', 'M' );
+  }
+
+  private static ImageHeader readBMP( byte[] content ) {
+    int width;
+    int height;
+    int headerSize = readIntLE( content, 14 );
+    if( headerSize == 12 ) {
+      // OS/2 bitmap core header
+      width = readShortLE( content, 18 );
+      height = readShortLE( content, 20 );
+    } else {
+      // top-down bitmaps have a negative height, leave them to the decoder
+      width = readIntLE( content, 18 );
+      height = readIntLE( content, 22 );
+    }
+    return new ImageHeader( SWT.IMAGE_BMP, width, height );
+  }
+
+  private static boolean startsWith( byte[] content, int... signature ) {
+    if( content.length < signature.length ) {
+      return false;
+    }
+    for( int i = 0; i < signature.length; i++ ) {
+      if( ( content[ i ] & 0xff ) != signature[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean endsWith( byte[] content, int offsetFromEnd, int... signature ) {
+    int offset = content.length - offsetFromEnd;
+    if( offset < 0 ) {
+      return false;
+    }
+    for( int i = 0; i < signature.length; i++ ) {
+      if( ( content[ offset + i ] & 0xff ) != signature[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int readIntBE( byte[] content, int offset ) {
+    return   ( content[ offset ] & 0xff ) << 24
+           | ( content[ offset + 1 ] & 0xff ) << 16
+           | ( content[ offset + 2 ] & 0xff ) << 8
+           | content[ offset + 3 ] & 0xff;
+  }
+
+  private static int readIntLE( byte[] content, int offset ) {
+    return   ( content[ offset + 3 ] & 0xff ) << 24
+           | ( content[ offset + 2 ] & 0xff ) << 16
+           | ( content[ offset + 1 ] & 0xff ) << 8
+           | content[ offset ] & 0xff;
+  }
+
+  private static int readShortBE( byte[] content, int offset ) {
+    return ( content[ offset ] & 0xff ) << 8 | content[ offset + 1 ] & 0xff;
+  }
+
+  private static int readShortLE( byte[] content, int offset ) {
+    return ( content[ offset + 1 ] & 0xff ) << 8 | content[ offset ] & 0xff;
+  }
+
+}
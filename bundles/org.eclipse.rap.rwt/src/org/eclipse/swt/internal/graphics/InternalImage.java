@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,6 +27,7 @@ public final class InternalImage implements SerializableCompatibility {
   private final int width;
   private final int height;
   private final boolean external;
+  private transient volatile Object serializableContent;
 
   InternalImage( String resourceName, int width, int height, boolean external ) {
     ParamCheck.notNull( resourceName, "resourceName" );
@@ -55,4 +56,16 @@ public final class InternalImage implements SerializableCompatibility {
     return external;
   }
 
+  /*
+   * Holds the object that the ImageSerializer writes for all images that share this internal
+   * image. It is not part of the serialized state of this internal image.
+   */
+  public Object getSerializableContent() {
+    return serializableContent;
+  }
+
+  public void setSerializableContent( Object serializableContent ) {
+    this.serializableContent = serializableContent;
+  }
+
 }
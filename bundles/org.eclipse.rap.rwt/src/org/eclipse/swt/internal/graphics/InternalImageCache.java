@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.swt.graphics.Rectangle;
+
+
+/**
+ * Application scoped cache of internal images with a bounded size.
+ * <p>
+ * Recently used images are retained by the cache until the total weight of these images, that is
+ * the number of their pixels, exceeds the maximum weight. Images that were not used since they
+ * were last visited are evicted first (clock algorithm, like in TextSizeStorage). Evicted images
+ * remain available as long as they are referenced elsewhere, e.g. by an <code>Image</code>, since
+ * they may still be displayed on a client. Once an evicted image has been garbage collected, the
+ * registered resource of the image is released.
+ * </p>
+ * <p>
+ * Cached images are returned without locking. New images are created outside of the lock, so that
+ * a slow image creation does not block other lookups. Concurrent requests for the same key wait
+ * for the image that is already being created.
+ * </p>
+ */
+public class InternalImageCache {
+
+  private final long maxWeight;
+  private final ResourceReleaser releaser;
+  private final Object lock;
+  private final Map<String, ImageReference> references;
+  private final Map<String, FutureTask<InternalImage>> pending;
+  private final Map<String, RetainedImage> retained;
+  private final Queue<RetainedImage> clock;
+  private final Map<String, Integer> resourceUsages;
+  private final ReferenceQueue<InternalImage> queue;
+  private final AtomicLong hitCount;
+  private final AtomicLong missCount;
+  private long weight;
+  private long evictionCount;
+
+  InternalImageCache( long maxWeight, ResourceReleaser releaser ) {
+    this.maxWeight = maxWeight;
+    this.releaser = releaser;
+    lock = new Object();
+    references = new ConcurrentHashMap<>();
+    pending = new ConcurrentHashMap<>();
+    retained = new ConcurrentHashMap<>();
+    clock = new ArrayDeque<>();
+    resourceUsages = new HashMap<>();
+    queue = new ReferenceQueue<>();
+    hitCount = new AtomicLong();
+    missCount = new AtomicLong();
+  }
+
+  InternalImage get( String key, InstanceCreator<String, InternalImage> instanceCreator ) {
+    InternalImage result = getReferencedImage( key );
+    if( result != null ) {
+      hitCount.incrementAndGet();
+      markAccessed( key, result );
+    } else {
+      result = getOrCreate( key, instanceCreator );
+    }
+    return result;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getEvictionCount() {
+    synchronized( lock ) {
+      return evictionCount;
+    }
+  }
+
+  public long getWeight() {
+    synchronized( lock ) {
+      return weight;
+    }
+  }
+
+  public int size() {
+    synchronized( lock ) {
+      releaseCollectedImages();
+      return references.size();
+    }
+  }
+
+  private InternalImage getReferencedImage( String key ) {
+    ImageReference reference = references.get( key );
+    return reference == null ? null : reference.get();
+  }
+
+  private InternalImage getOrCreate( final String key,
+                                     final InstanceCreator<String, InternalImage> instanceCreator )
+  {
+    FutureTask<InternalImage> task = new FutureTask<>( new Callable<InternalImage>() {
+      @Override
+      public InternalImage call() {
+        return create( key, instanceCreator );
+      }
+    } );
+    FutureTask<InternalImage> existingTask = pending.putIfAbsent( key, task );
+    if( existingTask != null ) {
+      hitCount.incrementAndGet();
+      return getResult( existingTask );
+    }
+    try {
+      task.run();
+      return getResult( task );
+    } finally {
+      pending.remove( key, task );
+    }
+  }
+
+  private InternalImage create( String key, InstanceCreator<String, InternalImage> instanceCreator ) {
+    // the image may have been published before this thread claimed the key
+    InternalImage result = getReferencedImage( key );
+    if( result != null ) {
+      hitCount.incrementAndGet();
+      markAccessed( key, result );
+    } else {
+      missCount.incrementAndGet();
+      result = instanceCreator.createInstance( key );
+      publish( key, result );
+    }
+    return result;
+  }
+
+  private void publish( String key, InternalImage image ) {
+    synchronized( lock ) {
+      releaseCollectedImages();
+      references.put( key, new ImageReference( key, image, queue ) );
+      addResourceUsage( image.getResourceName() );
+      retain( key, image );
+    }
+  }
+
+  private void markAccessed( String key, InternalImage image ) {
+    RetainedImage retainedImage = retained.get( key );
+    if( retainedImage != null && retainedImage.image == image ) {
+      retainedImage.accessed = true;
+    } else {
+      // the image has been evicted but is still referenced elsewhere
+      synchronized( lock ) {
+        retain( key, image );
+      }
+    }
+  }
+
+  private void retain( String key, InternalImage image ) {
+    RetainedImage retainedImage = retained.get( key );
+    if( retainedImage == null || retainedImage.image != image ) {
+      RetainedImage newRetainedImage = new RetainedImage( key, image );
+      RetainedImage replaced = retained.put( key, newRetainedImage );
+      if( replaced != null ) {
+        weight -= replaced.weight;
+      }
+      clock.offer( newRetainedImage );
+      weight += newRetainedImage.weight;
+      evictImages();
+    }
+  }
+
+  private void evictImages() {
+    // always retain at least one image, even if it exceeds the maximum weight
+    while( weight > maxWeight && retained.size() > 1 ) {
+      RetainedImage retainedImage = clock.poll();
+      if( retained.get( retainedImage.key ) == retainedImage ) {
+        if( retainedImage.accessed ) {
+          retainedImage.accessed = false;
+          clock.offer( retainedImage );
+        } else {
+          retained.remove( retainedImage.key );
+          weight -= retainedImage.weight;
+        }
+      }
+    }
+  }
+
+  private void releaseCollectedImages() {
+    ImageReference reference = ( ImageReference )queue.poll();
+    while( reference != null ) {
+      // the key may have been taken over by a new image in the meantime
+      references.remove( reference.key, reference );
+      removeResourceUsage( reference.resourceName );
+      reference = ( ImageReference )queue.poll();
+    }
+  }
+
+  private void addResourceUsage( String resourceName ) {
+    Integer usages = resourceUsages.get( resourceName );
+    int newUsages = usages == null ? 1 : usages.intValue() + 1;
+    resourceUsages.put( resourceName, Integer.valueOf( newUsages ) );
+  }
+
+  private void removeResourceUsage( String resourceName ) {
+    // different keys may share the same resource, e.g. when the same image is read from a file
+    // and from a stream
+    int usages = resourceUsages.get( resourceName ).intValue() - 1;
+    if( usages == 0 ) {
+      resourceUsages.remove( resourceName );
+      evictionCount++;
+      releaser.release( resourceName );
+    } else {
+      resourceUsages.put( resourceName, Integer.valueOf( usages ) );
+    }
+  }
+
+  private static InternalImage getResult( FutureTask<InternalImage> task ) {
+    boolean interrupted = false;
+    try {
+      while( true ) {
+        try {
+          return task.get();
+        } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+          interrupted = true;
+        } catch( ExecutionException exception ) {
+          Throwable cause = exception.getCause();
+          if( cause instanceof RuntimeException ) {
+            throw ( RuntimeException )cause;
+          }
+          if( cause instanceof Error ) {
+            throw ( Error )cause;
+          }
+          throw new IllegalStateException( cause );
+        }
+      }
+    } finally {
+      if( interrupted ) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static long getWeight( InternalImage image ) {
+    Rectangle bounds = image.getBounds();
+    return ( long )bounds.width * bounds.height;
+  }
+
+  interface ResourceReleaser {
+    void release( String resourceName );
+  }
+
+  private static final class RetainedImage {
+
+    private final String key;
+    private final InternalImage image;
+    private final long weight;
+    private volatile boolean accessed;
+
+    RetainedImage( String key, InternalImage image ) {
+      this.key = key;
+      this.image = image;
+      weight = getWeight( image );
+    }
+
+  }
+
+  private static final class ImageReference extends WeakReference<InternalImage> {
+
+    private final String key;
+    private final String resourceName;
+
+    ImageReference( String key, InternalImage image, ReferenceQueue<InternalImage> queue ) {
+      super( image, queue );
+      this.key = key;
+      resourceName = image.getResourceName();
+    }
+
+  }
+
+}
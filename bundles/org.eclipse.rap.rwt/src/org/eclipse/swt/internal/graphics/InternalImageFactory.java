@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.graphics;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
@@ -20,21 +19,38 @@ import java.io.InputStream;
 import java.util.zip.CRC32;
 
 import org.eclipse.rap.rwt.RWT;
-import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageLoader;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.internal.graphics.InternalImageCache.ResourceReleaser;
 
 
 public class InternalImageFactory {
 
-  private final SharedInstanceBuffer<String, InternalImage> cache;
+  // maximum number of pixels of the images that are retained when no longer in use
+  private static final int DEFAULT_CACHE_SIZE = 16 * 1024 * 1024;
+
+  private final InternalImageCache cache;
 
   public InternalImageFactory() {
-    cache = new SharedInstanceBuffer<String, InternalImage>();
+    this( RWTProperties.getImageCacheSize( DEFAULT_CACHE_SIZE ) );
+  }
+
+  InternalImageFactory( long cacheSize ) {
+    cache = new InternalImageCache( cacheSize, new ResourceReleaser() {
+      @Override
+      public void release( String resourceName ) {
+        RWT.getResourceManager().unregister( resourceName );
+      }
+    } );
+  }
+
+  public InternalImageCache getCache() {
+    return cache;
   }
 
   public InternalImage findInternalImage( final String fileName ) {
@@ -46,22 +62,24 @@ public class InternalImageFactory {
   }
 
   public InternalImage findInternalImage( InputStream stream ) {
-    final BufferedInputStream bufferedStream = new BufferedInputStream( stream );
-    final ImageData imageData = readImageData( bufferedStream );
-    final String path = createGeneratedImagePath( imageData );
+    CRC32 crc32 = new CRC32();
+    final byte[] content = readContent( stream, crc32 );
+    final ImageHeader header = readImageHeader( content );
+    String path = createGeneratedImagePath( header.type, Long.toHexString( crc32.getValue() ) );
     return cache.get( path, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String path ) {
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( path, content, header );
       }
     } );
   }
 
   public InternalImage findInternalImage( final ImageData imageData ) {
-    final String path = createGeneratedImagePath( imageData );
+    String path = createGeneratedImagePath( getOutputFormat( imageData ), getHash( imageData ) );
     return cache.get( path, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String path ) {
         InputStream stream = createInputStream( imageData );
-        return createInternalImage( path, stream, imageData );
+        RWT.getResourceManager().register( path, stream );
+        return new InternalImage( path, imageData.width, imageData.height, false );
       }
     } );
   }
@@ -69,31 +87,22 @@ public class InternalImageFactory {
   InternalImage findInternalImage( String key, final InputStream inputStream ) {
     return cache.get( key, new InstanceCreator<String, InternalImage>() {
       public InternalImage createInstance( String key ) {
-        BufferedInputStream bufferedStream = new BufferedInputStream( inputStream );
-        ImageData imageData = readImageData( bufferedStream );
-        String path = createGeneratedImagePath( imageData );
-        return createInternalImage( path, bufferedStream, imageData );
+        return createInternalImage( inputStream );
       }
     } );
   }
 
-  static ImageData readImageData( InputStream stream ) throws SWTException {
-    ////////////////////////////////////////////////////////////////////////////
-    // TODO: [fappel] Image size calculation and resource registration both
-    //                read the input stream. Because of this I use a workaround
-    //                with a BufferedInputStream. Resetting it after reading the
-    //                image size enables the ResourceManager to reuse it for
-    //                registration. Note that the order is crucial here, since
-    //                the ResourceManager seems to close the stream (shrug).
-    //                It would be nice to find a solution without reading the
-    //                stream twice.
-    stream.mark( Integer.MAX_VALUE );
-    ImageData result = new ImageData( stream );
-    try {
-      stream.reset();
-    } catch( IOException shouldNotHappen ) {
-      String msg = "Could not reset input stream after reading image";
-      throw new RuntimeException( msg, shouldNotHappen );
+  /*
+   * Reads the image format and size from the image header. Only if the format is not supported
+   * by ImageHeader or the content appears to be truncated, the image is decoded completely, so
+   * that invalid content fails with an SWTException right away. Otherwise, the pixel data is
+   * decoded only when the ImageData is actually requested (see ImageDataFactory).
+   */
+  static ImageHeader readImageHeader( byte[] content ) throws SWTException {
+    ImageHeader result = ImageHeader.read( content );
+    if( result == null ) {
+      ImageData imageData = new ImageData( new ByteArrayInputStream( content ) );
+      result = new ImageHeader( getOutputFormat( imageData ), imageData.width, imageData.height );
     }
     return result;
   }
@@ -123,18 +132,41 @@ public class InternalImageFactory {
   }
 
   private static InternalImage createInternalImage( InputStream stream ) {
-    InputStream bufferedStream = new BufferedInputStream( stream );
-    ImageData imageData = readImageData( bufferedStream );
-    String path = createGeneratedImagePath( imageData );
-    return createInternalImage( path, bufferedStream, imageData );
+    CRC32 crc32 = new CRC32();
+    byte[] content = readContent( stream, crc32 );
+    ImageHeader header = readImageHeader( content );
+    String path = createGeneratedImagePath( header.type, Long.toHexString( crc32.getValue() ) );
+    return createInternalImage( path, content, header );
   }
 
   private static InternalImage createInternalImage( String path,
-                                                    InputStream stream,
-                                                    ImageData imageData )
+                                                    byte[] content,
+                                                    ImageHeader header )
   {
-    RWT.getResourceManager().register( path, stream );
-    return new InternalImage( path, imageData.width, imageData.height, false );
+    RWT.getResourceManager().register( path, new ByteArrayInputStream( content ) );
+    return new InternalImage( path, header.width, header.height, false );
+  }
+
+  /*
+   * Reads the encoded image and computes the CRC32 value of the raw bytes while reading
+   */
+  private static byte[] readContent( InputStream stream, CRC32 crc32 ) {
+    if( stream == null ) {
+      throw new SWTException( SWT.ERROR_IO, "Stream is null" );
+    }
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 8192 ];
+    try {
+      int read = stream.read( buffer );
+      while( read != -1 ) {
+        crc32.update( buffer, 0, read );
+        result.write( buffer, 0, read );
+        read = stream.read( buffer );
+      }
+    } catch( IOException ioe ) {
+      throw new SWTException( SWT.ERROR_IO, ioe.getMessage() );
+    }
+    return result.toByteArray();
   }
 
   private static int getOutputFormat( ImageData imageData ) {
@@ -145,10 +177,9 @@ public class InternalImageFactory {
     return result;
   }
 
-  private static String createGeneratedImagePath( ImageData data ) {
-    int outputFormat = getOutputFormat( data );
+  private static String createGeneratedImagePath( int type, String hash ) {
     String extension;
-    switch( outputFormat ) {
+    switch( type ) {
       case SWT.IMAGE_BMP:
       case SWT.IMAGE_BMP_RLE:
         extension = ".bmp";
@@ -170,8 +201,7 @@ public class InternalImageFactory {
         extension = ".png";
         break;
     }
-    String hash = getHash( data ) + extension;
-    return "generated/" + hash;
+    return "generated/" + hash + extension;
   }
 
   /*
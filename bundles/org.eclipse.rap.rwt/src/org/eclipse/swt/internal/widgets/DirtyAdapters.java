@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.internal.SerializableCompatibility;
+
+
+/*
+ * Keeps track of the remote adapters of a display that hold preserved values. Clearing the
+ * preserved values at the end of a lifecycle phase only needs to visit these adapters instead of
+ * the entire widget tree.
+ */
+public class DirtyAdapters implements SerializableCompatibility {
+
+  private static final long serialVersionUID = 1L;
+
+  private final List<WidgetRemoteAdapter> adapters;
+
+  public DirtyAdapters() {
+    adapters = new ArrayList<>();
+  }
+
+  void add( WidgetRemoteAdapter adapter ) {
+    adapters.add( adapter );
+  }
+
+  public int size() {
+    return adapters.size();
+  }
+
+  public void clearPreserved() {
+    for( WidgetRemoteAdapter adapter : adapters ) {
+      adapter.clearPreserved();
+    }
+    adapters.clear();
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2013 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -28,6 +28,12 @@ public interface IDisplayAdapter {
   boolean isFocusInvalidated();
   Shell[] getShells();
   UISession getUISession();
+  DirtyAdapters getDirtyAdapters();
+  int getPendingTimerExecCount();
+  int getPendingRunnableCount();
+  long getExecutedRunnableCount();
+  long getTotalRunnableWaitTime();
+  long getMaxRunnableWaitTime();
 
   void attachThread();
   void detachThread();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2018 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,41 +12,137 @@ package org.eclipse.swt.internal.widgets;
 
 import java.io.StringReader;
 import java.text.MessageFormat;
+import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
+import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.SingletonUtil;
-import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.widgets.Widget;
 import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
 import org.xml.sax.helpers.DefaultHandler;
 
 
-public class MarkupValidator implements SerializableCompatibility {
+/**
+ * Validates markup texts against the supported subset of HTML. The markup must be well-formed
+ * XML that contains only the supported elements, attributes and entities.
+ * <p>
+ * Markup is checked in a single pass over the text. Only texts with comments, CDATA sections or
+ * processing instructions are handed to a SAX parser. Valid texts are remembered in a bounded
+ * cache, as the same texts are often validated again, e.g. when a table is refreshed. The cache is
+ * shared by all sessions of an application and can be read without locking. When it is full,
+ * entries that were not used recently are evicted (clock algorithm, like in TextSizeStorage).
+ * </p>
+ */
+public class MarkupValidator {
 
   // Used by Eclipse Scout project
   public static final String MARKUP_VALIDATION_DISABLED
     = "org.eclipse.rap.rwt.markupValidationDisabled";
 
+  static final int CACHE_SIZE = 4096;
+  static final int MAX_CACHED_LENGTH = 512;
+  private static final String PARSE_ERROR_MESSAGE = "Failed to parse markup text";
+  private static final Map<String, Integer> ENTITIES = createEntitiesMap();
   private static final String DTD = createDTD();
   private static final Map<String, String[]> SUPPORTED_ELEMENTS = createSupportedElementsMap();
-  private transient final SAXParser saxParser;
+
+  private final ConcurrentHashMap<String, Entry> cache;
+  private final Queue<String> clock;
+  private final Lock evictionLock;
+
+  private static class Entry {
+    private volatile boolean accessed;
+  }
 
   public static MarkupValidator getInstance() {
-    return SingletonUtil.getSessionInstance( MarkupValidator.class );
+    return SingletonUtil.getUniqueInstance( MarkupValidator.class, RWT.getApplicationContext() );
   }
 
   public MarkupValidator() {
-    saxParser = createSAXParser();
+    cache = new ConcurrentHashMap<>();
+    clock = new ConcurrentLinkedQueue<>();
+    evictionLock = new ReentrantLock();
   }
 
   public void validate( String text ) {
+    if( !isValidated( text ) ) {
+      if( requiresSAXParser( text ) ) {
+        validateWithSAXParser( text );
+      } else {
+        new MarkupParser( text ).parse();
+      }
+      if( text.length() <= MAX_CACHED_LENGTH ) {
+        addToCache( text );
+      }
+    }
+  }
+
+  public static boolean isValidationDisabledFor( Widget widget ) {
+    return Boolean.TRUE.equals( widget.getData( MARKUP_VALIDATION_DISABLED ) );
+  }
+
+  boolean isValidated( String text ) {
+    Entry entry = cache.get( text );
+    if( entry != null ) {
+      entry.accessed = true;
+    }
+    return entry != null;
+  }
+
+  private void addToCache( String text ) {
+    if( cache.putIfAbsent( text, new Entry() ) == null ) {
+      clock.offer( text );
+      // only one thread evicts at a time, the others continue without waiting
+      if( cache.size() > CACHE_SIZE && evictionLock.tryLock() ) {
+        try {
+          evictEntries();
+        } finally {
+          evictionLock.unlock();
+        }
+      }
+    }
+  }
+
+  private void evictEntries() {
+    // every entry is visited at most twice, the second time without access flag
+    int visits = 2 * cache.size();
+    while( cache.size() > CACHE_SIZE && visits > 0 ) {
+      String text = clock.poll();
+      if( text == null ) {
+        return;
+      }
+      visits--;
+      Entry entry = cache.get( text );
+      if( entry != null ) {
+        if( entry.accessed ) {
+          entry.accessed = false;
+          clock.offer( text );
+        } else {
+          cache.remove( text, entry );
+        }
+      }
+    }
+  }
+
+  private static boolean requiresSAXParser( String text ) {
+    return text.contains( "<!" ) || text.contains( "<?" );
+  }
+
+  private static void validateWithSAXParser( String text ) {
     StringBuilder markup = new StringBuilder();
     markup.append( DTD );
     markup.append( "<html>" );
@@ -54,18 +150,14 @@ public class MarkupValidator implements SerializableCompatibility {
     markup.append( "</html>" );
     InputSource inputSource = new InputSource( new StringReader( markup.toString() ) );
     try {
-      saxParser.parse( inputSource, new MarkupHandler() );
+      createSAXParser().parse( inputSource, new MarkupHandler() );
     } catch( RuntimeException exception ) {
       throw exception;
     } catch( Exception exception ) {
-      throw new IllegalArgumentException( "Failed to parse markup text", exception );
+      throw new IllegalArgumentException( PARSE_ERROR_MESSAGE, exception );
     }
   }
 
-  public static boolean isValidationDisabledFor( Widget widget ) {
-    return Boolean.TRUE.equals( widget.getData( MARKUP_VALIDATION_DISABLED ) );
-  }
-
   private static SAXParser createSAXParser() {
     SAXParser result = null;
     SAXParserFactory parserFactory = SAXParserFactory.newInstance();
@@ -77,19 +169,31 @@ public class MarkupValidator implements SerializableCompatibility {
     return result;
   }
 
+  private static Map<String, Integer> createEntitiesMap() {
+    Map<String, Integer> result = new LinkedHashMap<>();
+    result.put( "quot", Integer.valueOf( 34 ) );
+    result.put( "amp", Integer.valueOf( 38 ) );
+    result.put( "apos", Integer.valueOf( 39 ) );
+    result.put( "lt", Integer.valueOf( 60 ) );
+    result.put( "gt", Integer.valueOf( 62 ) );
+    result.put( "nbsp", Integer.valueOf( 160 ) );
+    result.put( "ensp", Integer.valueOf( 8194 ) );
+    result.put( "emsp", Integer.valueOf( 8195 ) );
+    result.put( "ndash", Integer.valueOf( 8211 ) );
+    result.put( "mdash", Integer.valueOf( 8212 ) );
+    return result;
+  }
+
   private static String createDTD() {
     StringBuilder result = new StringBuilder();
     result.append( "<!DOCTYPE html [" );
-    result.append( "<!ENTITY quot \"&#34;\">" );
-    result.append( "<!ENTITY amp \"&#38;\">" );
-    result.append( "<!ENTITY apos \"&#39;\">" );
-    result.append( "<!ENTITY lt \"&#60;\">" );
-    result.append( "<!ENTITY gt \"&#62;\">" );
-    result.append( "<!ENTITY nbsp \"&#160;\">" );
-    result.append( "<!ENTITY ensp \"&#8194;\">" );
-    result.append( "<!ENTITY emsp \"&#8195;\">" );
-    result.append( "<!ENTITY ndash \"&#8211;\">" );
-    result.append( "<!ENTITY mdash \"&#8212;\">" );
+    for( Map.Entry<String, Integer> entity : ENTITIES.entrySet() ) {
+      result.append( "<!ENTITY " );
+      result.append( entity.getKey() );
+      result.append( " \"&#" );
+      result.append( entity.getValue() );
+      result.append( ";\">" );
+    }
     result.append( "]>" );
     return result.toString();
   }
@@ -123,60 +227,311 @@ public class MarkupValidator implements SerializableCompatibility {
     return result;
   }
 
-  private static class MarkupHandler extends DefaultHandler {
+  private static void checkElement( String elementName, List<String> names, List<String> values ) {
+    checkSupportedElements( elementName );
+    checkSupportedAttributes( elementName, names );
+    checkMandatoryAttributes( elementName, names, values );
+  }
 
-    @Override
-    public void startElement( String uri, String localName, String name, Attributes attributes ) {
-      checkSupportedElements( name );
-      checkSupportedAttributes( name, attributes );
-      checkMandatoryAttributes( name, attributes );
+  private static void checkSupportedElements( String elementName ) {
+    if( !SUPPORTED_ELEMENTS.containsKey( elementName ) ) {
+      throw new IllegalArgumentException( "Unsupported element in markup text: " + elementName );
+    }
+  }
+
+  private static void checkSupportedAttributes( String elementName, List<String> names ) {
+    if( !names.isEmpty() ) {
+      List<String> supportedAttributes = Arrays.asList( SUPPORTED_ELEMENTS.get( elementName ) );
+      for( String attributeName : names ) {
+        if( !supportedAttributes.contains( attributeName ) ) {
+          String message = "Unsupported attribute \"{0}\" for element \"{1}\" in markup text";
+          message = MessageFormat.format( message, new Object[] { attributeName, elementName } );
+          throw new IllegalArgumentException( message );
+        }
+      }
     }
+  }
+
+  private static void checkMandatoryAttributes( String elementName,
+                                                List<String> names,
+                                                List<String> values )
+  {
+    checkIntAttribute( elementName, names, values, "img", "width" );
+    checkIntAttribute( elementName, names, values, "img", "height" );
+  }
 
-    private static void checkSupportedElements( String elementName ) {
-      if( !SUPPORTED_ELEMENTS.containsKey( elementName ) ) {
-        throw new IllegalArgumentException( "Unsupported element in markup text: " + elementName );
+  private static void checkIntAttribute( String elementName,
+                                         List<String> names,
+                                         List<String> values,
+                                         String checkedElementName,
+                                         String checkedAttributeName )
+  {
+    if( checkedElementName.equals( elementName ) ) {
+      int index = names.indexOf( checkedAttributeName );
+      String attribute = index == -1 ? null : values.get( index );
+      try {
+        Integer.parseInt( attribute );
+      } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+        String message
+          = "Mandatory attribute \"{0}\" for element \"{1}\" is missing or not a valid integer";
+        Object[] arguments = new Object[] { checkedAttributeName, checkedElementName };
+        message = MessageFormat.format( message, arguments );
+        throw new IllegalArgumentException( message );
       }
     }
+  }
+
+  /*
+   * Checks the markup like an XML parser would do for the content of the html element with the
+   * entities of the DTD above, apart from comments, CDATA sections and processing instructions.
+   */
+  private static final class MarkupParser {
+
+    private final String text;
+    private final List<String> openElements;
+    private final List<String> attributeNames;
+    private final List<String> attributeValues;
+    private int position;
 
-    private static void checkSupportedAttributes( String elementName, Attributes attributes ) {
-      if( attributes.getLength() > 0 ) {
-        List<String> supportedAttributes = Arrays.asList( SUPPORTED_ELEMENTS.get( elementName ) );
-        int index = 0;
-        String attributeName = attributes.getQName( index );
-        while( attributeName != null ) {
-          if( !supportedAttributes.contains( attributeName ) ) {
-            String message = "Unsupported attribute \"{0}\" for element \"{1}\" in markup text";
-            message = MessageFormat.format( message, new Object[] { attributeName, elementName } );
-            throw new IllegalArgumentException( message );
+    MarkupParser( String text ) {
+      this.text = text;
+      openElements = new ArrayList<>();
+      attributeNames = new ArrayList<>();
+      attributeValues = new ArrayList<>();
+    }
+
+    void parse() {
+      while( position < text.length() ) {
+        char ch = text.charAt( position );
+        if( ch == '<' ) {
+          position++;
+          if( position < text.length() && text.charAt( position ) == '/' ) {
+            position++;
+            parseEndTag();
+          } else {
+            parseStartTag();
           }
-          index++;
-          attributeName = attributes.getQName( index );
+        } else if( ch == '&' ) {
+          parseReference();
+        } else {
+          if( ch == ']' && text.startsWith( "]]>", position ) ) {
+            throw createParseError( "Sequence ]]> is not allowed in content" );
+          }
+          parseChar();
         }
       }
+      if( !openElements.isEmpty() ) {
+        throw createParseError( "Element is not closed: " + getLastOpenElement() );
+      }
     }
 
-    private static void checkMandatoryAttributes( String elementName, Attributes attributes ) {
-      checkIntAttribute( elementName, attributes, "img", "width" );
-      checkIntAttribute( elementName, attributes, "img", "height" );
+    private void parseStartTag() {
+      String elementName = parseName();
+      attributeNames.clear();
+      attributeValues.clear();
+      boolean empty = false;
+      boolean closed = false;
+      while( !closed ) {
+        boolean whitespace = skipWhitespace();
+        char ch = nextChar();
+        if( ch == '>' ) {
+          closed = true;
+        } else if( ch == '/' ) {
+          expectChar( '>' );
+          empty = true;
+          closed = true;
+        } else if( whitespace ) {
+          position--;
+          parseAttribute();
+        } else {
+          throw createParseError( "Whitespace expected" );
+        }
+      }
+      checkElement( elementName, attributeNames, attributeValues );
+      if( !empty ) {
+        openElements.add( elementName );
+      }
     }
 
-    private static void checkIntAttribute( String elementName,
-                                           Attributes attributes,
-                                           String checkedElementName,
-                                           String checkedAttributeName )
-    {
-      if( checkedElementName.equals( elementName ) ) {
-        String attribute = attributes.getValue( checkedAttributeName );
-        try {
-          Integer.parseInt( attribute );
-        } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
-          String message
-            = "Mandatory attribute \"{0}\" for element \"{1}\" is missing or not a valid integer";
-          Object[] arguments = new Object[] { checkedAttributeName, checkedElementName };
-          message = MessageFormat.format( message, arguments );
-          throw new IllegalArgumentException( message );
+    private void parseAttribute() {
+      String attributeName = parseName();
+      if( attributeNames.contains( attributeName ) ) {
+        throw createParseError( "Duplicate attribute: " + attributeName );
+      }
+      skipWhitespace();
+      expectChar( '=' );
+      skipWhitespace();
+      char quote = nextChar();
+      if( quote != '"' && quote != '\'' ) {
+        throw createParseError( "Attribute value must be quoted" );
+      }
+      int start = position;
+      StringBuilder value = null;
+      char ch = nextChar();
+      while( ch != quote ) {
+        if( ch == '<' ) {
+          throw createParseError( "Character < is not allowed in attribute values" );
+        }
+        position--;
+        if( ch == '&' ) {
+          if( value == null ) {
+            value = new StringBuilder( text.substring( start, position ) );
+          }
+          value.appendCodePoint( parseReference() );
+        } else {
+          int charStart = position;
+          parseChar();
+          if( value != null ) {
+            value.append( text, charStart, position );
+          }
+        }
+        ch = nextChar();
+      }
+      attributeNames.add( attributeName );
+      attributeValues.add( value == null ? text.substring( start, position - 1 ) : value.toString() );
+    }
+
+    private void parseEndTag() {
+      String elementName = parseName();
+      skipWhitespace();
+      expectChar( '>' );
+      if( openElements.isEmpty() || !getLastOpenElement().equals( elementName ) ) {
+        throw createParseError( "Unexpected end tag: " + elementName );
+      }
+      openElements.remove( openElements.size() - 1 );
+    }
+
+    private int parseReference() {
+      int start = ++position;
+      int end = text.indexOf( ';', start );
+      if( end == -1 ) {
+        throw createParseError( "Reference is not terminated" );
+      }
+      int result;
+      if( end > start && text.charAt( start ) == '#' ) {
+        result = parseCharacterReference( start + 1, end );
+      } else {
+        Integer entity = ENTITIES.get( text.substring( start, end ) );
+        if( entity == null ) {
+          throw createParseError( "Undeclared entity: " + text.substring( start, end ) );
         }
+        result = entity.intValue();
+      }
+      position = end + 1;
+      return result;
+    }
+
+    private int parseCharacterReference( int start, int end ) {
+      boolean hex = start < end && text.charAt( start ) == 'x';
+      int digitsStart = hex ? start + 1 : start;
+      int result = 0;
+      for( int i = digitsStart; i < end && result <= Character.MAX_CODE_POINT; i++ ) {
+        int digit = Character.digit( text.charAt( i ), hex ? 16 : 10 );
+        if( digit == -1 ) {
+          throw createParseError( "Invalid character reference" );
+        }
+        result = result * ( hex ? 16 : 10 ) + digit;
+      }
+      if( digitsStart == end || !isXMLChar( result ) ) {
+        throw createParseError( "Invalid character reference" );
+      }
+      return result;
+    }
+
+    private void parseChar() {
+      char ch = text.charAt( position++ );
+      if( Character.isHighSurrogate( ch ) ) {
+        if( position == text.length() || !Character.isLowSurrogate( text.charAt( position ) ) ) {
+          throw createParseError( "Invalid surrogate pair" );
+        }
+        position++;
+      } else if( !isXMLChar( ch ) ) {
+        throw createParseError( "Invalid character: " + Integer.toHexString( ch ) );
+      }
+    }
+
+    private String parseName() {
+      int start = position;
+      if( position < text.length() && isNameStartChar( text.charAt( position ) ) ) {
+        position++;
+        while( position < text.length() && isNameChar( text.charAt( position ) ) ) {
+          position++;
+        }
+      }
+      if( start == position ) {
+        throw createParseError( "Name expected" );
+      }
+      return text.substring( start, position );
+    }
+
+    private boolean skipWhitespace() {
+      int start = position;
+      while( position < text.length() && isWhitespace( text.charAt( position ) ) ) {
+        position++;
+      }
+      return position > start;
+    }
+
+    private void expectChar( char expected ) {
+      if( nextChar() != expected ) {
+        throw createParseError( "Character " + expected + " expected" );
+      }
+    }
+
+    private char nextChar() {
+      if( position == text.length() ) {
+        throw createParseError( "Unexpected end of markup" );
+      }
+      return text.charAt( position++ );
+    }
+
+    private String getLastOpenElement() {
+      return openElements.get( openElements.size() - 1 );
+    }
+
+    private IllegalArgumentException createParseError( String message ) {
+      ParseException cause = new ParseException( message, position );
+      return new IllegalArgumentException( PARSE_ERROR_MESSAGE, cause );
+    }
+
+    private static boolean isNameStartChar( char ch ) {
+      return Character.isLetter( ch ) || ch == '_' || ch == ':';
+    }
+
+    private static boolean isNameChar( char ch ) {
+      return    isNameStartChar( ch )
+             || Character.isDigit( ch )
+             || ch == '-'
+             || ch == '.'
+             || ch == '\u00B7';
+    }
+
+    private static boolean isWhitespace( char ch ) {
+      return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private static boolean isXMLChar( int codePoint ) {
+      return    codePoint == 0x9
+             || codePoint == 0xA
+             || codePoint == 0xD
+             || codePoint >= 0x20 && codePoint <= 0xD7FF
+             || codePoint >= 0xE000 && codePoint <= 0xFFFD
+             || codePoint >= 0x10000 && codePoint <= Character.MAX_CODE_POINT;
+    }
+
+  }
+
+  private static class MarkupHandler extends DefaultHandler {
+
+    @Override
+    public void startElement( String uri, String localName, String name, Attributes attributes ) {
+      List<String> names = new ArrayList<>();
+      List<String> values = new ArrayList<>();
+      for( int i = 0; i < attributes.getLength(); i++ ) {
+        names.add( attributes.getQName( i ) );
+        values.add( attributes.getValue( i ) );
       }
+      checkElement( name, names, values );
     }
 
   }
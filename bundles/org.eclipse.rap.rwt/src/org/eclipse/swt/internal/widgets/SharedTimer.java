@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+
+/*
+ * Application scoped timer that executes the timerExec tasks of all displays. Tasks only hand
+ * their runnable over to the display's synchronizer, hence a single thread serves all sessions.
+ */
+public class SharedTimer {
+
+  static final String THREAD_NAME = "RWT timerExec scheduler";
+
+  private final Object lock;
+  private ScheduledThreadPoolExecutor executor;
+  private boolean shutdown;
+
+  public SharedTimer() {
+    lock = new Object();
+  }
+
+  /*
+   * Returns null without scheduling the task when the timer was shut down, i.e. after the
+   * application was deactivated. Creating a new executor then would leak its thread.
+   */
+  public ScheduledFuture<?> schedule( Runnable task, long delay ) {
+    synchronized( lock ) {
+      if( shutdown ) {
+        return null;
+      }
+      return getExecutor().schedule( task, delay, TimeUnit.MILLISECONDS );
+    }
+  }
+
+  public void activate() {
+    synchronized( lock ) {
+      shutdown = false;
+    }
+  }
+
+  public int getScheduledTaskCount() {
+    synchronized( lock ) {
+      return executor == null ? 0 : executor.getQueue().size();
+    }
+  }
+
+  public void shutdown() {
+    synchronized( lock ) {
+      shutdown = true;
+      if( executor != null ) {
+        executor.shutdownNow();
+        executor = null;
+      }
+    }
+  }
+
+  private ScheduledThreadPoolExecutor getExecutor() {
+    if( executor == null ) {
+      executor = createExecutor();
+    }
+    return executor;
+  }
+
+  private static ScheduledThreadPoolExecutor createExecutor() {
+    ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor( 1, new ThreadFactory() {
+      @Override
+      public Thread newThread( Runnable runnable ) {
+        Thread thread = new Thread( runnable, THREAD_NAME );
+        thread.setDaemon( true );
+        return thread;
+      }
+    } );
+    // Cancelled tasks would otherwise stay in the queue until their delay elapsed
+    result.setRemoveOnCancelPolicy( true );
+    return result;
+  }
+
+}
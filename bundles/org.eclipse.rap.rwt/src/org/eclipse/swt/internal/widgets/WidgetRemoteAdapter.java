@@ -31,7 +31,9 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   private final String id;
   private Widget parent;
+  private DirtyAdapters dirtyAdapters;
   private boolean initialized;
+  private transient boolean dirty;
   private transient int preserved;
   private transient Map<String, Object> preservedValues;
   private transient long preservedListeners;
@@ -62,6 +64,10 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     return parent;
   }
 
+  public void setDirtyAdapters( DirtyAdapters dirtyAdapters ) {
+    this.dirtyAdapters = dirtyAdapters;
+  }
+
   @Override
   public boolean isInitialized() {
     return initialized;
@@ -73,6 +79,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
 
   @Override
   public void preserve( String propertyName, Object value ) {
+    markDirty();
     preservedValues.put( propertyName, value );
   }
 
@@ -121,6 +128,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   }
 
   public void clearPreserved() {
+    dirty = false;
     preserved = 0;
     preservedValues.clear();
     preservedListeners = 0;
@@ -129,6 +137,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   }
 
   protected void markPreserved( int index ) {
+    markDirty();
     preserved |= ( 1 << index );
   }
 
@@ -166,6 +175,13 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     }
   }
 
+  private void markDirty() {
+    if( !dirty && dirtyAdapters != null ) {
+      dirty = true;
+      dirtyAdapters.add( this );
+    }
+  }
+
   private Object readResolve() {
     initialize();
     return this;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.swt.layout;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.internal.SerializableCompatibility;
@@ -393,9 +396,10 @@ public final class GridData implements SerializableCompatibility {
    */ 
   public static final int FILL_BOTH = FILL_VERTICAL | FILL_HORIZONTAL;
 
-  int cacheWidth = -1, cacheHeight = -1;
-  int defaultWhint, defaultHhint, defaultWidth = -1, defaultHeight = -1;
-  int currentWhint, currentHhint, currentWidth = -1, currentHeight = -1;
+  // RAP: the size cache is recomputed after deserialization and not part of the serialized form
+  transient int cacheWidth = -1, cacheHeight = -1;
+  transient int defaultWhint, defaultHhint, defaultWidth = -1, defaultHeight = -1;
+  transient int currentWhint, currentHhint, currentWidth = -1, currentHeight = -1;
 
 /**
  * Constructs a new instance of GridData using
@@ -506,6 +510,11 @@ void flushCache () {
   currentWidth = currentHeight = -1;
 }
 
+private void readObject (ObjectInputStream stream) throws IOException, ClassNotFoundException {
+  stream.defaultReadObject ();
+  flushCache ();
+}
+
 String getName () {
   String string = getClass ().getName ();
   int index = string.lastIndexOf ('.');
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -62,6 +62,7 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.events.EventList;
 import org.eclipse.swt.internal.events.EventUtil;
+import org.eclipse.swt.internal.widgets.DirtyAdapters;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IdGenerator;
 import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
@@ -235,6 +236,7 @@ public class Display extends Device implements Adaptable {
   private transient Monitor monitor;
   private transient IDisplayAdapter displayAdapter;
   private WidgetRemoteAdapter remoteAdapter;
+  private final DirtyAdapters dirtyAdapters = new DirtyAdapters();
   private Runnable[] disposeList;
   private Composite[] layoutDeferred;
   private int layoutDeferredCount;
@@ -807,7 +809,7 @@ public class Display extends Device implements Adaptable {
     return null;
   }
 
-  private ApplicationContextImpl getApplicationContext() {
+  ApplicationContextImpl getApplicationContext() {
     return ( ApplicationContextImpl )uiSession.getApplicationContext();
   }
 
@@ -2442,6 +2444,36 @@ public class Display extends Device implements Adaptable {
       return uiSession;
     }
 
+    @Override
+    public DirtyAdapters getDirtyAdapters() {
+      return dirtyAdapters;
+    }
+
+    @Override
+    public int getPendingTimerExecCount() {
+      return scheduler == null ? 0 : scheduler.getTaskCount();
+    }
+
+    @Override
+    public int getPendingRunnableCount() {
+      return synchronizer.getMessageCount();
+    }
+
+    @Override
+    public long getExecutedRunnableCount() {
+      return synchronizer.getExecutedMessageCount();
+    }
+
+    @Override
+    public long getTotalRunnableWaitTime() {
+      return synchronizer.getTotalMessageWaitTime();
+    }
+
+    @Override
+    public long getMaxRunnableWaitTime() {
+      return synchronizer.getMaxMessageWaitTime();
+    }
+
     @Override
     public void attachThread() {
       Display.this.attachThread();
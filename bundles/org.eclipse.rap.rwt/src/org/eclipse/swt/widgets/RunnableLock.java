@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2007 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,6 +25,10 @@ class RunnableLock implements SerializableCompatibility {
   Runnable runnable;
 	transient Thread thread;
 	Throwable throwable;
+// RAP: Next message in the queue of the Synchronizer and the time the
+//           message was queued
+	transient volatile RunnableLock next;
+	transient long queueTime;
 	
 RunnableLock (Runnable runnable) {
 	this.runnable = runnable;
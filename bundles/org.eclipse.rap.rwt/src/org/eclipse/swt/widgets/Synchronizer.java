@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,15 @@
  *******************************************************************************/
 package org.eclipse.swt.widgets;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.internal.util.SerializableLock;
@@ -44,14 +53,25 @@ import org.eclipse.swt.internal.SerializableCompatibility;
 public class Synchronizer implements SerializableCompatibility {
 
   Display display;
-  int messageCount;
-  RunnableLock [] messages;
+// RAP: Lock-free multi-producer queue of RunnableLocks, linked through
+//           RunnableLock#next. Producers only swap the tail, the UI thread takes
+//           messages from the head. The head is a stub node: the last message
+//           taken from the queue, or an empty RunnableLock initially.
+//	int messageCount;
+//	RunnableLock [] messages;
+  transient AtomicReference<RunnableLock> tail;
+  transient RunnableLock head;
+  transient AtomicInteger messageCount;
 // RAP [rh] mesageLock must be serializable	(bug 345842)
 //	Object messageLock = new Object ();
+// RAP: The messageLock only serializes consumers, producers do not take it
   Object messageLock = new SerializableLock();
+  Object serverPushLock = new SerializableLock();
   Thread syncThread;
-  static final int GROW_SIZE = 4;
-  static final int MESSAGE_LIMIT = 64;
+// RAP: Statistics, only updated by consumers while holding the messageLock
+  transient volatile long executedCount;
+  transient volatile long totalWaitTime;
+  transient volatile long maxWaitTime;
 
   //TEMPORARY CODE
   static final boolean IS_CARBON = "carbon".equals (SWT.getPlatform ());
@@ -65,33 +85,28 @@ public class Synchronizer implements SerializableCompatibility {
  */
 public Synchronizer (Display display) {
   this.display = display;
+  initQueue ();
+}
+
+private void initQueue () {
+  head = new RunnableLock (null);
+  tail = new AtomicReference<> (head);
+  messageCount = new AtomicInteger ();
 }
 
 void addLast (RunnableLock lock) {
-  boolean wake = false;
-  synchronized (messageLock) {
-    if (messages == null) {
-      messages = new RunnableLock [GROW_SIZE];
-    }
-    if (messageCount == messages.length) {
-      RunnableLock[] newMessages = new RunnableLock [messageCount + GROW_SIZE];
-      System.arraycopy (messages, 0, newMessages, 0, messageCount);
-      messages = newMessages;
-    }
-    messages [messageCount++] = lock;
+  lock.queueTime = System.nanoTime ();
+  // Count the message before it becomes visible, so the count never drops below
+  // the number of linked messages
+  boolean wake = messageCount.getAndIncrement () == 0;
+  RunnableLock previous = tail.getAndSet (lock);
+  previous.next = lock;
 // RAP [rst] Notify server push mechanism when runnable was added to empty queue
-    if( messageCount == 1 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( true );
-        }
-      } );
-    }
-    runnableAdded( lock.runnable );
-// END RAP
-    wake = messageCount == 1;
+  if (wake) {
+    updateServerPush ();
   }
+  runnableAdded( lock.runnable );
+// END RAP
   if (wake) {
     display.wakeThread ();
   }
@@ -124,9 +139,30 @@ protected void asyncExec (Runnable runnable) {
 }
 
 int getMessageCount () {
-  synchronized (messageLock) {
-    return messageCount;
-  }
+  return messageCount.get ();
+}
+
+/**
+ * Returns the number of messages that have been executed.
+ */
+long getExecutedMessageCount () {
+  return executedCount;
+}
+
+/**
+ * Returns the total time in milliseconds that the executed messages have waited
+ * in the queue.
+ */
+long getTotalMessageWaitTime () {
+  return TimeUnit.NANOSECONDS.toMillis (totalWaitTime);
+}
+
+/**
+ * Returns the longest time in milliseconds that an executed message has waited
+ * in the queue.
+ */
+long getMaxMessageWaitTime () {
+  return TimeUnit.NANOSECONDS.toMillis (maxWaitTime);
 }
 
 void releaseSynchronizer () {
@@ -143,45 +179,61 @@ void releaseSynchronizer () {
   }
   // END RAP
 //	display = null;
-  messages = null;
-  messageLock = null;
+//	messages = null;
+//	messageLock = null;
   syncThread = null;
 }
 
 RunnableLock removeFirst () {
   synchronized (messageLock) {
-    if (messageCount == 0) {
+    RunnableLock lock = head.next;
+    if (lock == null) {
+      // empty, or a producer has not yet linked its message
       return null;
     }
-    RunnableLock lock = messages [0];
-    System.arraycopy (messages, 1, messages, 0, --messageCount);
-    messages [messageCount] = null;
-    if (messageCount == 0) {
-      if (messages.length > MESSAGE_LIMIT) {
-        messages = null;
-      }
+    // the removed message becomes the new stub node
+    head.next = null;
+    head = lock;
+    long waitTime = System.nanoTime () - lock.queueTime;
+    executedCount++;
+    totalWaitTime += waitTime;
+    if (waitTime > maxWaitTime) {
+      maxWaitTime = waitTime;
     }
 // RAP [rst] Notify server push mechanism when last runnable has been removed
-    if( messageCount == 0 ) {
-      RWT.getUISession( display ).exec( new Runnable() {
-        @Override
-        public void run() {
-          ServerPushManager.getInstance().setHasRunnables( false );
-        }
-      } );
+    if (messageCount.decrementAndGet () == 0) {
+      updateServerPush ();
     }
 // END RAP
     return lock;
   }
 }
 
+// RAP: Only called when the queue becomes empty or non-empty. The state is
+//           read under a lock, so the last notification always reflects the
+//           current queue even if producers and the consumer race.
+private void updateServerPush () {
+  synchronized (serverPushLock) {
+    final boolean hasRunnables = messageCount.get () > 0;
+    RWT.getUISession( display ).exec( new Runnable() {
+      @Override
+      public void run() {
+        ServerPushManager.getInstance().setHasRunnables( hasRunnables );
+      }
+    } );
+  }
+}
+
 boolean runAsyncMessages () {
   return runAsyncMessages (false);
 }
 
 boolean runAsyncMessages (boolean all) {
+// RAP: Run all messages that are queued when the drain starts in one go,
+//           messages added in the meantime are left for the next call
+  int batchSize = all ? Integer.MAX_VALUE : messageCount.get ();
   boolean run = false;
-  do {
+  for (int i = 0; i < batchSize; i++) {
     RunnableLock lock = removeFirst ();
     if (lock == null) {
       return run;
@@ -203,7 +255,7 @@ boolean runAsyncMessages (boolean all) {
         lock.notifyAll ();
       }
     }
-  } while (all);
+  }
   return run;
 }
 
@@ -266,4 +318,32 @@ protected void syncExec (Runnable runnable) {
   }
 }
 
+// RAP: Serialize the queued messages as an array rather than as a chain of
+//           linked RunnableLocks
+private void writeObject (ObjectOutputStream stream) throws IOException {
+  stream.defaultWriteObject ();
+  List<RunnableLock> locks = new ArrayList<> ();
+  synchronized (messageLock) {
+    RunnableLock lock = head.next;
+    while (lock != null) {
+      locks.add (lock);
+      lock = lock.next;
+    }
+  }
+  stream.writeObject (locks.toArray (new RunnableLock [locks.size ()]));
+}
+
+private void readObject (ObjectInputStream stream) throws IOException, ClassNotFoundException {
+  stream.defaultReadObject ();
+  initQueue ();
+  RunnableLock [] locks = (RunnableLock []) stream.readObject ();
+  long now = System.nanoTime ();
+  for (int i = 0; i < locks.length; i++) {
+    locks [i].queueTime = now;
+    tail.get ().next = locks [i];
+    tail.set (locks [i]);
+  }
+  messageCount.set (locks.length);
+}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,16 +16,16 @@ import java.io.ObjectInputStream;
 import java.io.ObjectInputValidation;
 import java.io.ObjectOutputStream;
 import java.util.Collection;
-import java.util.Date;
+import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
 
 import org.eclipse.rap.rwt.internal.engine.PostDeserialization;
 import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.service.UISession;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.SharedTimer;
 
 
 class TimerExecScheduler implements SerializableCompatibility {
@@ -33,7 +33,6 @@ class TimerExecScheduler implements SerializableCompatibility {
   final Display display;
   final ServerPushManager serverPushManager;
   private final Collection<TimerExecTask> tasks;
-  private transient Timer timer;
 
   TimerExecScheduler( Display display ) {
     this.display = display;
@@ -42,10 +41,16 @@ class TimerExecScheduler implements SerializableCompatibility {
   }
 
   void schedule( int milliseconds, Runnable runnable ) {
+    TimerExecTask unscheduledTask = null;
     synchronized( display.getDeviceLock() ) {
-      initializeTimer();
       TimerExecTask task = findOrAddTask( runnable );
-      timer.schedule( task, milliseconds );
+      if( !scheduleTask( task, milliseconds ) ) {
+        tasks.remove( task );
+        unscheduledTask = task;
+      }
+    }
+    if( unscheduledTask != null ) {
+      unscheduledTask.cancel();
     }
   }
 
@@ -58,21 +63,33 @@ class TimerExecScheduler implements SerializableCompatibility {
 
   void dispose() {
     synchronized( display.getDeviceLock() ) {
-      if( timer != null ) {
-        timer.cancel();
+      for( TimerExecTask task : tasks ) {
+        task.cancelFuture();
       }
       tasks.clear();
     }
   }
 
-  private void initializeTimer() {
-    if( timer == null ) {
-      timer = createTimer();
+  int getTaskCount() {
+    synchronized( display.getDeviceLock() ) {
+      return tasks.size();
     }
   }
 
-  Timer createTimer() {
-    return new Timer( "RWT timerExec scheduler", true );
+  SharedTimer getTimer() {
+    return display.getApplicationContext().getSharedTimer();
+  }
+
+  /*
+   * Returns false if the timer did not accept the task because it was shut down. The task must
+   * then be cancelled, otherwise it would keep the server push active.
+   */
+  private boolean scheduleTask( TimerExecTask task, long delay ) {
+    long scheduledExecutionTime = System.currentTimeMillis() + delay;
+    task.supersede();
+    ScheduledFuture<?> future = getTimer().schedule( task, delay );
+    task.setFuture( future, scheduledExecutionTime );
+    return future != null;
   }
 
   private TimerExecTask findOrAddTask( Runnable runnable ) {
@@ -104,21 +121,28 @@ class TimerExecScheduler implements SerializableCompatibility {
     return null;
   }
 
-  void removeTask( TimerTask task ) {
+  void removeTask( TimerExecTask task ) {
     synchronized( display.getDeviceLock() ) {
       tasks.remove( task );
     }
   }
 
   private void rescheduleTasks() {
+    Collection<TimerExecTask> unscheduledTasks = new LinkedList<>();
     synchronized( display.getDeviceLock() ) {
-      if( tasks.size() > 0 ) {
-        initializeTimer();
-        for( TimerExecTask task : tasks ) {
-          timer.schedule( task, new Date( task.scheduledExecutionTime() ) );
+      long now = System.currentTimeMillis();
+      Iterator<TimerExecTask> iterator = tasks.iterator();
+      while( iterator.hasNext() ) {
+        TimerExecTask task = iterator.next();
+        if( !scheduleTask( task, Math.max( 0, task.scheduledExecutionTime() - now ) ) ) {
+          iterator.remove();
+          unscheduledTasks.add( task );
         }
       }
     }
+    for( TimerExecTask task : unscheduledTasks ) {
+      task.cancel();
+    }
   }
 
   private void writeObject( ObjectOutputStream stream ) throws IOException {
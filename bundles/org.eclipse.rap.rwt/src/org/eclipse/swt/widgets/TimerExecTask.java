@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,15 +10,21 @@
  ******************************************************************************/
 package org.eclipse.swt.widgets;
 
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledFuture;
 
 import org.eclipse.swt.internal.SerializableCompatibility;
 
 
-class TimerExecTask extends TimerTask implements SerializableCompatibility {
+class TimerExecTask implements Runnable, SerializableCompatibility {
 
   private final TimerExecScheduler scheduler;
   private final Runnable runnable;
+  private long scheduledExecutionTime;
+  private transient ScheduledFuture<?> future;
+  // A run that started before the task was rescheduled or cancelled may not be stopped by
+  // cancelling its future. It is skipped when the generation changed in the meantime.
+  private transient volatile int generation;
+  private transient boolean executed;
 
   TimerExecTask( TimerExecScheduler scheduler, Runnable runnable ) {
     this.scheduler = scheduler;
@@ -28,7 +34,12 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
 
   @Override
   public void run() {
+    int runGeneration = generation;
     synchronized( scheduler.display.getDeviceLock() ) {
+      if( runGeneration != generation || executed ) {
+        return;
+      }
+      executed = true;
       scheduler.removeTask( this );
       if( !scheduler.display.isDisposed() ) {
         scheduler.display.asyncExec( runnable );
@@ -37,10 +48,37 @@ class TimerExecTask extends TimerTask implements SerializableCompatibility {
     scheduler.serverPushManager.deactivateServerPushFor( this );
   }
 
-  @Override
   public boolean cancel() {
+    synchronized( scheduler.display.getDeviceLock() ) {
+      generation++;
+    }
     scheduler.serverPushManager.deactivateServerPushFor( this );
-    return super.cancel();
+    return cancelFuture();
+  }
+
+  /*
+   * Must be called while holding the device lock and before the task is passed to the timer
+   * again, otherwise the new run could read the outdated generation.
+   */
+  void supersede() {
+    generation++;
+    executed = false;
+  }
+
+  void setFuture( ScheduledFuture<?> future, long scheduledExecutionTime ) {
+    cancelFuture();
+    this.future = future;
+    this.scheduledExecutionTime = scheduledExecutionTime;
+  }
+
+  boolean cancelFuture() {
+    boolean result = future != null && future.cancel( false );
+    future = null;
+    return result;
+  }
+
+  long scheduledExecutionTime() {
+    return scheduledExecutionTime;
   }
 
   Runnable getRunnable() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -143,8 +143,9 @@ public class Tree extends Composite {
   private boolean hasHScrollBar;
   private Point itemImageSize;
   LayoutCache layoutCache;
-  boolean isFlatIndexValid;
   private int visibleItemsCount;
+  // rowOffsets[ i ] is the number of visible rows above the item at index i
+  private transient int[] rowOffsets;
   private int preloadedItems;
 
   /**
@@ -216,6 +217,7 @@ public class Tree extends Composite {
 
   private void setTreeEmpty() {
     items = new TreeItem[ 4 ];
+    invalidateRowOffsets();
     // TODO: Not sure if we have to clear the image size???!!!
 //    clearItemImageSize();
   }
@@ -289,7 +291,7 @@ public class Tree extends Composite {
         }
       }
       itemCount = newItemCount;
-      invalidateFlatIndex();
+      invalidateRowOffsets();
       updateScrollBars();
       redraw();
     }
@@ -538,8 +540,7 @@ public class Tree extends Composite {
     checkWidget();
     TreeItem result = null;
     if( itemCount > 0 ) {
-      List<TreeItem> visibleItems = collectVisibleItems( null );
-      result = visibleItems.get( getTopItemIndex() );
+      result = getVisibleItem( getTopItemIndex(), false );
     }
     return result;
   }
@@ -548,7 +549,7 @@ public class Tree extends Composite {
     if( index != topItemIndex ) {
       topItemIndex = index;
       adjustTopItemIndex();
-      updateAllItems();
+      updateVisibleItems();
     }
   }
 
@@ -1012,9 +1013,8 @@ public class Tree extends Composite {
     }
     TreeItem result = null;
     int index = ( point.y - getHeaderHeight() ) / getItemHeight() + getTopItemIndex();
-    List<TreeItem> visibleItems = collectVisibleItems( null );
-    if( 0 <= index && index < visibleItems.size() ) {
-      result = visibleItems.get( index );
+    if( 0 <= index && index < getVisibleItemsCount() ) {
+      result = getVisibleItem( index, false );
     }
     return result;
   }
@@ -2166,7 +2166,7 @@ public class Tree extends Composite {
   void notifyResize( Point oldSize ) {
     if( !oldSize.equals( getSize() ) && !TextSizeUtil.isTemporaryResize() ) {
       clearCachedHeights();
-      updateAllItems();
+      updateVisibleItems();
       updateScrollBars();
       adjustTopItemIndex();
     }
@@ -2202,7 +2202,7 @@ public class Tree extends Composite {
 
   private int getVisibleItemsCount() {
     if( !isVisibleItemsCountValid() ) {
-      visibleItemsCount = collectVisibleItems( null ).size();
+      visibleItemsCount = getRowOffsets()[ itemCount ];
     }
     return visibleItemsCount;
   }
@@ -2211,56 +2211,84 @@ public class Tree extends Composite {
     return visibleItemsCount != -1;
   }
 
-  private List<TreeItem> collectVisibleItems( TreeItem parentItem ) {
-    List<TreeItem> result = new ArrayList<>();
-    TreeItem[] items = parentItem == null ? this.items : parentItem.items;
-    int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
+  int[] getRowOffsets() {
+    if( rowOffsets == null ) {
+      rowOffsets = computeRowOffsets( items, itemCount );
+    }
+    return rowOffsets;
+  }
+
+  void invalidateRowOffsets() {
+    rowOffsets = null;
+    visibleItemsCount = -1;
+  }
+
+  static int[] computeRowOffsets( TreeItem[] items, int itemCount ) {
+    int[] result = new int[ itemCount + 1 ];
     for( int i = 0; i < itemCount; i++ ) {
       TreeItem item = items[ i ];
-      result.add( item );
-      if( item != null && item.getExpanded() ) {
-        result.addAll( collectVisibleItems( item ) );
-      }
+      result[ i + 1 ] = result[ i ] + ( item == null ? 1 : item.getRowCount() );
     }
     return result;
   }
 
-  void updateAllItems() {
-    int flatIndex = 0;
-    for( int index = 0; index < itemCount; index++ ) {
-      flatIndex = updateAllItemsRecursively( null, index, flatIndex );
+  /*
+   * Finds the item at the given visible row by descending through the row offsets of the
+   * expanded items, which takes a binary search per tree level instead of a walk over all
+   * preceding rows. Unresolved virtual items are created only if resolve is true, otherwise null
+   * is returned for them.
+   */
+  TreeItem getVisibleItem( int row, boolean resolve ) {
+    TreeItem result = null;
+    TreeItem parentItem = null;
+    int[] offsets = getRowOffsets();
+    int remainingRows = row;
+    boolean found = false;
+    while( !found ) {
+      int index = findRowIndex( offsets, remainingRows );
+      result = parentItem == null ? items[ index ] : parentItem.items[ index ];
+      if( result == null && resolve ) {
+        result = parentItem == null ? _getItem( index ) : parentItem._getItem( index );
+      }
+      remainingRows -= offsets[ index ] + 1;
+      found = result == null || remainingRows < 0;
+      if( !found ) {
+        parentItem = result;
+        offsets = result.getRowOffsets();
+      }
     }
-    isFlatIndexValid = true;
-    visibleItemsCount = flatIndex;
+    return result;
   }
 
-  private int updateAllItemsRecursively( TreeItem parent, int index, int flatIndex ) {
-    int newFlatIndex = flatIndex;
-    TreeItem item = parent == null ? items[ index ] : parent.items[ index ];
-    if( shouldResolveItem( flatIndex ) ) {
-      if( item == null ) {
-        item = parent == null ? _getItem( index ) : parent._getItem( index );
-      }
-      checkData( item, index );
-    }
-    if( item != null ) {
-      item.setFlatIndex( newFlatIndex );
-    }
-    newFlatIndex++;
-    if( item != null && item.getExpanded() ) {
-      for( int i = 0; i < item.itemCount; i++ ) {
-        newFlatIndex = updateAllItemsRecursively( item, i, newFlatIndex );
+  private static int findRowIndex( int[] offsets, int row ) {
+    int low = 0;
+    int high = offsets.length - 2;
+    while( low < high ) {
+      int middle = ( low + high + 1 ) >>> 1;
+      if( offsets[ middle ] <= row ) {
+        low = middle;
+      } else {
+        high = middle - 1;
       }
     }
-    return newFlatIndex;
+    return low;
   }
 
-  private boolean shouldResolveItem( int flatIndex ) {
-    int visibleRows = getVisibleRowCount( true );
-    int topIndex = getTopItemIndex();
-    int startIndex = topIndex - preloadedItems;
-    int endIndex = topIndex + visibleRows + preloadedItems;
-    return isVirtual() ? flatIndex >= startIndex && flatIndex < endIndex : false;
+  void updateVisibleItems() {
+    if( isVirtual() ) {
+      int visibleRows = getVisibleRowCount( true );
+      int topIndex = getTopItemIndex();
+      int startIndex = Math.max( 0, topIndex - preloadedItems );
+      int endIndex = topIndex + visibleRows + preloadedItems;
+      // SetData listeners may change the tree, hence the row count is checked on every step
+      for( int row = startIndex;
+           !isDisposed() && row < endIndex && row < getVisibleItemsCount();
+           row++ )
+      {
+        TreeItem item = getVisibleItem( row, true );
+        checkData( item, item.index );
+      }
+    }
   }
 
   final boolean checkData( TreeItem item, int index ) {
@@ -2279,11 +2307,6 @@ public class Tree extends Composite {
     return result;
   }
 
-  void invalidateFlatIndex() {
-    visibleItemsCount = -1;
-    isFlatIndexValid = false;
-  }
-
   private static int checkStyle( int style ) {
     int result = style;
     if( ( style & SWT.NO_SCROLL ) == 0 ) {
@@ -2411,6 +2434,7 @@ public class Tree extends Composite {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    invalidateRowOffsets();
   }
 
   void destroyItem( int index ) {
@@ -2422,6 +2446,7 @@ public class Tree extends Composite {
       items[ itemCount ] = null;
     }
     adjustItemIndices( index );
+    invalidateRowOffsets();
   }
 
   private void adjustItemIndices( int start ) {
@@ -2504,7 +2529,7 @@ public class Tree extends Composite {
 
     @Override
     public void checkData() {
-      updateAllItems();
+      updateVisibleItems();
     }
 
     @Override
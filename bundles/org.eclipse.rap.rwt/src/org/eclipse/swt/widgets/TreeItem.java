@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -67,7 +67,8 @@ public class TreeItem extends Item {
   private boolean grayed;
   int depth;
   private boolean cached;
-  private int flatIndex;
+  // rowOffsets[ i ] is the number of visible rows above the child item at index i
+  private transient int[] rowOffsets;
 
   /**
    * Constructs a new instance of this class given its parent (which must be a
@@ -222,7 +223,6 @@ public class TreeItem extends Item {
     if( parentItem != null ) {
       depth = parentItem.depth + 1;
     }
-    parent.invalidateFlatIndex();
     setEmpty();
     if( create ) {
       int numberOfItems;
@@ -247,6 +247,7 @@ public class TreeItem extends Item {
 
   private void setEmpty() {
     items = new TreeItem[ 4 ];
+    invalidateRowOffsets();
   }
 
   private void createItem( TreeItem item, int index ) {
@@ -266,6 +267,7 @@ public class TreeItem extends Item {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    invalidateRowOffsets();
   }
 
   private void destroyItem( int index ) {
@@ -277,6 +279,7 @@ public class TreeItem extends Item {
       items[ itemCount ] = null;
     }
     adjustItemIndices( index );
+    invalidateRowOffsets();
   }
 
   private void adjustItemIndices( int start ) {
@@ -364,9 +367,9 @@ public class TreeItem extends Item {
         updateSelection();
       }
       markCached();
-      parent.invalidateFlatIndex();
+      invalidateParentRowOffsets();
       parent.updateScrollBars();
-      parent.updateAllItems();
+      parent.updateVisibleItems();
     }
   }
 
@@ -1426,7 +1429,7 @@ public class TreeItem extends Item {
         }
       }
       itemCount = newItemCount;
-      parent.invalidateFlatIndex();
+      invalidateRowOffsets();
       parent.updateScrollBars();
       parent.redraw();
     }
@@ -1452,7 +1455,6 @@ public class TreeItem extends Item {
       parent.destroyItem( index );
     }
     if( !parent.isInDispose() ) {
-      parent.invalidateFlatIndex();
       parent.removeFromSelection( this );
       parent.updateScrollBars();
     }
@@ -1478,14 +1480,42 @@ public class TreeItem extends Item {
   }
 
   int getFlatIndex() {
-    if( !parent.isFlatIndexValid ) {
-      parent.updateAllItems();
+    int result = getParentRowOffsets()[ index ];
+    if( parentItem != null ) {
+      result += parentItem.getFlatIndex() + 1;
     }
-    return flatIndex;
+    return result;
+  }
+
+  private int[] getParentRowOffsets() {
+    return parentItem == null ? parent.getRowOffsets() : parentItem.getRowOffsets();
   }
 
-  void setFlatIndex( int flatIndex ) {
-    this.flatIndex = flatIndex;
+  int getRowCount() {
+    return expanded ? getRowOffsets()[ itemCount ] + 1 : 1;
+  }
+
+  int[] getRowOffsets() {
+    if( rowOffsets == null ) {
+      rowOffsets = Tree.computeRowOffsets( items, itemCount );
+    }
+    return rowOffsets;
+  }
+
+  private void invalidateRowOffsets() {
+    rowOffsets = null;
+    // the row count of a collapsed item is not affected by its children
+    if( expanded ) {
+      invalidateParentRowOffsets();
+    }
+  }
+
+  private void invalidateParentRowOffsets() {
+    if( parentItem != null ) {
+      parentItem.invalidateRowOffsets();
+    } else {
+      parent.invalidateRowOffsets();
+    }
   }
 
   boolean hasPreferredWidthBuffer( int index ) {
@@ -32,6 +32,7 @@ import org.eclipse.swt.internal.SWTEventListener;
 import org.eclipse.swt.internal.SerializableCompatibility;
 import org.eclipse.swt.internal.events.EventList;
 import org.eclipse.swt.internal.events.EventUtil;
+import org.eclipse.swt.internal.widgets.DirtyAdapters;
 import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetGraphicsAdapter;
 import org.eclipse.swt.internal.widgets.IdGenerator;
@@ -1048,7 +1049,9 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
 
   private RemoteAdapter createRemoteAdapter( Widget parent ) {
     String id = IdGenerator.getInstance( RWT.getUISession( display ) ).createId( this );
-    return createRemoteAdapter( parent, id );
+    WidgetRemoteAdapter remoteAdapter = ( WidgetRemoteAdapter )createRemoteAdapter( parent, id );
+    remoteAdapter.setDirtyAdapters( getDirtyAdapters() );
+    return remoteAdapter;
   }
 
   RemoteAdapter createRemoteAdapter( Widget parent, String id ) {
@@ -1057,6 +1060,10 @@ public abstract class Widget implements Adaptable, SerializableCompatibility {
     return remoteAdapter;
   }
 
+  private DirtyAdapters getDirtyAdapters() {
+    return display.getAdapter( IDisplayAdapter.class ).getDirtyAdapters();
+  }
+
   private ApplicationContextImpl getApplicationContext() {
     IDisplayAdapter displayAdapter = display.getAdapter( IDisplayAdapter.class );
     return ( ApplicationContextImpl )displayAdapter.getUISession().getApplicationContext();
@@ -23,8 +23,10 @@ import static org.eclipse.rap.rwt.internal.service.ContextProvider.getRequest;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.client.WebClient;
@@ -40,7 +42,11 @@ import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.Operation;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolUtil;
 import org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory;
+import org.eclipse.rap.rwt.internal.protocol.WidgetOperationHandler;
+import org.eclipse.rap.rwt.internal.remote.LifeCycleRemoteObject;
+import org.eclipse.rap.rwt.internal.remote.RemoteObjectImpl;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectLifeCycleAdapter;
+import org.eclipse.rap.rwt.internal.remote.RemoteObjectRegistry;
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.textsize.MeasurementUtil;
 import org.eclipse.rap.rwt.internal.util.ActiveKeysUtil;
@@ -66,7 +72,7 @@ public class DisplayLCA {
 
   public void readData( Display display ) {
     handleOperations( display );
-    visitWidgets( display );
+    readWidgets( display );
     DNDSupport.handleOperations();
     RemoteObjectLifeCycleAdapter.readData( ProtocolUtil.getClientMessage() );
   }
@@ -114,15 +120,7 @@ public class DisplayLCA {
 
   public void clearPreserved( Display display ) {
     ( ( WidgetRemoteAdapter )getAdapter( display ) ).clearPreserved();
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, new WidgetTreeVisitor() {
-        @Override
-        public boolean visit( Widget widget ) {
-          ( ( WidgetRemoteAdapter )getAdapter( widget ) ).clearPreserved();
-          return true;
-        }
-      } );
-    }
+    getDisplayAdapter( display ).getDirtyAdapters().clearPreserved();
   }
 
   private static void handleOperations( Display display ) {
@@ -136,16 +134,44 @@ public class DisplayLCA {
     }
   }
 
-  private static void visitWidgets( Display display ) {
-    WidgetTreeVisitor visitor = new WidgetTreeVisitor() {
-      @Override
-      public boolean visit( Widget widget ) {
-        getLCA( widget ).readData( widget );
-        return true;
+  private static void readWidgets( Display display ) {
+    Shell[] shells = getShells( display );
+    for( Shell shell : shells ) {
+      getLCA( shell ).readData( shell );
+    }
+    // Only widgets addressed by the client message have to read their data. Their operation
+    // handlers are used to find them instead of visiting the entire widget tree.
+    final Set<String> unresolvedIds = new HashSet<>();
+    for( String target : ProtocolUtil.getClientMessage().getAllTargets() ) {
+      RemoteObjectImpl remoteObject = RemoteObjectRegistry.getInstance().get( target );
+      if( remoteObject instanceof LifeCycleRemoteObject ) {
+        OperationHandler handler = remoteObject.getHandler();
+        if( handler instanceof WidgetOperationHandler ) {
+          readData( ( ( WidgetOperationHandler<?> )handler ).getWidget() );
+        } else if( handler != null ) {
+          unresolvedIds.add( target );
+        }
       }
-    };
-    for( Shell shell : getShells( display ) ) {
-      WidgetTreeUtil.accept( shell, visitor );
+    }
+    if( !unresolvedIds.isEmpty() ) {
+      WidgetTreeVisitor visitor = new WidgetTreeVisitor() {
+        @Override
+        public boolean visit( Widget widget ) {
+          if( unresolvedIds.contains( getId( widget ) ) ) {
+            readData( widget );
+          }
+          return true;
+        }
+      };
+      for( Shell shell : shells ) {
+        WidgetTreeUtil.accept( shell, visitor );
+      }
+    }
+  }
+
+  private static void readData( Widget widget ) {
+    if( !( widget instanceof Shell ) && !widget.isDisposed() ) {
+      getLCA( widget ).readData( widget );
     }
   }
 
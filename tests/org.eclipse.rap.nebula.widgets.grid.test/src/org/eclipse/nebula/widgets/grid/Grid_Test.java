@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2019 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -281,6 +281,20 @@ public class Grid_Test {
     assertEquals( 2, grid.indexOf( items[ 4 ] ) );
   }
 
+  @Test
+  public void testIndexOf_AfterInsert() {
+    GridItem[] items = createGridItems( grid, 3, 1 );
+    grid.indexOf( items[ 0 ] );
+
+    GridItem item = new GridItem( grid, SWT.NONE, 1 );
+    GridItem subItem = new GridItem( items[ 0 ], SWT.NONE, 0 );
+
+    assertEquals( 1, grid.indexOf( subItem ) );
+    assertEquals( 3, grid.indexOf( item ) );
+    assertEquals( 4, grid.indexOf( items[ 2 ] ) );
+    assertEquals( 7, grid.indexOf( items[ 5 ] ) );
+  }
+
   @Test
   public void testGetColumnCount() {
     createGridColumns( grid, 5, SWT.NONE );
@@ -1430,6 +1444,18 @@ public class Grid_Test {
     assertFalse( grid.isSelected( items[ 1 ] ) );
   }
 
+  @Test
+  public void testGetSelectionIndices_AfterInsert() {
+    grid = new Grid( shell, SWT.MULTI );
+    createGridItems( grid, 5, 0 );
+    grid.select( new int[] { 3, 1 } );
+
+    new GridItem( grid, SWT.NONE, 0 );
+
+    assertArrayEquals( new int[] { 4, 2 }, grid.getSelectionIndices() );
+    assertEquals( 4, grid.getSelectionIndex() );
+  }
+
   @Test
   public void testGetHeaderVisible_Initial() {
     assertFalse( grid.getHeaderVisible() );
@@ -2819,6 +2845,70 @@ public class Grid_Test {
     assertEquals( 4, countResolvedGridItems() );
   }
 
+  @Test
+  public void testCreatedItems_onVirtual() {
+    grid = new Grid( shell, SWT.V_SCROLL | SWT.VIRTUAL );
+    grid.setSize( 200, 100 );
+    grid.setItemCount( 100 );
+
+    doFakeRedraw();
+
+    assertEquals( 100, grid.getItemCount() );
+    assertEquals( 4, getCreatedItems().length );
+  }
+
+  @Test
+  public void testCreatedItems_onVirtual_afterGetItem() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setItemCount( 100 );
+
+    GridItem item = grid.getItem( 50 );
+
+    assertArrayEquals( new GridItem[] { item }, getCreatedItems() );
+    assertEquals( 50, grid.indexOf( item ) );
+    assertSame( item, grid.getRootItem( 50 ) );
+    assertFalse( item.isResolved() );
+  }
+
+  @Test
+  public void testCreatedItems_onVirtual_afterAddingChildItem() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setItemCount( 10 );
+
+    GridItem item = new GridItem( grid.getItem( 5 ), SWT.NONE );
+
+    assertEquals( 11, getCreatedItems().length );
+    assertEquals( 6, grid.indexOf( item ) );
+    assertEquals( 10, grid.getRootItemCount() );
+  }
+
+  @Test
+  public void testSetItemCount_onVirtual_disposesCreatedItems() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setItemCount( 100 );
+    GridItem item = grid.getItem( 50 );
+
+    grid.setItemCount( 10 );
+
+    assertTrue( item.isDisposed() );
+    assertEquals( 10, grid.getItemCount() );
+    assertEquals( 0, getCreatedItems().length );
+  }
+
+  @Test
+  public void testRemove_onVirtual() {
+    grid = new Grid( shell, SWT.VIRTUAL );
+    grid.setItemCount( 10 );
+    GridItem item = grid.getItem( 9 );
+
+    grid.remove( 2 );
+
+    assertEquals( 9, grid.getItemCount() );
+    assertEquals( 8, grid.indexOf( item ) );
+    assertSame( item, grid.getRootItem( 8 ) );
+    assertEquals( 1, getCreatedItems().length );
+  }
+
   @Test
   public void testResolvedItems_onVirtual_afterTopIndexChange() {
     grid = new Grid( shell, SWT.V_SCROLL | SWT.VIRTUAL );
@@ -3073,6 +3163,10 @@ public class Grid_Test {
     return items;
   }
 
+  private GridItem[] getCreatedItems() {
+    return grid.getAdapter( IGridAdapter.class ).getCreatedItems();
+  }
+
   private void doFakeRedraw() {
     grid.getAdapter( IGridAdapter.class ).doRedraw();
   }
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.cluster.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.eclipse.rap.rwt.cluster.test.entrypoints.ButtonEntryPoint;
+import org.eclipse.rap.rwt.cluster.testfixture.ClusterTestHelper;
+import org.eclipse.rap.rwt.cluster.testfixture.client.RWTClient;
+import org.eclipse.rap.rwt.cluster.testfixture.client.Response;
+import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngine;
+import org.eclipse.rap.rwt.cluster.testfixture.server.IServletEngineCluster;
+import org.eclipse.rap.rwt.cluster.testfixture.server.JettyFactory;
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+@SuppressWarnings("restriction")
+public class SessionReplication_Test {
+
+  private IServletEngineCluster cluster;
+  private IServletEngine primary;
+  private IServletEngine secondary;
+  private RWTClient client;
+
+  @Before
+  public void setUp() throws Exception {
+    System.setProperty( RWTProperties.SKIP_UNMODIFIED_SESSION_REPLICATION, "true" );
+    ClusterTestHelper.enableUITests( true );
+    cluster = new JettyFactory().createServletEngineCluster();
+    primary = cluster.addServletEngine();
+    secondary = cluster.addServletEngine();
+    client = new RWTClient( primary );
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    cluster.stop();
+    System.getProperties().remove( RWTProperties.SKIP_UNMODIFIED_SESSION_REPLICATION );
+  }
+
+  @Test
+  public void testModifiedSessionIsReplicated() throws Exception {
+    cluster.start( ButtonEntryPoint.class );
+    client.sendStartupRequest();
+    client.sendInitializationRequest();
+    clickCenterButton( 1, 4 );
+
+    cluster.removeServletEngine( primary );
+    client.changeServletEngine( secondary );
+
+    clickCenterButton( 5, 8 );
+    assertEquals( 1, secondary.getSessions().length );
+  }
+
+  private void clickCenterButton( int start, int end ) throws IOException {
+    for( int i = start; i <= end; i++ ) {
+      Response response = client.sendWidgetSelectedRequest( "w5" );
+      assertTrue( response.isValidJsonResponse() );
+      assertTrue( response.getContentText().contains( "relocated " + i + "/1" ) );
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -340,9 +340,10 @@ public class ApplicationLauncherImpl_Test {
                                                              any( HttpServlet.class ),
                                                              any( Dictionary.class ),
                                                              any( HttpContext.class ) );
-      verify( httpService, times( times ) ).registerResources( eq( getResourcesDirectory( alias ) ),
-                                                               any( String.class ),
-                                                               any( HttpContext.class ) );
+      verify( httpService, times( times ) ).registerServlet( eq( getResourcesDirectory( alias ) ),
+                                                             any( HttpServlet.class ),
+                                                             any( Dictionary.class ),
+                                                             any( HttpContext.class ) );
     } catch( Exception shouldNotHappen ) {
       throw new RuntimeException( shouldNotHappen );
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,22 +13,34 @@
 package org.eclipse.rap.rwt.engine;
 
 import static org.eclipse.rap.rwt.engine.RWTServletContextListener.ENTRY_POINTS_PARAM;
+import static org.eclipse.rap.rwt.engine.RWTServletContextListener.RESOURCE_SERVLET_NAME;
 import static org.eclipse.rap.rwt.engine.RWTServletContextListener.RWT_SERVLET_NAME;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.contains;
+import static org.mockito.Matchers.isA;
+import static org.mockito.Matchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+
 import javax.servlet.Servlet;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletRegistration;
 
 import org.eclipse.rap.rwt.application.Application;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.TestEntryPoint;
+import org.eclipse.rap.rwt.testfixture.internal.TestLogger;
 import org.eclipse.rap.rwt.testfixture.internal.TestServletContext;
 import org.junit.Before;
 import org.junit.Test;
@@ -57,6 +69,83 @@ public class RWTServletContextListener_Test {
     assertResourceManagerIsRegistered();
   }
 
+  @Test
+  public void testResourceServletIsRegistered() {
+    String className = TestConfiguration.class.getName();
+    servletContext.setInitParameter( ApplicationConfiguration.CONFIGURATION_PARAM, className );
+    ( ( TestServletContext )servletContext ).setVersion( 3, 0 );
+
+    rwtServletContextListener.contextInitialized( contextInitializedEvent );
+
+    ServletRegistration registration
+      = servletContext.getServletRegistration( RESOURCE_SERVLET_NAME );
+    assertEquals( "/rwt-resources/*", registration.getMappings().iterator().next() );
+  }
+
+  @Test
+  public void testResourceServletIsNotRegisteredBeforeServlet3() {
+    String className = TestConfiguration.class.getName();
+    servletContext.setInitParameter( ApplicationConfiguration.CONFIGURATION_PARAM, className );
+    ( ( TestServletContext )servletContext ).setVersion( 2, 5 );
+
+    rwtServletContextListener.contextInitialized( contextInitializedEvent );
+
+    assertNull( servletContext.getServletRegistration( RESOURCE_SERVLET_NAME ) );
+  }
+
+  @Test
+  public void testResourceServletRegistrationFailureIsLogged() {
+    servletContext = new TestServletContext() {
+      @Override
+      public ServletRegistration.Dynamic addServlet( String servletName, Servlet servlet ) {
+        throw new IllegalStateException( "context already initialized" );
+      }
+    };
+    TestLogger logger = mock( TestLogger.class );
+    ( ( TestServletContext )servletContext ).setLogger( logger );
+    ( ( TestServletContext )servletContext ).setVersion( 3, 0 );
+    String className = TestConfiguration.class.getName();
+    servletContext.setInitParameter( ApplicationConfiguration.CONFIGURATION_PARAM, className );
+
+    rwtServletContextListener.contextInitialized( new ServletContextEvent( servletContext ) );
+
+    verify( logger ).log( anyString(), isA( IllegalStateException.class ) );
+  }
+
+  @Test
+  public void testMemoryStoreWithoutResourceServletIsLogged() {
+    TestLogger logger = mock( TestLogger.class );
+    ( ( TestServletContext )servletContext ).setLogger( logger );
+    ( ( TestServletContext )servletContext ).setVersion( 2, 5 );
+    String className = TestConfiguration.class.getName();
+    servletContext.setInitParameter( ApplicationConfiguration.CONFIGURATION_PARAM, className );
+    System.setProperty( RWTProperties.RESOURCE_MEMORY_STORE_SIZE, "1024" );
+    try {
+      rwtServletContextListener.contextInitialized( contextInitializedEvent );
+    } finally {
+      System.getProperties().remove( RWTProperties.RESOURCE_MEMORY_STORE_SIZE );
+    }
+
+    verify( logger ).log( contains( "kept on disk" ), isNull( Throwable.class ) );
+  }
+
+  @Test
+  public void testMemoryStoreWithResourceServletIsNotLogged() {
+    TestLogger logger = mock( TestLogger.class );
+    ( ( TestServletContext )servletContext ).setLogger( logger );
+    ( ( TestServletContext )servletContext ).setVersion( 3, 0 );
+    String className = TestConfiguration.class.getName();
+    servletContext.setInitParameter( ApplicationConfiguration.CONFIGURATION_PARAM, className );
+    System.setProperty( RWTProperties.RESOURCE_MEMORY_STORE_SIZE, "1024" );
+    try {
+      rwtServletContextListener.contextInitialized( contextInitializedEvent );
+    } finally {
+      System.getProperties().remove( RWTProperties.RESOURCE_MEMORY_STORE_SIZE );
+    }
+
+    verify( logger, never() ).log( contains( "kept on disk" ), any( Throwable.class ) );
+  }
+
   @Test
   public void testEntryPointInitialization() {
     String className = TestEntryPoint.class.getName();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,12 +10,14 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.engine;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.endsWith;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,11 +25,13 @@ import javax.servlet.FilterChain;
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpSession;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.service.UISessionImpl;
 import org.eclipse.rap.rwt.service.ApplicationContext;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -50,6 +54,11 @@ public class RWTClusterSupport_Test {
     rwtClusterSupport = new RWTClusterSupport();
   }
 
+  @After
+  public void tearDown() {
+    System.getProperties().remove( RWTProperties.SKIP_UNMODIFIED_SESSION_REPLICATION );
+  }
+
   @Test
   public void testDoFilter_passesParametersToFilterChain() throws Exception {
     rwtClusterSupport.doFilter( request, response, chain );
@@ -128,6 +137,34 @@ public class RWTClusterSupport_Test {
     verify( httpSession ).setAttribute( endsWith( "foo" ), same( deserializedUISession ) );
   }
 
+  @Test
+  public void testDoFilter_skipsUnmodifiedUISession() throws Exception {
+    System.setProperty( RWTProperties.SKIP_UNMODIFIED_SESSION_REPLICATION, "true" );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    UISessionImpl deserializedUISession = new UISessionImpl( null, httpSession );
+    setUISession( httpSession, deserializedUISession );
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession, never() ).setAttribute( anyString(), same( deserializedUISession ) );
+  }
+
+  @Test
+  public void testDoFilter_marksModifiedUISessionAsChanged() throws Exception {
+    System.setProperty( RWTProperties.SKIP_UNMODIFIED_SESSION_REPLICATION, "true" );
+    HttpSession httpSession = mockHttpSession();
+    request.setSession( httpSession );
+    UISessionImpl deserializedUISession = new UISessionImpl( null, httpSession );
+    setUISession( httpSession, deserializedUISession );
+    deserializedUISession.markModified();
+
+    rwtClusterSupport.doFilter( request, response, chain );
+
+    verify( httpSession ).setAttribute( anyString(), same( deserializedUISession ) );
+    assertFalse( deserializedUISession.isModified() );
+  }
+
   private static HttpSession mockHttpSession() {
     return mockHttpSession( mock( ServletContext.class ) );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -518,7 +518,7 @@ public class RWTLifeCycle_Test {
       @Override
       public void run() {
         while( continueLoop.get() ) {
-          IUIThreadHolder uiThread = ( IUIThreadHolder )Thread.currentThread();
+          IUIThreadHolder uiThread = getCurrentUIThreadHolder();
           synchronized( uiThread.getLock() ) {
           }
           uiThread.updateServiceContext();
@@ -561,7 +561,7 @@ public class RWTLifeCycle_Test {
     assertEquals( "executedInUIThread", log.toString() );
     assertTrue( getUIThread().isAlive() );
     // simulates request that ends event loop
-    UIThread endingUIThread = getUIThread();
+    Thread endingUIThread = getUIThread();
     continueLoop.set( false );
     lifeCycle.executeUIThread();
     synchronized( error ) {
@@ -1042,9 +1042,16 @@ public class RWTLifeCycle_Test {
     Fixture.fakeClient( new WebClient() );
   }
 
-  private static UIThread getUIThread() {
+  private static IUIThreadHolder getCurrentUIThreadHolder() {
+    // the UI thread is a VirtualUIThread when org.eclipse.rap.rwt.virtualUIThreads is set
+    IUIThreadHolder result = VirtualUIThread.getCurrent();
+    return result != null ? result : ( IUIThreadHolder )Thread.currentThread();
+  }
+
+  private static Thread getUIThread() {
     UISession uiSession = ContextProvider.getUISession();
-    return ( UIThread )LifeCycleUtil.getUIThread( uiSession );
+    IUIThreadHolder uiThread = LifeCycleUtil.getUIThread( uiSession );
+    return uiThread == null ? null : uiThread.getThread();
   }
 
   private static void fakeServletPath( String myEntryPoint ) {
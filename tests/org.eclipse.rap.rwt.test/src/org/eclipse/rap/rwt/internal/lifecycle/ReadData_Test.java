@@ -16,6 +16,8 @@ import java.io.IOException;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.internal.widgets.ControlRemoteAdapter;
+import org.eclipse.swt.internal.widgets.DirtyAdapters;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Widget;
@@ -61,6 +63,20 @@ public class ReadData_Test {
 
     readData.execute( display );
 
+    assertEquals( LoggingWidgetLCA.READ_DATA, log.toString() );
+  }
+
+  @Test
+  public void testExecute_clearsValuesPreservedDuringReadData() {
+    StringBuilder log = new StringBuilder();
+    Display display = new Display();
+    new TestWidget( display, log );
+    LoggingWidgetRemoteAdapter adapter = new LoggingWidgetRemoteAdapter( "otherId", log );
+    adapter.setDirtyAdapters( getDirtyAdapters( display ) );
+    adapter.preserve( "foo", "bar" );
+
+    readData.execute( display );
+
     assertEquals( LoggingWidgetLCA.READ_DATA +
                   LoggingWidgetRemoteAdapter.CLEAR_PRESERVED, log.toString() );
   }
@@ -75,10 +91,13 @@ public class ReadData_Test {
     readData.execute( display );
 
     assertEquals( LoggingWidgetLCA.READ_DATA +
-                  LoggingWidgetRemoteAdapter.CLEAR_PRESERVED +
                   LoggingWidgetLCA.PRESERVE_VALUES, log.toString() );
   }
 
+  private static DirtyAdapters getDirtyAdapters( Display display ) {
+    return display.getAdapter( IDisplayAdapter.class ).getDirtyAdapters();
+  }
+
   private final class TestWidget extends Shell {
     private final StringBuilder log;
     private TestWidget( Display display, StringBuilder log ) {
@@ -142,6 +161,7 @@ public class ReadData_Test {
 
     @Override
     public void clearPreserved() {
+      super.clearPreserved();
       log.append( CLEAR_PRESERVED );
     }
 
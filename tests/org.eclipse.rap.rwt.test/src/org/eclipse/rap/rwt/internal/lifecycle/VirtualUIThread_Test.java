@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.rap.rwt.internal.lifecycle.UIThread.UIThreadTerminatedError;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceContext;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class VirtualUIThread_Test {
+
+  private static final ThreadFactory PLATFORM_THREADS = new ThreadFactory() {
+    @Override
+    public Thread newThread( Runnable runnable ) {
+      Thread thread = new Thread( runnable );
+      thread.setDaemon( true );
+      return thread;
+    }
+  };
+
+  private StringBuffer log;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    log = new StringBuffer();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testSwitchThread_handsOverControl() throws InterruptedException {
+    final AtomicReference<VirtualUIThread> uiThread = new AtomicReference<>();
+    uiThread.set( new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        log.append( "ui1|" );
+        uiThread.get().switchThread();
+        log.append( "ui2|" );
+        uiThread.get().switchThread();
+      }
+    }, PLATFORM_THREADS ) );
+
+    uiThread.get().getThread().start();
+    log.append( "request1|" );
+    uiThread.get().switchThread();
+    log.append( "request2|" );
+    uiThread.get().switchThread();
+    log.append( "request3|" );
+
+    assertEquals( "request1|ui1|request2|ui2|request3|", log.toString() );
+  }
+
+  @Test
+  public void testSwitchThread_uiThreadWaitsForFirstSwitch() throws InterruptedException {
+    final AtomicReference<VirtualUIThread> uiThread = new AtomicReference<>();
+    uiThread.set( new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        log.append( "ui|" );
+        uiThread.get().switchThread();
+      }
+    }, PLATFORM_THREADS ) );
+
+    uiThread.get().getThread().start();
+    Thread.sleep( 50 );
+    log.append( "request|" );
+    uiThread.get().switchThread();
+
+    assertEquals( "request|ui|", log.toString() );
+  }
+
+  @Test
+  public void testSwitchThread_cannotBeInterrupted() throws InterruptedException {
+    final AtomicReference<VirtualUIThread> uiThread = new AtomicReference<>();
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    uiThread.set( new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          uiThread.get().switchThread();
+          log.append( "resumed" );
+          uiThread.get().switchThread();
+        } catch( Throwable throwable ) {
+          error.set( throwable );
+        }
+      }
+    }, PLATFORM_THREADS ) );
+    uiThread.get().getThread().start();
+    uiThread.get().switchThread();
+
+    uiThread.get().getThread().interrupt();
+    Thread.sleep( 50 );
+
+    assertNull( error.get() );
+    assertEquals( "", log.toString() );
+    uiThread.get().switchThread();
+    assertEquals( "resumed", log.toString() );
+  }
+
+  @Test
+  public void testGetCurrent() {
+    final AtomicReference<VirtualUIThread> uiThread = new AtomicReference<>();
+    final AtomicReference<VirtualUIThread> current = new AtomicReference<>();
+    uiThread.set( new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        current.set( VirtualUIThread.getCurrent() );
+        uiThread.get().switchThread();
+      }
+    }, PLATFORM_THREADS ) );
+    uiThread.get().getThread().start();
+
+    uiThread.get().switchThread();
+
+    assertSame( uiThread.get(), current.get() );
+    assertNull( VirtualUIThread.getCurrent() );
+  }
+
+  @Test
+  public void testUpdateServiceContext() {
+    VirtualUIThread uiThread = new VirtualUIThread( null, PLATFORM_THREADS );
+    ServiceContext context = ContextProvider.getContext();
+    ServiceContext otherContext = ContextUtil.createFakeContext( context.getUISession() );
+    uiThread.setServiceContext( otherContext );
+
+    uiThread.updateServiceContext();
+
+    assertSame( otherContext, ContextProvider.getContext() );
+    ContextProvider.releaseContextHolder();
+    ContextProvider.setContext( context );
+  }
+
+  @Test
+  public void testTerminateThread() throws InterruptedException {
+    final AtomicReference<VirtualUIThread> uiThread = new AtomicReference<>();
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    uiThread.set( new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        try {
+          uiThread.get().switchThread();
+        } catch( Throwable throwable ) {
+          error.set( throwable );
+        }
+      }
+    }, PLATFORM_THREADS ) );
+    uiThread.get().setUISession( ContextProvider.getUISession() );
+    uiThread.get().getThread().start();
+    uiThread.get().switchThread();
+
+    uiThread.get().terminateThread();
+
+    assertTrue( error.get() instanceof UIThreadTerminatedError );
+    assertFalse( uiThread.get().getThread().isAlive() );
+  }
+
+  @Test
+  public void testSwitchThread_returnsWhenUICodeThrows() throws InterruptedException {
+    final VirtualUIThread uiThread = new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        throw new IllegalStateException( "expected" );
+      }
+    }, new ThreadFactory() {
+      @Override
+      public Thread newThread( Runnable runnable ) {
+        Thread thread = PLATFORM_THREADS.newThread( runnable );
+        thread.setUncaughtExceptionHandler( new UncaughtExceptionHandler() {
+          @Override
+          public void uncaughtException( Thread thread, Throwable throwable ) {
+            log.append( throwable.getMessage() );
+          }
+        } );
+        return thread;
+      }
+    } );
+    uiThread.getThread().start();
+
+    Thread requestThread = switchThreadInNewThread( uiThread );
+
+    assertFalse( requestThread.isAlive() );
+    assertFalse( uiThread.getThread().isAlive() );
+    assertEquals( "expected", log.toString() );
+  }
+
+  @Test
+  public void testSwitchThread_returnsWhenUICodeEnds() throws InterruptedException {
+    final VirtualUIThread uiThread = new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        log.append( "ui|" );
+      }
+    }, PLATFORM_THREADS );
+    uiThread.getThread().start();
+
+    Thread requestThread = switchThreadInNewThread( uiThread );
+
+    assertFalse( requestThread.isAlive() );
+    assertEquals( "ui|", log.toString() );
+  }
+
+  @Test
+  public void testSwitchThread_returnsWhenUIThreadAlreadyEnded() throws InterruptedException {
+    final VirtualUIThread uiThread = new VirtualUIThread( new Runnable() {
+      @Override
+      public void run() {
+        // end without switching back
+      }
+    }, PLATFORM_THREADS );
+    uiThread.getThread().start();
+    switchThreadInNewThread( uiThread );
+
+    Thread requestThread = switchThreadInNewThread( uiThread );
+
+    assertFalse( requestThread.isAlive() );
+  }
+
+  private static Thread switchThreadInNewThread( final VirtualUIThread uiThread )
+    throws InterruptedException
+  {
+    Thread result = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        uiThread.switchThread();
+      }
+    } );
+    result.setDaemon( true );
+    result.start();
+    result.join( 5000 );
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,9 @@ package org.eclipse.rap.rwt.internal.protocol;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
 import static org.junit.Assert.assertEquals;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
@@ -189,4 +192,24 @@ public class Operation_Test {
     assertEquals( operation.toJson(), deserialized.toJson() );
   }
 
+  @Test
+  public void testWriteTo_matchesToJson() throws IOException {
+    JsonObject properties = new JsonObject().add( "foo", 23 ).add( "bar", "\"\u2028\"" );
+
+    assertWritesJson( new CreateOperation( "target", "type", properties ) );
+    assertWritesJson( new DestroyOperation( "target" ) );
+    assertWritesJson( new SetOperation( "target", properties ) );
+    assertWritesJson( new CallOperation( "target", "method", properties ) );
+    assertWritesJson( new ListenOperation( "target", properties ) );
+    assertWritesJson( new NotifyOperation( "target", "event", properties ) );
+  }
+
+  private static void assertWritesJson( Operation operation ) throws IOException {
+    StringWriter writer = new StringWriter();
+
+    operation.writeTo( writer );
+
+    assertEquals( operation.toJson().toString(), writer.toString() );
+  }
+
 }
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class DiskResourceStore_Test {
+
+  private File contextDirectory;
+  private DiskResourceStore store;
+
+  @Before
+  public void setUp() {
+    contextDirectory = FileUtil.createTempDir();
+    ResourceDirectory resourceDirectory = new ResourceDirectory();
+    resourceDirectory.configure( contextDirectory.getPath() );
+    store = new DiskResourceStore( resourceDirectory );
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( contextDirectory );
+  }
+
+  @Test
+  public void testWrite() throws IOException {
+    store.write( "path/to/foo", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+
+    File file = new File( contextDirectory, "rwt-resources/path/to/foo" );
+    assertTrue( file.isFile() );
+    assertEquals( 3, store.getLength( "path/to/foo" ) );
+    assertEquals( file.lastModified(), store.getLastModified( "path/to/foo" ) );
+  }
+
+  @Test
+  public void testGetLength_withoutContent() {
+    assertEquals( -1, store.getLength( "foo" ) );
+  }
+
+  @Test
+  public void testTransferTo() throws IOException {
+    store.write( "foo", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    store.transferTo( "foo", Channels.newChannel( outputStream ) );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, outputStream.toByteArray() );
+  }
+
+  @Test
+  public void testRead_withoutContent() throws IOException {
+    try {
+      store.read( "foo" );
+      fail();
+    } catch( FileNotFoundException expected ) {
+    }
+  }
+
+  @Test
+  public void testDelete() throws IOException {
+    store.write( "foo", new ByteArrayInputStream( new byte[] { 1, 2, 3 } ) );
+
+    assertTrue( store.delete( "foo" ) );
+    assertFalse( store.delete( "foo" ) );
+  }
+
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class MemoryResourceStore_Test {
+
+  private ResourceStore overflowStore;
+  private MemoryResourceStore store;
+
+  @Before
+  public void setUp() {
+    overflowStore = mock( ResourceStore.class );
+    when( Long.valueOf( overflowStore.getLength( anyString() ) ) )
+      .thenReturn( Long.valueOf( -1 ) );
+    store = new MemoryResourceStore( 10, overflowStore );
+  }
+
+  @Test
+  public void testWrite() throws IOException {
+    store.write( "foo", createInputStream( 1, 2, 3 ) );
+
+    assertEquals( 3, store.getLength( "foo" ) );
+    assertEquals( 3, store.getSize() );
+    verify( overflowStore, never() ).write( anyString(), any( InputStream.class ) );
+  }
+
+  @Test
+  public void testWrite_replacesContent() throws IOException {
+    store.write( "foo", createInputStream( 1, 2, 3 ) );
+
+    store.write( "foo", createInputStream( 4, 5 ) );
+
+    assertArrayEquals( new byte[] { 4, 5 }, read( store.read( "foo" ) ) );
+    assertEquals( 2, store.getSize() );
+  }
+
+  @Test
+  public void testWrite_exceedingCapacity_spillsToOverflowStore() throws IOException {
+    store.write( "foo", createInputStream( 1, 2, 3, 4, 5, 6 ) );
+
+    store.write( "bar", createInputStream( 1, 2, 3, 4, 5 ) );
+
+    verify( overflowStore ).write( eq( "bar" ), any( InputStream.class ) );
+    assertEquals( 6, store.getSize() );
+  }
+
+  @Test
+  public void testWrite_removesContentFromOverflowStore() throws IOException {
+    store.write( "foo", createInputStream( 1, 2, 3 ) );
+
+    verify( overflowStore ).delete( "foo" );
+  }
+
+  @Test
+  public void testGetLength_delegatesToOverflowStore() {
+    when( Long.valueOf( overflowStore.getLength( "foo" ) ) ).thenReturn( Long.valueOf( 23 ) );
+
+    assertEquals( 23, store.getLength( "foo" ) );
+  }
+
+  @Test
+  public void testGetLastModified() throws IOException {
+    long before = System.currentTimeMillis();
+
+    store.write( "foo", createInputStream( 1, 2, 3 ) );
+
+    assertTrue( store.getLastModified( "foo" ) >= before );
+  }
+
+  @Test
+  public void testRead() throws IOException {
+    store.write( "foo", createInputStream( 1, 2, 3 ) );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( store.read( "foo" ) ) );
+    assertArrayEquals( new byte[] { 1, 2, 3 }, read( store.read( "foo" ) ) );
+  }
+
+  @Test
+  public void testRead_delegatesToOverflowStore() throws IOException {
+    InputStream inputStream = createInputStream( 1 );
+    when( overflowStore.read( "foo" ) ).thenReturn( inputStream );
+
+    assertEquals( inputStream, store.read( "foo" ) );
+  }
+
+  @Test
+  public void testTransferTo() throws IOException {
+    store.write( "foo", createInputStream( 1, 2, 3 ) );
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    store.transferTo( "foo", Channels.newChannel( outputStream ) );
+
+    assertArrayEquals( new byte[] { 1, 2, 3 }, outputStream.toByteArray() );
+  }
+
+  @Test
+  public void testDelete() throws IOException {
+    store.write( "foo", createInputStream( 1, 2, 3 ) );
+
+    boolean deleted = store.delete( "foo" );
+
+    assertTrue( deleted );
+    assertEquals( -1, store.getLength( "foo" ) );
+    assertEquals( 0, store.getSize() );
+  }
+
+  @Test
+  public void testDelete_withoutContent() {
+    assertFalse( store.delete( "foo" ) );
+  }
+
+  @Test
+  public void testDelete_releasesCapacity() throws IOException {
+    store.write( "foo", createInputStream( 1, 2, 3, 4, 5, 6 ) );
+    store.delete( "foo" );
+
+    store.write( "bar", createInputStream( 1, 2, 3, 4, 5, 6 ) );
+
+    verify( overflowStore, never() ).write( anyString(), any( InputStream.class ) );
+  }
+
+  private static InputStream createInputStream( int... values ) {
+    byte[] bytes = new byte[ values.length ];
+    for( int i = 0; i < values.length; i++ ) {
+      bytes[ i ] = ( byte )values[ i ];
+    }
+    return new ByteArrayInputStream( bytes );
+  }
+
+  private static byte[] read( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 2 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      result.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    return result.toByteArray();
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,12 +26,15 @@ import static org.mockito.Mockito.verify;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.zip.GZIPInputStream;
 
+import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.service.ResourceLoader;
 import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -129,7 +132,173 @@ public class ResourceManagerImpl_Test {
     String path = "path/to/resource";
     resourceManager.register( path, createInputStream() );
     String location = resourceManager.getLocation( path );
-    assertEquals( "rwt-resources/" + path, location );
+    assertEquals( "rwt-resources/" + path + "?039058c6f2c0cb49", location );
+  }
+
+  @Test
+  public void testGetLocation_changesWithContent() {
+    String path = "path/to/resource";
+    resourceManager.register( path, createInputStream() );
+    String location = resourceManager.getLocation( path );
+
+    resourceManager.register( path, new ByteArrayInputStream( new byte[] { 4, 5, 6 } ) );
+
+    assertFalse( location.equals( resourceManager.getLocation( path ) ) );
+  }
+
+  @Test
+  public void testGetHash() {
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    assertEquals( "039058c6f2c0cb49", resourceManager.getHash( "path/to/resource" ) );
+  }
+
+  @Test
+  public void testGetHash_withEscapedPath() {
+    resourceManager.register( "path\\to\\a:b", createInputStream() );
+
+    assertEquals( "039058c6f2c0cb49", resourceManager.getHash( "path/to/a$1b" ) );
+  }
+
+  @Test
+  public void testGetHash_afterUnregister() {
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    resourceManager.unregister( "path/to/resource" );
+
+    assertNull( resourceManager.getHash( "path/to/resource" ) );
+  }
+
+  @Test
+  public void testRegister_compressesTextResource() throws IOException {
+    byte[] content = createTextContent( 4096 );
+
+    resourceManager.register( "path/to/script.js", new ByteArrayInputStream( content ) );
+
+    File compressedFile = getResourceCopyFile( "path/to/script.js$gz" );
+    assertTrue( compressedFile.exists() );
+    assertArrayEquals( content, readCompressed( compressedFile ) );
+  }
+
+  @Test
+  public void testRegister_doesNotCompressSmallResource() {
+    byte[] content = createTextContent( 100 );
+
+    resourceManager.register( "path/to/script.js", new ByteArrayInputStream( content ) );
+
+    assertFalse( getResourceCopyFile( "path/to/script.js$gz" ).exists() );
+  }
+
+  @Test
+  public void testRegister_doesNotCompressBinaryResource() {
+    byte[] content = createTextContent( 4096 );
+
+    resourceManager.register( "path/to/image.png", new ByteArrayInputStream( content ) );
+
+    assertFalse( getResourceCopyFile( "path/to/image.png$gz" ).exists() );
+  }
+
+  @Test
+  public void testRegister_removesOutdatedCompressedResource() {
+    resourceManager.register( "script.js", new ByteArrayInputStream( createTextContent( 4096 ) ) );
+
+    resourceManager.register( "script.js", new ByteArrayInputStream( createTextContent( 10 ) ) );
+
+    assertFalse( getResourceCopyFile( "script.js$gz" ).exists() );
+  }
+
+  @Test
+  public void testUnregister_deletesCompressedResource() {
+    resourceManager.register( "script.js", new ByteArrayInputStream( createTextContent( 4096 ) ) );
+
+    resourceManager.unregister( "script.js" );
+
+    assertFalse( getResourceCopyFile( "script.js$gz" ).exists() );
+  }
+
+  @Test
+  public void testRegister_withMemoryStore() throws IOException {
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    ResourceStore diskStore = new DiskResourceStore( resourceDirectory );
+    resourceManager = new ResourceManagerImpl( new MemoryResourceStore( 1024, diskStore ) );
+
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    assertFalse( getResourceCopyFile( "path/to/resource" ).exists() );
+    assertArrayEquals( new byte[] { 1, 2, 3 },
+                       read( resourceManager.getRegisteredContent( "path/to/resource" ) ) );
+    String location = resourceManager.getLocation( "path/to/resource" );
+    assertEquals( "rwt-resources/path/to/resource?039058c6f2c0cb49", location );
+  }
+
+  @Test
+  public void testRegister_withMemoryStore_exceedingCapacity() {
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    ResourceStore diskStore = new DiskResourceStore( resourceDirectory );
+    resourceManager = new ResourceManagerImpl( new MemoryResourceStore( 2, diskStore ) );
+
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    assertTrue( getResourceCopyFile( "path/to/resource" ).exists() );
+  }
+
+  @Test
+  public void testRegister_withMemoryStoreProperty_usesDiskStore() {
+    System.setProperty( RWTProperties.RESOURCE_MEMORY_STORE_SIZE, "1024" );
+    try {
+      ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+      resourceManager = new ResourceManagerImpl( resourceDirectory );
+
+      resourceManager.register( "path/to/resource", createInputStream() );
+
+      assertTrue( getResourceCopyFile( "path/to/resource" ).exists() );
+    } finally {
+      System.getProperties().remove( RWTProperties.RESOURCE_MEMORY_STORE_SIZE );
+    }
+  }
+
+  @Test
+  public void testEnableMemoryStore() throws IOException {
+    resourceManager.enableMemoryStore( 1024 );
+
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    assertFalse( getResourceCopyFile( "path/to/resource" ).exists() );
+    assertArrayEquals( new byte[] { 1, 2, 3 },
+                       read( resourceManager.getRegisteredContent( "path/to/resource" ) ) );
+  }
+
+  @Test
+  public void testEnableMemoryStore_movesRegisteredResources() throws IOException {
+    byte[] content = createTextContent( 4096 );
+    resourceManager.register( "script.js", new ByteArrayInputStream( content ) );
+
+    resourceManager.enableMemoryStore( 8192 );
+
+    assertFalse( getResourceCopyFile( "script.js" ).exists() );
+    assertFalse( getResourceCopyFile( "script.js$gz" ).exists() );
+    assertArrayEquals( content, read( resourceManager.getRegisteredContent( "script.js" ) ) );
+    assertTrue( resourceManager.getStore().getLength( "script.js$gz" ) > 0 );
+  }
+
+  @Test
+  public void testEnableMemoryStore_keepsResourcesExceedingCapacityOnDisk() throws IOException {
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    resourceManager.enableMemoryStore( 2 );
+
+    assertTrue( getResourceCopyFile( "path/to/resource" ).exists() );
+    assertArrayEquals( new byte[] { 1, 2, 3 },
+                       read( resourceManager.getRegisteredContent( "path/to/resource" ) ) );
+  }
+
+  @Test
+  public void testEnableMemoryStore_withoutCapacity() {
+    resourceManager.enableMemoryStore( 0 );
+
+    resourceManager.register( "path/to/resource", createInputStream() );
+
+    assertTrue( getResourceCopyFile( "path/to/resource" ).exists() );
   }
 
   @Test
@@ -183,7 +352,7 @@ public class ResourceManagerImpl_Test {
 
     String location = resourceManager.getLocation( path );
 
-    assertEquals( "rwt-resources/http$1//host$1port/path$$1", location );
+    assertEquals( "rwt-resources/http$1//host$1port/path$$1?e3b0c44298fc1c14", location );
   }
 
   @Test
@@ -204,7 +373,7 @@ public class ResourceManagerImpl_Test {
 
     String location = resourceManager.getLocation( path );
 
-    assertEquals( "rwt-resources//absolute/path/to/resource.txt", location );
+    assertEquals( "rwt-resources//absolute/path/to/resource.txt?039058c6f2c0cb49", location );
   }
 
   @Test
@@ -327,7 +496,7 @@ public class ResourceManagerImpl_Test {
 
     String location = resourceManager.getLocation( path );
 
-    assertEquals( "rwt-resources/" + path, location );
+    assertEquals( "rwt-resources/" + path + "?039058c6f2c0cb49", location );
   }
 
   @Test
@@ -351,7 +520,7 @@ public class ResourceManagerImpl_Test {
 
     String location = resourceManager.getLocation( path );
 
-    assertEquals( "rwt-resources/http$1//host$1port/path$$1", location );
+    assertEquals( "rwt-resources/http$1//host$1port/path$$1?039058c6f2c0cb49", location );
   }
 
   @Test
@@ -370,7 +539,7 @@ public class ResourceManagerImpl_Test {
 
     String location = resourceManager.getLocation( path );
 
-    assertEquals( "rwt-resources//absolute/path/to/resource.txt", location );
+    assertEquals( "rwt-resources//absolute/path/to/resource.txt?039058c6f2c0cb49", location );
   }
 
   @Test
@@ -400,6 +569,29 @@ public class ResourceManagerImpl_Test {
     }
   }
 
+  private static byte[] readCompressed( File file ) throws IOException {
+    InputStream inputStream = new GZIPInputStream( new FileInputStream( file ) );
+    try {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      int read = inputStream.read();
+      while( read != -1 ) {
+        outputStream.write( read );
+        read = inputStream.read();
+      }
+      return outputStream.toByteArray();
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  private static byte[] createTextContent( int length ) {
+    byte[] result = new byte[ length ];
+    for( int i = 0; i < length; i++ ) {
+      result[ i ] = ( byte )( 'a' + i % 26 );
+    }
+    return result;
+  }
+
   private InputStream createInputStream() {
     return new ByteArrayInputStream( new byte[] { 1, 2, 3 } );
   }
@@ -0,0 +1,266 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static javax.servlet.http.HttpServletResponse.SC_NOT_FOUND;
+import static javax.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static org.eclipse.rap.rwt.internal.resources.ResourceServlet.CACHE_FOREVER;
+import static org.eclipse.rap.rwt.internal.resources.ResourceServlet.REVALIDATE;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ResourceServlet_Test {
+
+  private static final byte[] CONTENT = new byte[] { 1, 2, 3 };
+  private static final String HASH = "039058c6f2c0cb49";
+
+  private ResourceManagerImpl resourceManager;
+  private ResourceServlet servlet;
+  private HttpServletRequest request;
+  private HttpServletResponse response;
+  private TestServletOutputStream outputStream;
+
+  @Before
+  public void setUp() throws IOException {
+    Fixture.setUp();
+    ResourceDirectory resourceDirectory = getApplicationContext().getResourceDirectory();
+    resourceManager = new ResourceManagerImpl( resourceDirectory );
+    final ServletContext servletContext = mock( ServletContext.class );
+    when( servletContext.getMimeType( anyString() ) ).thenReturn( "application/javascript" );
+    servlet = new ResourceServlet( resourceManager ) {
+      @Override
+      public ServletContext getServletContext() {
+        return servletContext;
+      }
+    };
+    request = mock( HttpServletRequest.class );
+    response = mock( HttpServletResponse.class );
+    outputStream = new TestServletOutputStream();
+    when( response.getOutputStream() ).thenReturn( outputStream );
+  }
+
+  @After
+  public void tearDown() {
+    FileUtil.delete( new File( Fixture.WEB_CONTEXT_DIR, ResourceDirectory.DIRNAME ) );
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testDoGet_sendsContent() throws IOException {
+    resourceManager.register( "path/to/script.js", new ByteArrayInputStream( CONTENT ) );
+    when( request.getPathInfo() ).thenReturn( "/path/to/script.js" );
+
+    servlet.doGet( request, response );
+
+    assertArrayEquals( CONTENT, outputStream.getContent().toByteArray() );
+    verify( response ).setContentType( "application/javascript" );
+    verify( response ).setContentLength( 3 );
+    verify( response ).setHeader( "ETag", "\"" + HASH + "\"" );
+  }
+
+  @Test
+  public void testDoGet_withHash_isCachedForever() throws IOException {
+    resourceManager.register( "script.js", new ByteArrayInputStream( CONTENT ) );
+    when( request.getPathInfo() ).thenReturn( "/script.js" );
+    when( request.getQueryString() ).thenReturn( HASH );
+
+    servlet.doGet( request, response );
+
+    verify( response ).setHeader( "Cache-Control", CACHE_FOREVER );
+  }
+
+  @Test
+  public void testDoGet_withoutHash_isRevalidated() throws IOException {
+    resourceManager.register( "script.js", new ByteArrayInputStream( CONTENT ) );
+    when( request.getPathInfo() ).thenReturn( "/script.js" );
+
+    servlet.doGet( request, response );
+
+    verify( response ).setHeader( "Cache-Control", REVALIDATE );
+  }
+
+  @Test
+  public void testDoGet_withOutdatedHash_isRevalidated() throws IOException {
+    resourceManager.register( "script.js", new ByteArrayInputStream( CONTENT ) );
+    when( request.getPathInfo() ).thenReturn( "/script.js" );
+    when( request.getQueryString() ).thenReturn( "0123456789abcdef" );
+
+    servlet.doGet( request, response );
+
+    verify( response ).setHeader( "Cache-Control", REVALIDATE );
+  }
+
+  @Test
+  public void testDoGet_withMatchingETag() throws IOException {
+    resourceManager.register( "script.js", new ByteArrayInputStream( CONTENT ) );
+    when( request.getPathInfo() ).thenReturn( "/script.js" );
+    when( request.getHeader( "If-None-Match" ) ).thenReturn( "\"" + HASH + "\"" );
+
+    servlet.doGet( request, response );
+
+    verify( response ).setStatus( SC_NOT_MODIFIED );
+    verify( response, never() ).getOutputStream();
+  }
+
+  @Test
+  public void testDoGet_withDifferentETag() throws IOException {
+    resourceManager.register( "script.js", new ByteArrayInputStream( CONTENT ) );
+    when( request.getPathInfo() ).thenReturn( "/script.js" );
+    when( request.getHeader( "If-None-Match" ) ).thenReturn( "\"0123456789abcdef\"" );
+
+    servlet.doGet( request, response );
+
+    verify( response, never() ).setStatus( SC_NOT_MODIFIED );
+    assertArrayEquals( CONTENT, outputStream.getContent().toByteArray() );
+  }
+
+  @Test
+  public void testDoGet_sendsCompressedContent() throws IOException {
+    byte[] content = createTextContent( 4096 );
+    resourceManager.register( "script.js", new ByteArrayInputStream( content ) );
+    when( request.getPathInfo() ).thenReturn( "/script.js" );
+    when( request.getHeader( "Accept-Encoding" ) ).thenReturn( "gzip, deflate" );
+
+    servlet.doGet( request, response );
+
+    verify( response ).setHeader( "Content-Encoding", "gzip" );
+    verify( response ).setHeader( "Vary", "Accept-Encoding" );
+    String hash = resourceManager.getHash( "script.js" );
+    verify( response ).setHeader( "ETag", "\"" + hash + "-gzip\"" );
+    assertTrue( outputStream.getContent().size() < content.length );
+  }
+
+  @Test
+  public void testDoGet_sendsUncompressedContentIfGzipIsNotAccepted() throws IOException {
+    byte[] content = createTextContent( 4096 );
+    resourceManager.register( "script.js", new ByteArrayInputStream( content ) );
+    when( request.getPathInfo() ).thenReturn( "/script.js" );
+
+    servlet.doGet( request, response );
+
+    verify( response, never() ).setHeader( "Content-Encoding", "gzip" );
+    verify( response ).setHeader( "Vary", "Accept-Encoding" );
+    assertArrayEquals( content, outputStream.getContent().toByteArray() );
+  }
+
+  @Test
+  public void testDoGet_withCompressedPath() throws IOException {
+    resourceManager.register( "script.js", new ByteArrayInputStream( createTextContent( 4096 ) ) );
+    when( request.getPathInfo() ).thenReturn( "/script.js" + ResourceManagerImpl.COMPRESSED_SUFFIX );
+    when( request.getHeader( "Accept-Encoding" ) ).thenReturn( "gzip, deflate" );
+
+    servlet.doGet( request, response );
+
+    verify( response ).sendError( SC_NOT_FOUND );
+    assertEquals( 0, outputStream.getContent().size() );
+  }
+
+  @Test
+  public void testDoGet_withUnregisteredCompressedPath() throws IOException {
+    resourceManager.register( "script.js", new ByteArrayInputStream( createTextContent( 4096 ) ) );
+    resourceManager.unregister( "script.js" );
+    File directory = new File( Fixture.WEB_CONTEXT_DIR, ResourceDirectory.DIRNAME );
+    File file = new File( directory, "script.js" + ResourceManagerImpl.COMPRESSED_SUFFIX );
+    assertTrue( file.createNewFile() );
+    when( request.getPathInfo() ).thenReturn( "/script.js" + ResourceManagerImpl.COMPRESSED_SUFFIX );
+
+    servlet.doGet( request, response );
+
+    verify( response ).sendError( SC_NOT_FOUND );
+  }
+
+  @Test
+  public void testDoGet_withResourceNameEndingWithCompressedSuffix() throws IOException {
+    String name = "data" + ResourceManagerImpl.COMPRESSED_SUFFIX;
+    resourceManager.register( name, new ByteArrayInputStream( CONTENT ) );
+    String location = resourceManager.getLocation( name );
+    String path = location.substring( ResourceDirectory.DIRNAME.length(), location.indexOf( '?' ) );
+    when( request.getPathInfo() ).thenReturn( path );
+
+    servlet.doGet( request, response );
+
+    verify( response, never() ).sendError( SC_NOT_FOUND );
+    assertArrayEquals( CONTENT, outputStream.getContent().toByteArray() );
+  }
+
+  @Test
+  public void testDoGet_withMissingResource() throws IOException {
+    when( request.getPathInfo() ).thenReturn( "/script.js" );
+
+    servlet.doGet( request, response );
+
+    verify( response ).sendError( SC_NOT_FOUND );
+  }
+
+  @Test
+  public void testDoGet_withoutPath() throws IOException {
+    servlet.doGet( request, response );
+
+    verify( response ).sendError( SC_NOT_FOUND );
+  }
+
+  @Test
+  public void testDoGet_withParentSegment() throws IOException {
+    resourceManager.register( "script.js", new ByteArrayInputStream( CONTENT ) );
+    when( request.getPathInfo() ).thenReturn( "/path/../script.js" );
+
+    servlet.doGet( request, response );
+
+    verify( response ).sendError( SC_NOT_FOUND );
+  }
+
+  @Test
+  public void testDoGet_withUnregisteredFile() throws IOException {
+    resourceManager.register( "other.js", new ByteArrayInputStream( CONTENT ) );
+    File directory = new File( Fixture.WEB_CONTEXT_DIR, ResourceDirectory.DIRNAME );
+    File file = new File( directory, "other.js" );
+    File copy = new File( directory, "copy.js" );
+    assertTrue( file.renameTo( copy ) );
+    when( request.getPathInfo() ).thenReturn( "/copy.js" );
+
+    servlet.doGet( request, response );
+
+    verify( response ).setHeader( "Cache-Control", REVALIDATE );
+    assertEquals( 3, outputStream.getContent().size() );
+  }
+
+  private static byte[] createTextContent( int length ) {
+    byte[] result = new byte[ length ];
+    for( int i = 0; i < length; i++ ) {
+      result[ i ] = ( byte )( 'a' + i % 26 );
+    }
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,7 +18,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -28,6 +31,10 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import javax.servlet.http.HttpSessionBindingListener;
 
@@ -48,6 +55,9 @@ import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 
 public class ServerPushManager_Test {
@@ -563,6 +573,183 @@ public class ServerPushManager_Test {
     assertNotNull( response.getHeader( "Expires" ) );
   }
 
+  @Test
+  public void testService_suspendsRequestWithAsyncSupport() throws IOException {
+    HttpServletRequest request = mockAsyncRequest();
+    when( request.isAsyncSupported() ).thenReturn( true );
+    manager.activateServerPushFor( HANDLE_1 );
+
+    pushServiceHandler.service( request, ContextProvider.getResponse() );
+
+    verify( request ).startAsync();
+    assertTrue( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testService_doesNotSuspendRequestWithoutAsyncSupport() throws IOException {
+    HttpServletRequest request = mockAsyncRequest();
+
+    pushServiceHandler.service( request, ContextProvider.getResponse() );
+
+    verify( request, never() ).startAsync();
+  }
+
+  @Test
+  public void testSuspendRequest_startsAsyncRequest() {
+    HttpServletRequest request = mockAsyncRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+
+    manager.suspendRequest( request );
+
+    verify( request ).startAsync();
+    assertTrue( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testSuspendRequest_usesSessionTimeout() {
+    ContextProvider.getUISession().getHttpSession().setMaxInactiveInterval( 60 );
+    HttpServletRequest request = mockAsyncRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+
+    manager.suspendRequest( request );
+
+    verify( request.getAsyncContext() ).setTimeout( 60000 );
+  }
+
+  @Test
+  public void testSuspendRequest_notSuspendedWhenRunnablesExist() {
+    HttpServletRequest request = mockAsyncRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    display.asyncExec( EMPTY_RUNNABLE );
+
+    manager.suspendRequest( request );
+
+    verify( request, never() ).startAsync();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testSuspendRequest_completedOnWakeClient() {
+    HttpServletRequest request = mockAsyncRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.suspendRequest( request );
+
+    manager.setHasRunnables( true );
+    manager.wakeClient();
+
+    verify( request.getAsyncContext() ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testSuspendRequest_completedWithoutHoldingLock() throws Throwable {
+    HttpServletRequest request = mockAsyncRequest();
+    AsyncContext asyncContext = request.getAsyncContext();
+    final AtomicBoolean lockAvailable = new AtomicBoolean();
+    final AtomicBoolean completedWithoutLock = new AtomicBoolean();
+    doAnswer( new Answer<Void>() {
+      @Override
+      public Void answer( InvocationOnMock invocation ) throws Throwable {
+        // simulates a container callback on another thread that acquires the lock
+        Thread thread = new Thread( new Runnable() {
+          @Override
+          public void run() {
+            manager.isCallBackRequestBlocked();
+            lockAvailable.set( true );
+          }
+        } );
+        thread.start();
+        thread.join( 2000 );
+        completedWithoutLock.set( lockAvailable.get() );
+        return null;
+      }
+    } ).when( asyncContext ).complete();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.suspendRequest( request );
+    manager.setHasRunnables( true );
+
+    manager.wakeClient();
+
+    verify( asyncContext ).complete();
+    assertTrue( completedWithoutLock.get() );
+  }
+
+  @Test
+  public void testSuspendRequest_notCompletedOnWakeClientWithoutRunnables() {
+    HttpServletRequest request = mockAsyncRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.suspendRequest( request );
+
+    manager.wakeClient();
+
+    verify( request.getAsyncContext(), never() ).complete();
+    assertTrue( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testSuspendRequest_completedOnDeactivation() {
+    HttpServletRequest request = mockAsyncRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.suspendRequest( request );
+
+    manager.deactivateServerPushFor( HANDLE_1 );
+
+    verify( request.getAsyncContext() ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testSuspendRequest_completesPreviousRequest() {
+    HttpServletRequest request1 = mockAsyncRequest();
+    HttpServletRequest request2 = mockAsyncRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.suspendRequest( request1 );
+
+    manager.suspendRequest( request2 );
+
+    verify( request1.getAsyncContext() ).complete();
+    verify( request2.getAsyncContext(), never() ).complete();
+    assertTrue( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testSuspendRequest_completedOnSessionInvalidation() {
+    HttpServletRequest request = mockAsyncRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.suspendRequest( request );
+
+    ContextProvider.getUISession().getHttpSession().invalidate();
+
+    verify( request.getAsyncContext() ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testSuspendRequest_completedOnTimeout() throws IOException {
+    HttpServletRequest request = mockAsyncRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.suspendRequest( request );
+    AsyncListener listener = captureAsyncListener( request.getAsyncContext() );
+
+    listener.onTimeout( mock( AsyncEvent.class ) );
+
+    verify( request.getAsyncContext() ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
+  @Test
+  public void testSuspendRequest_releasedOnError() throws IOException {
+    HttpServletRequest request = mockAsyncRequest();
+    manager.activateServerPushFor( HANDLE_1 );
+    manager.suspendRequest( request );
+    AsyncListener listener = captureAsyncListener( request.getAsyncContext() );
+
+    listener.onError( mock( AsyncEvent.class ) );
+
+    verify( request.getAsyncContext(), never() ).complete();
+    assertFalse( manager.isCallBackRequestBlocked() );
+  }
+
   private void simulateBackgroundAddition( final ServiceContext serviceContext ) throws Throwable {
     Runnable runnable = new Runnable() {
       @Override
@@ -609,6 +796,20 @@ public class ServerPushManager_Test {
     ContextProvider.getUISession().setAttribute( "org.eclipse.swt.display", display );
   }
 
+  private static HttpServletRequest mockAsyncRequest() {
+    HttpServletRequest request = mock( HttpServletRequest.class );
+    AsyncContext asyncContext = mock( AsyncContext.class );
+    when( request.startAsync() ).thenReturn( asyncContext );
+    when( request.getAsyncContext() ).thenReturn( asyncContext );
+    return request;
+  }
+
+  private static AsyncListener captureAsyncListener( AsyncContext asyncContext ) {
+    ArgumentCaptor<AsyncListener> captor = ArgumentCaptor.forClass( AsyncListener.class );
+    verify( asyncContext ).addListener( captor.capture() );
+    return captor.getValue();
+  }
+
   private static ServiceContext createServiceContext( TestResponse response ) {
     UISession uiSession = ContextProvider.getContext().getUISession();
     TestRequest request = new TestRequest();
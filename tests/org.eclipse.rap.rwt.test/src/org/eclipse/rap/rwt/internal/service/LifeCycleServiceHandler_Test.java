@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -26,9 +26,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -54,6 +58,7 @@ import org.eclipse.rap.rwt.testfixture.internal.TestMessage;
 import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponseMessage;
+import org.eclipse.rap.rwt.testfixture.internal.TestServletOutputStream;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -184,6 +189,28 @@ public class LifeCycleServiceHandler_Test {
     assertEquals( 2, requestCounter.currentRequestId() );
   }
 
+  @Test
+  public void testMarksUISessionModified() throws IOException {
+    UISessionImpl uiSession = ( UISessionImpl )getUISession();
+    uiSession.attachToHttpSession();
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    assertTrue( uiSession.isModified() );
+  }
+
+  @Test
+  public void testDoesNotMarkUISessionModified_forIllegalRequestCounter() throws IOException {
+    UISessionImpl uiSession = ( UISessionImpl )getUISession();
+    uiSession.attachToHttpSession();
+    simulateUiRequestWithIllegalCounter();
+
+    service( serviceHandler );
+
+    assertFalse( uiSession.isModified() );
+  }
+
   @Test
   public void testFinishesProtocolWriter() throws IOException {
     simulateUiRequest();
@@ -279,6 +306,96 @@ public class LifeCycleServiceHandler_Test {
     assertEquals( firstResponse, secondResponse );
   }
 
+  @Test
+  public void testSendBufferedResponse_keepsOnlySerializedMessage() throws IOException {
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    UISession uiSession = getUISession();
+    String attributeName = LifeCycleServiceHandler.class.getName() + "#lastResponseMessage";
+    byte[] bufferedMessage = ( byte[] )uiSession.getAttribute( attributeName );
+    assertEquals( getResponse().getContent(), new String( bufferedMessage, "UTF-8" ) );
+  }
+
+  @Test
+  public void testService_writesUtf8Content() throws IOException {
+    ResponseMessage responseMessage = new TestResponseMessage();
+    responseMessage.getHead().add( "test", "\u00e4\u20ac\ud83d\ude00\u2028" );
+    serviceHandler = createServiceHandler( responseMessage );
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    JsonObject head = JsonObject.readFrom( getResponse().getContent() ).get( "head" ).asObject();
+    assertEquals( "\u00e4\u20ac\ud83d\ude00\u2028", head.get( "test" ).asString() );
+  }
+
+  @Test
+  public void testService_compressesLargeResponseWhenAccepted() throws IOException {
+    serviceHandler = createServiceHandler( createLargeMessage() );
+    simulateUiRequest();
+    getRequest().setHeader( "Accept-Encoding", "gzip, deflate" );
+
+    service( serviceHandler );
+
+    assertEquals( "gzip", getResponse().getHeader( "Content-Encoding" ) );
+    JsonObject head = JsonObject.readFrom( decompress( getResponseBytes() ) ).get( "head" ).asObject();
+    assertEquals( createLargeMessage().getHead().get( "test" ), head.get( "test" ) );
+  }
+
+  @Test
+  public void testService_doesNotCompressWithoutAcceptEncoding() throws IOException {
+    serviceHandler = createServiceHandler( createLargeMessage() );
+    simulateUiRequest();
+
+    service( serviceHandler );
+
+    assertNull( getResponse().getHeader( "Content-Encoding" ) );
+    JsonObject.readFrom( getResponse().getContent() );
+  }
+
+  @Test
+  public void testService_doesNotCompressSmallResponse() throws IOException {
+    simulateUiRequest();
+    getRequest().setHeader( "Accept-Encoding", "gzip" );
+
+    service( serviceHandler );
+
+    assertNull( getResponse().getHeader( "Content-Encoding" ) );
+    JsonObject.readFrom( getResponse().getContent() );
+  }
+
+  @Test
+  public void testService_compressesBufferedResponse() throws IOException {
+    serviceHandler = createServiceHandler( createLargeMessage() );
+    simulateUiRequest();
+    RequestCounter.getInstance().nextRequestId();
+    int requestCounter = RequestCounter.getInstance().nextRequestId();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    service( serviceHandler );
+    String firstResponse = getResponse().getContent();
+
+    simulateUiRequest();
+    Fixture.fakeHeadParameter( "requestCounter", requestCounter );
+    getRequest().setHeader( "Accept-Encoding", "gzip" );
+    service( serviceHandler );
+
+    assertEquals( "gzip", getResponse().getHeader( "Content-Encoding" ) );
+    assertEquals( firstResponse, decompress( getResponseBytes() ) );
+  }
+
+  @Test
+  public void testAcceptsGzip() {
+    assertFalse( acceptsGzip( null ) );
+    assertFalse( acceptsGzip( "deflate" ) );
+    assertFalse( acceptsGzip( "gzip;q=0" ) );
+    assertFalse( acceptsGzip( "deflate, gzip; q=0.0" ) );
+    assertTrue( acceptsGzip( "gzip" ) );
+    assertTrue( acceptsGzip( "deflate, GZIP" ) );
+    assertTrue( acceptsGzip( "gzip;q=0.5, deflate" ) );
+  }
+
   @Test
   public void testWritesValidJson() throws IOException {
     simulateUiRequest();
@@ -365,7 +482,7 @@ public class LifeCycleServiceHandler_Test {
   public void testUIRequest_shutsDownUISession_ifIOException() throws IOException {
     simulateUiRequest();
     HttpServletResponse response = mock( HttpServletResponse.class );
-    doThrow( new IOException() ).when( response ).getWriter();
+    doThrow( new IOException() ).when( response ).getOutputStream();
 
     try {
       serviceHandler.service( getRequest(), response );
@@ -395,6 +512,46 @@ public class LifeCycleServiceHandler_Test {
     Fixture.fakeHeadParameter( "requestCounter", 23 );
   }
 
+  private LifeCycleServiceHandler createServiceHandler( ResponseMessage responseMessage ) {
+    MessageFilter filter = mock( MessageFilter.class );
+    when( filter.handleMessage( any( RequestMessage.class ), any( MessageFilterChain.class ) ) )
+      .thenReturn( responseMessage );
+    MessageChainElement handlerWrapper = new MessageChainElement( filter, null );
+    return new LifeCycleServiceHandler( new MessageChainReference( handlerWrapper ) );
+  }
+
+  private static ResponseMessage createLargeMessage() {
+    ResponseMessage responseMessage = new TestResponseMessage();
+    StringBuilder value = new StringBuilder();
+    for( int i = 0; value.length() < LifeCycleServiceHandler.MIN_COMPRESSION_SIZE; i++ ) {
+      value.append( "rwt.widgets.GridItem" ).append( i );
+    }
+    responseMessage.getHead().add( "test", value.toString() );
+    return responseMessage;
+  }
+
+  private static boolean acceptsGzip( String acceptEncoding ) {
+    HttpServletRequest request = mock( HttpServletRequest.class );
+    when( request.getHeader( "Accept-Encoding" ) ).thenReturn( acceptEncoding );
+    return LifeCycleServiceHandler.acceptsGzip( request );
+  }
+
+  private static byte[] getResponseBytes() throws IOException {
+    TestServletOutputStream outputStream = ( TestServletOutputStream )getResponse().getOutputStream();
+    return outputStream.getContent().toByteArray();
+  }
+
+  private static String decompress( byte[] content ) throws IOException {
+    InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( content ) );
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 1024 ];
+    int length;
+    while( ( length = inputStream.read( buffer ) ) != -1 ) {
+      result.write( buffer, 0, length );
+    }
+    return result.toString( "UTF-8" );
+  }
+
   private static MessageFilter mockMessageFilter() {
     MessageFilter filter = mock( MessageFilter.class );
     ResponseMessage responseMessage = new TestResponseMessage();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -101,8 +101,8 @@ public class StartupJson_Test {
     CallOperation operation
       = message.findCallOperation( THEME_STORE_TYPE, METHOD_LOAD_FALLBACK_THEME );
     assertNotNull( operation );
-    String expected = "rwt-resources/rap-rwt.theme.Fallback.json";
-    assertEquals( expected, operation.getParameters().get( PROPERTY_URL ).asString() );
+    String expected = "rwt-resources/rap-rwt.theme.Fallback.json?";
+    assertTrue( operation.getParameters().get( PROPERTY_URL ).asString().startsWith( expected ) );
   }
 
   @Test
@@ -115,8 +115,8 @@ public class StartupJson_Test {
     CallOperation operation
       = message.findCallOperation( THEME_STORE_TYPE, METHOD_LOAD_ACTIVE_THEME );
     assertNotNull( operation );
-    String expected = "rwt-resources/rap-rwt.theme.Default.json";
-    assertEquals( expected, operation.getParameters().get( PROPERTY_URL ).asString() );
+    String expected = "rwt-resources/rap-rwt.theme.Default.json?";
+    assertTrue( operation.getParameters().get( PROPERTY_URL ).asString().startsWith( expected ) );
   }
 
   @Test
@@ -133,8 +133,8 @@ public class StartupJson_Test {
     CallOperation operation
       = message.findCallOperation( THEME_STORE_TYPE, METHOD_LOAD_ACTIVE_THEME );
     assertNotNull( operation );
-    String expected = "rwt-resources/rap-rwt.theme.Custom_1465393d.json";
-    assertEquals( expected, operation.getParameters().get( PROPERTY_URL ).asString() );
+    String expected = "rwt-resources/rap-rwt.theme.Custom_1465393d.json?";
+    assertTrue( operation.getParameters().get( PROPERTY_URL ).asString().startsWith( expected ) );
   }
 
   @Test
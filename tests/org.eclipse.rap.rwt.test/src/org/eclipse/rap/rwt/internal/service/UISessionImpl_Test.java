@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -114,6 +114,48 @@ public class UISessionImpl_Test {
     assertSame( result, uiSession );
   }
 
+  @Test
+  public void testAttachToSession_resetsModified() {
+    uiSession.markModified();
+
+    uiSession.attachToHttpSession();
+
+    assertFalse( uiSession.isModified() );
+  }
+
+  @Test
+  public void testIsModified_initiallyFalse() {
+    assertFalse( uiSession.isModified() );
+  }
+
+  @Test
+  public void testIsModified_afterMarkModified() {
+    uiSession.markModified();
+
+    assertTrue( uiSession.isModified() );
+  }
+
+  @Test
+  public void testIsModified_afterSetAttribute() {
+    uiSession.setAttribute( "name", "value" );
+
+    assertTrue( uiSession.isModified() );
+  }
+
+  @Test
+  public void testIsModified_afterRemoveAttribute() {
+    uiSession.removeAttribute( "name" );
+
+    assertTrue( uiSession.isModified() );
+  }
+
+  @Test
+  public void testIsModified_notAfterGetAttribute() {
+    uiSession.getAttribute( "name" );
+
+    assertFalse( uiSession.isModified() );
+  }
+
   @Test
   public void testGetInstanceFromSession() {
     UISessionImpl result = UISessionImpl.getInstanceFromSession( httpSession, null );
@@ -0,0 +1,253 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.eclipse.rap.rwt.testfixture.internal.FileUtil;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class TextSizeSnapshot_Test {
+
+  private static final FontData FONT_DATA_1 = new FontData( "arial", 10, SWT.NORMAL );
+  private static final FontData FONT_DATA_2 = new FontData( "helvetia", 12, SWT.BOLD );
+
+  private File directory;
+  private File file;
+  private TextSizeStorage storage;
+  private TextSizeSnapshot snapshot;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    directory = new File( Fixture.TEMP_DIR, TextSizeSnapshot_Test.class.getName() );
+    file = new File( directory, "text-sizes.dat" );
+    storage = new TextSizeStorage();
+    snapshot = new TextSizeSnapshot( storage, file );
+  }
+
+  @After
+  public void tearDown() {
+    snapshot.stop();
+    FileUtil.delete( directory );
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testSave_createsFile() {
+    snapshot.save();
+
+    assertTrue( file.isFile() );
+    assertEquals( Arrays.asList( file.getName() ), Arrays.asList( directory.list() ) );
+  }
+
+  @Test
+  public void testSave_ignoresStaleTempFile() throws IOException {
+    directory.mkdirs();
+    File staleFile = new File( file.getPath() + ".tmp" );
+    Files.write( staleFile.toPath(), new byte[] { 1, 2, 3 } );
+    storage.storeFont( FONT_DATA_1 );
+
+    snapshot.save();
+
+    assertTrue( staleFile.isFile() );
+    assertEquals( 1, loadSnapshot().getFontList().length );
+  }
+
+  @Test
+  public void testGetFile_isInDirectory() {
+    File result = TextSizeSnapshot.getFile( directory, "/app|/contextdir" );
+
+    assertEquals( directory, result.getParentFile() );
+  }
+
+  @Test
+  public void testGetFile_isStable() {
+    File result1 = TextSizeSnapshot.getFile( directory, "/app|/contextdir" );
+    File result2 = TextSizeSnapshot.getFile( directory, "/app|/contextdir" );
+
+    assertEquals( result1, result2 );
+  }
+
+  @Test
+  public void testGetFile_differsForApplications() {
+    File result1 = TextSizeSnapshot.getFile( directory, "/app1|/contextdir1" );
+    File result2 = TextSizeSnapshot.getFile( directory, "/app2|/contextdir2" );
+
+    assertFalse( result1.equals( result2 ) );
+  }
+
+  @Test
+  public void testLoad_restoresFonts() {
+    storage.storeFont( FONT_DATA_1 );
+    storage.storeFont( FONT_DATA_2 );
+    snapshot.save();
+
+    TextSizeStorage restored = loadSnapshot();
+
+    FontData[] fontList = restored.getFontList();
+    assertEquals( 2, fontList.length );
+    assertTrue( Arrays.asList( fontList ).contains( FONT_DATA_1 ) );
+    assertTrue( Arrays.asList( fontList ).contains( FONT_DATA_2 ) );
+  }
+
+  @Test
+  public void testLoad_restoresTextSizes() {
+    TextSizeKey key1 = createKey( FONT_DATA_1, "text", SWT.DEFAULT );
+    TextSizeKey key2 = createKey( FONT_DATA_2, "other text", 100 );
+    storage.storeTextSize( key1, new Point( 20, 12 ) );
+    storage.storeTextSize( key2, new Point( 50, 30 ) );
+    snapshot.save();
+
+    TextSizeStorage restored = loadSnapshot();
+
+    assertEquals( new Point( 20, 12 ), restored.lookupTextSize( key1 ) );
+    assertEquals( new Point( 50, 30 ), restored.lookupTextSize( key2 ) );
+    assertEquals( 0, restored.getFontList().length );
+  }
+
+  @Test
+  public void testLoad_distinguishesProbes() {
+    TextSizeKey key = createKey( FONT_DATA_1, "text", SWT.DEFAULT );
+    storage.storeTextSize( key, new Point( 20, 12 ) );
+    snapshot.save();
+
+    TextSizeStorage restored = loadSnapshot();
+
+    TextSizeKey otherProbeKey
+      = new TextSizeKey( FONT_DATA_1, "text", SWT.DEFAULT, 0, "probe", new Point( 7, 8 ) );
+    assertNull( restored.lookupTextSize( otherProbeKey ) );
+  }
+
+  @Test
+  public void testSave_skipsLongTexts() {
+    char[] chars = new char[ 5000 ];
+    Arrays.fill( chars, 'a' );
+    TextSizeKey key = createKey( FONT_DATA_1, new String( chars ), SWT.DEFAULT );
+    storage.storeTextSize( key, new Point( 20, 12 ) );
+    snapshot.save();
+
+    TextSizeStorage restored = loadSnapshot();
+
+    assertNull( restored.lookupTextSize( key ) );
+  }
+
+  @Test
+  public void testSave_replacesPreviousSnapshot() {
+    TextSizeKey key = createKey( FONT_DATA_1, "text", SWT.DEFAULT );
+    storage.storeTextSize( key, new Point( 20, 12 ) );
+    snapshot.save();
+    storage.storeTextSize( key, new Point( 21, 13 ) );
+    snapshot.save();
+
+    TextSizeStorage restored = loadSnapshot();
+
+    assertEquals( new Point( 21, 13 ), restored.lookupTextSize( key ) );
+  }
+
+  @Test
+  public void testLoad_withoutFile() {
+    snapshot.load();
+
+    assertEquals( 0, storage.getFontList().length );
+  }
+
+  @Test
+  public void testLoad_ignoresCorruptFile() throws IOException {
+    directory.mkdirs();
+    FileOutputStream stream = new FileOutputStream( file );
+    try {
+      stream.write( new byte[] { 1, 2, 3, 4 } );
+    } finally {
+      stream.close();
+    }
+
+    snapshot.load();
+
+    assertEquals( 0, storage.getFontList().length );
+  }
+
+  @Test
+  public void testLoad_ignoresTruncatedFile() throws IOException {
+    storage.storeFont( FONT_DATA_1 );
+    storage.storeTextSize( createKey( FONT_DATA_1, "text", SWT.DEFAULT ), new Point( 20, 12 ) );
+    snapshot.save();
+    byte[] content = Files.readAllBytes( file.toPath() );
+    Files.write( file.toPath(), Arrays.copyOf( content, content.length / 2 ) );
+
+    TextSizeStorage restored = loadSnapshot();
+
+    assertNull( restored.lookupTextSize( createKey( FONT_DATA_1, "text", SWT.DEFAULT ) ) );
+  }
+
+  @Test
+  public void testStop_savesSnapshot() {
+    storage.storeFont( FONT_DATA_1 );
+    snapshot.start( 3600 );
+
+    snapshot.stop();
+
+    assertTrue( file.isFile() );
+    assertEquals( 1, loadSnapshot().getFontList().length );
+  }
+
+  @Test
+  public void testStop_withoutStart() {
+    snapshot.stop();
+
+    assertFalse( file.exists() );
+  }
+
+  @Test
+  public void testStart_usesDaemonThread() {
+    snapshot.start( 3600 );
+
+    Thread thread = findThread( TextSizeSnapshot.THREAD_NAME );
+
+    assertTrue( thread.isDaemon() );
+  }
+
+  private TextSizeStorage loadSnapshot() {
+    TextSizeStorage result = new TextSizeStorage();
+    new TextSizeSnapshot( result, file ).load();
+    return result;
+  }
+
+  private static TextSizeKey createKey( FontData fontData, String string, int wrapWidth ) {
+    return new TextSizeKey( fontData, string, wrapWidth, 0, "probe", new Point( 5, 6 ) );
+  }
+
+  private static Thread findThread( String name ) {
+    for( Thread thread : Thread.getAllStackTraces().keySet() ) {
+      if( name.equals( thread.getName() ) ) {
+        return thread;
+      }
+    }
+    return null;
+  }
+
+}
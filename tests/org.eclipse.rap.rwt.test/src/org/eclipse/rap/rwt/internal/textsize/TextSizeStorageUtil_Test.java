@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -106,7 +106,7 @@ public class TextSizeStorageUtil_Test {
 
   @Test
   public void testGetKey() {
-    Set<Integer> takenKeys = new HashSet<Integer>();
+    Set<TextSizeKey> takenKeys = new HashSet<TextSizeKey>();
     StringBuilder generatedText = new StringBuilder();
     for( int i = 0; i < 100; i++ ) {
       generatedText.append( "a" );
@@ -114,10 +114,41 @@ public class TextSizeStorageUtil_Test {
       Probe probe = new Probe( text, FONT_DATA );
       Point size = new Point( 1, 2 );
       ProbeResultStore.getInstance().createProbeResult( probe, size );
-      Integer key = TextSizeStorageUtil.getKey( FONT_DATA, text, SWT.DEFAULT, MODE );
+      TextSizeKey key = TextSizeStorageUtil.getKey( FONT_DATA, text, SWT.DEFAULT, MODE );
       assertFalse( takenKeys.contains( key ) );
       takenKeys.add( key );
     }
   }
 
+  @Test
+  public void testGetKey_isEqualForSameText() {
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 2, 10 ) );
+
+    TextSizeKey key1 = TextSizeStorageUtil.getKey( FONT_DATA, TEST_STRING, SWT.DEFAULT, MODE );
+    TextSizeKey key2 = TextSizeStorageUtil.getKey( FONT_DATA, TEST_STRING, SWT.DEFAULT, MODE );
+
+    assertEquals( key1, key2 );
+    assertEquals( key1.hashCode(), key2.hashCode() );
+  }
+
+  @Test
+  public void testGetKey_differsForTextsWithSameHashCode() {
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 2, 10 ) );
+    assertEquals( "Aa".hashCode(), "BB".hashCode() );
+
+    TextSizeKey key1 = TextSizeStorageUtil.getKey( FONT_DATA, "Aa", SWT.DEFAULT, MODE );
+    TextSizeKey key2 = TextSizeStorageUtil.getKey( FONT_DATA, "BB", SWT.DEFAULT, MODE );
+
+    assertFalse( key1.equals( key2 ) );
+  }
+
+  @Test
+  public void testLookup_withCollidingHashCode() {
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 2, 10 ) );
+
+    TextSizeStorageUtil.store( FONT_DATA, "Aa", SWT.DEFAULT, MODE, new Point( 10, 10 ) );
+
+    assertNull( TextSizeStorageUtil.lookup( FONT_DATA, "BB", SWT.DEFAULT, MODE ) );
+  }
+
 }
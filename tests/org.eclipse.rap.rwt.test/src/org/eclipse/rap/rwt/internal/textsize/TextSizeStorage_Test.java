@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
@@ -117,6 +118,74 @@ public class TextSizeStorage_Test {
     assertEquals( 20000, storage.getMaximumStoreSize() );
   }
 
+  @Test
+  public void testStoreTextSize_replacesSize() {
+    storage.storeTextSize( KEY_FIRST, new Point( 1, 1 ) );
+
+    storage.storeTextSize( KEY_FIRST, new Point( 2, 2 ) );
+
+    assertEquals( new Point( 2, 2 ), storage.lookupTextSize( KEY_FIRST ) );
+  }
+
+  @Test
+  public void testStorageOverflowHandling_keepsSizeBelowMaximum() {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+
+    for( int i = 0; i < 10 * TextSizeStorage.MIN_STORE_SIZE; i++ ) {
+      storage.storeTextSize( new Integer( i ), new Point( i, i ) );
+    }
+
+    assertNull( storage.lookupTextSize( new Integer( 0 ) ) );
+    assertEquals( new Point( 9999, 9999 ), storage.lookupTextSize( new Integer( 9999 ) ) );
+    int count = countEntries( 10 * TextSizeStorage.MIN_STORE_SIZE );
+    assertTrue( count < TextSizeStorage.MIN_STORE_SIZE );
+  }
+
+  @Test
+  public void testConcurrentAccess() throws Exception {
+    storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    Thread[] threads = new Thread[ 8 ];
+    for( int i = 0; i < threads.length; i++ ) {
+      final int offset = i * 10000;
+      threads[ i ] = new Thread( new Runnable() {
+        @Override
+        public void run() {
+          try {
+            for( int j = 0; j < 10000; j++ ) {
+              Integer key = new Integer( offset + j );
+              storage.storeTextSize( key, new Point( j, j ) );
+              Point size = storage.lookupTextSize( key );
+              if( size != null && size.x != j ) {
+                throw new IllegalStateException( "Wrong size for " + key );
+              }
+            }
+          } catch( Throwable throwable ) {
+            error.set( throwable );
+          }
+        }
+      } );
+      threads[ i ].start();
+    }
+    for( Thread thread : threads ) {
+      thread.join();
+    }
+
+    assertNull( error.get() );
+    // stores continue while another thread evicts, hence the store may temporarily grow larger
+    assertTrue( countEntries( threads.length * 10000 ) < 2 * TextSizeStorage.MIN_STORE_SIZE );
+  }
+
+  private int countEntries( int maxKey ) {
+    int result = 0;
+    for( int i = 0; i < maxKey; i++ ) {
+      if( storage.lookupTextSize( new Integer( i ) ) != null ) {
+        result++;
+      }
+    }
+    return result;
+  }
+
   private void populateUntilOverflowThresholdIsReached() {
     storage.setMaximumStoreSize( TextSizeStorage.MIN_STORE_SIZE );
     for( int i = 0; i < TextSizeStorage.MIN_STORE_SIZE - 1; i++ ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -144,6 +144,35 @@ public class ThemeManager_Test {
     assertTrue( joinedAppearances.contains( "\"sash-handle\" : {" ) );
   }
 
+  @Test
+  public void testActivate_reusesStandardResources() {
+    manager.activate();
+    ThemeManager otherManager = new ThemeManager();
+    otherManager.activate();
+
+    ThemeableWidget widget = manager.getThemeableWidget( Button.class );
+    ThemeableWidget otherWidget = otherManager.getThemeableWidget( Button.class );
+    assertSame( widget.elements, otherWidget.elements );
+    assertSame( widget.defaultStyleSheet, otherWidget.defaultStyleSheet );
+    assertEquals( manager.getAppearances(), otherManager.getAppearances() );
+  }
+
+  @Test
+  public void testActivate_keepsOrderOfAppearances() {
+    manager.activate();
+
+    List<String> appearances = manager.getAppearances();
+
+    ThemeableWidget[] widgets = manager.getAllThemeableWidgets();
+    int index = 0;
+    for( ThemeableWidget widget : widgets ) {
+      if( widget.appearance != null ) {
+        assertSame( widget.appearance, appearances.get( index++ ) );
+      }
+    }
+    assertEquals( appearances.size(), index );
+  }
+
   private Theme getFallbackTheme() {
     return manager.getTheme( ThemeManager.FALLBACK_THEME_ID );
   }
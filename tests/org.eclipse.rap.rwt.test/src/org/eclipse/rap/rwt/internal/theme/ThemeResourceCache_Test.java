@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.rap.rwt.internal.theme.ThemeResourceCache.ResourceParser;
+import org.eclipse.rap.rwt.service.ResourceLoader;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ThemeResourceCache_Test {
+
+  private ThemeResourceCache cache;
+  private Map<String, String> resources;
+  private ResourceLoader loader;
+  private CountingParser parser;
+
+  @Before
+  public void setUp() {
+    cache = new ThemeResourceCache();
+    resources = new HashMap<>();
+    loader = new ResourceLoader() {
+      @Override
+      public InputStream getResourceAsStream( String resourceName ) {
+        String content = resources.get( resourceName );
+        if( content == null ) {
+          return null;
+        }
+        return new ByteArrayInputStream( content.getBytes( StandardCharsets.UTF_8 ) );
+      }
+    };
+    parser = new CountingParser();
+  }
+
+  @Test
+  public void testLoad_missingResource() throws IOException {
+    assertNull( cache.load( "missing.css", loader, parser ) );
+    assertEquals( 0, parser.count );
+  }
+
+  @Test
+  public void testLoad_parsesResource() throws IOException {
+    resources.put( "foo.css", "content" );
+
+    assertEquals( "content", cache.load( "foo.css", loader, parser ) );
+  }
+
+  @Test
+  public void testLoad_reusesResultForSameContent() throws IOException {
+    resources.put( "foo.css", "content" );
+
+    String result = cache.load( "foo.css", loader, parser );
+
+    assertSame( result, cache.load( "foo.css", loader, parser ) );
+    assertEquals( 1, parser.count );
+  }
+
+  @Test
+  public void testLoad_parsesChangedContent() throws IOException {
+    resources.put( "foo.css", "content" );
+    cache.load( "foo.css", loader, parser );
+    resources.put( "foo.css", "changed content" );
+
+    String result = cache.load( "foo.css", loader, parser );
+
+    assertEquals( "changed content", result );
+    assertEquals( 2, parser.count );
+  }
+
+  @Test
+  public void testLoad_distinguishesResources() throws IOException {
+    resources.put( "foo.css", "content" );
+    resources.put( "bar.css", "content" );
+
+    cache.load( "foo.css", loader, parser );
+    cache.load( "bar.css", loader, parser );
+
+    assertEquals( 2, parser.count );
+  }
+
+  private static class CountingParser implements ResourceParser<String> {
+
+    int count;
+
+    @Override
+    public String parse( InputStream inputStream ) throws IOException {
+      count++;
+      StringBuilder result = new StringBuilder();
+      int read = inputStream.read();
+      while( read != -1 ) {
+        result.append( ( char )read );
+        read = inputStream.read();
+      }
+      return result.toString();
+    }
+
+  }
+
+}
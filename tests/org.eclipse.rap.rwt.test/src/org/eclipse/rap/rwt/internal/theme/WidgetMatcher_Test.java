@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.theme.WidgetMatcher.Constraint;
+import org.eclipse.rap.rwt.internal.theme.css.ConditionalValue;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class WidgetMatcher_Test {
+
+  private static final CssValue VALUE_1 = CssDimension.valueOf( "1px" );
+  private static final CssValue VALUE_2 = CssDimension.valueOf( "2px" );
+  private static final CssValue VALUE_3 = CssDimension.valueOf( "3px" );
+  private static final CssValue VALUE_4 = CssDimension.valueOf( "4px" );
+
+  private Shell shell;
+  private WidgetMatcher matcher;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    shell = new Shell( new Display() );
+    matcher = new WidgetMatcher();
+    matcher.addStyle( "BORDER", SWT.BORDER );
+    matcher.addStyle( "FLAT", SWT.FLAT );
+    matcher.addState( "disabled", new Constraint() {
+      @Override
+      public boolean matches( Widget widget ) {
+        return !( ( Button )widget ).getEnabled();
+      }
+    } );
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testSelect_withStyles() {
+    ConditionalValue[] values = new ConditionalValue[] {
+      new ConditionalValue( VALUE_1, "[BORDER", "[FLAT" ),
+      new ConditionalValue( VALUE_2, "[BORDER" ),
+      new ConditionalValue( VALUE_3 )
+    };
+
+    assertSame( VALUE_1, matcher.select( new Button( shell, SWT.BORDER | SWT.FLAT ), values ) );
+    assertSame( VALUE_2, matcher.select( new Button( shell, SWT.BORDER ), values ) );
+    assertSame( VALUE_3, matcher.select( new Button( shell, SWT.FLAT ), values ) );
+    assertSame( VALUE_3, matcher.select( new Button( shell, SWT.NONE ), values ) );
+  }
+
+  @Test
+  public void testSelect_withState() {
+    ConditionalValue[] values = new ConditionalValue[] {
+      new ConditionalValue( VALUE_1, ":disabled" ),
+      new ConditionalValue( VALUE_2 )
+    };
+    Button button = new Button( shell, SWT.NONE );
+
+    assertSame( VALUE_2, matcher.select( button, values ) );
+    button.setEnabled( false );
+    assertSame( VALUE_1, matcher.select( button, values ) );
+    button.setEnabled( true );
+    assertSame( VALUE_2, matcher.select( button, values ) );
+  }
+
+  @Test
+  public void testSelect_withVariants() {
+    ConditionalValue[] values = new ConditionalValue[] {
+      new ConditionalValue( VALUE_1, ".special", "[BORDER" ),
+      new ConditionalValue( VALUE_2, ".special" ),
+      new ConditionalValue( VALUE_3, ".other" ),
+      new ConditionalValue( VALUE_4 )
+    };
+    Button button = new Button( shell, SWT.BORDER );
+
+    assertSame( VALUE_4, matcher.select( button, values ) );
+    button.setData( RWT.CUSTOM_VARIANT, "special" );
+    assertSame( VALUE_1, matcher.select( button, values ) );
+    button.setData( RWT.CUSTOM_VARIANT, "other" );
+    assertSame( VALUE_3, matcher.select( button, values ) );
+    button.setData( RWT.CUSTOM_VARIANT, "unknown" );
+    assertSame( VALUE_4, matcher.select( button, values ) );
+    assertSame( VALUE_2, matcher.select( createButton( SWT.NONE, "special" ), values ) );
+  }
+
+  @Test
+  public void testSelect_withConflictingVariants() {
+    ConditionalValue[] values = new ConditionalValue[] {
+      new ConditionalValue( VALUE_1, ".other", ".special" )
+    };
+
+    assertNull( matcher.select( createButton( SWT.NONE, "special" ), values ) );
+  }
+
+  @Test
+  public void testSelect_withUnknownConstraint() {
+    ConditionalValue[] values = new ConditionalValue[] {
+      new ConditionalValue( VALUE_1, "[PUSH" ),
+      new ConditionalValue( VALUE_2, ":unknown" ),
+      new ConditionalValue( VALUE_3 )
+    };
+
+    assertSame( VALUE_3, matcher.select( new Button( shell, SWT.PUSH ), values ) );
+  }
+
+  @Test
+  public void testSelect_withoutMatch() {
+    ConditionalValue[] values = new ConditionalValue[] {
+      new ConditionalValue( VALUE_1, "[BORDER" )
+    };
+
+    assertNull( matcher.select( new Button( shell, SWT.NONE ), values ) );
+    assertNull( matcher.select( new Button( shell, SWT.NONE ), values ) );
+  }
+
+  @Test
+  public void testSelect_withEmptyValues() {
+    assertNull( matcher.select( new Button( shell, SWT.NONE ) ) );
+  }
+
+  @Test
+  public void testSelect_withManyConstraints() {
+    ConditionalValue[] values = new ConditionalValue[ 20 ];
+    for( int i = 0; i < values.length; i++ ) {
+      final boolean matches = i == 19;
+      matcher.addState( "state" + i, new Constraint() {
+        @Override
+        public boolean matches( Widget widget ) {
+          return matches;
+        }
+      } );
+      values[ i ] = new ConditionalValue( CssDimension.valueOf( i + "px" ), ":state" + i );
+    }
+
+    CssValue result = matcher.select( new Button( shell, SWT.NONE ), values );
+
+    assertSame( values[ 19 ].value, result );
+  }
+
+  @Test
+  public void testSelect_afterAddState() {
+    ConditionalValue[] values = new ConditionalValue[] {
+      new ConditionalValue( VALUE_1, ":special" ),
+      new ConditionalValue( VALUE_2 )
+    };
+    Button button = new Button( shell, SWT.NONE );
+    matcher.select( button, values );
+
+    matcher.addState( "special", new Constraint() {
+      @Override
+      public boolean matches( Widget widget ) {
+        return true;
+      }
+    } );
+
+    assertSame( VALUE_1, matcher.select( button, values ) );
+  }
+
+  private Button createButton( int style, String variant ) {
+    Button result = new Button( shell, style );
+    result.setData( RWT.CUSTOM_VARIANT, variant );
+    return result;
+  }
+
+}
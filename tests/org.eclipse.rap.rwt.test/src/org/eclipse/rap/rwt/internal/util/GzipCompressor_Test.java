@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+
+public class GzipCompressor_Test {
+
+  @Test
+  public void testCompress_emptyContent() throws IOException {
+    byte[] compressed = GzipCompressor.compress( new byte[ 0 ] );
+
+    assertArrayEquals( new byte[ 0 ], decompress( compressed ) );
+  }
+
+  @Test
+  public void testCompress_roundTrip() throws IOException {
+    byte[] content = createContent( 10000 );
+
+    byte[] compressed = GzipCompressor.compress( content );
+
+    assertTrue( compressed.length < content.length );
+    assertArrayEquals( content, decompress( compressed ) );
+  }
+
+  @Test
+  public void testCompress_incompressibleContent() throws IOException {
+    byte[] content = new byte[ 50000 ];
+    new Random( 42 ).nextBytes( content );
+
+    byte[] compressed = GzipCompressor.compress( content );
+
+    assertArrayEquals( content, decompress( compressed ) );
+  }
+
+  @Test
+  public void testCompress_repeatedly() throws IOException {
+    for( int i = 0; i < 50; i++ ) {
+      byte[] content = createContent( i * 100 );
+
+      byte[] compressed = GzipCompressor.compress( content );
+
+      assertArrayEquals( content, decompress( compressed ) );
+    }
+  }
+
+  private static byte[] createContent( int count ) throws IOException {
+    StringBuilder builder = new StringBuilder();
+    for( int i = 0; i < count; i++ ) {
+      builder.append( "[\"set\",\"w" ).append( i ).append( "\",{\"text\":\"Item\"}]" );
+    }
+    return builder.toString().getBytes( "UTF-8" );
+  }
+
+  private static byte[] decompress( byte[] content ) throws IOException {
+    InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( content ) );
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 1024 ];
+    int length;
+    while( ( length = inputStream.read( buffer ) ) != -1 ) {
+      result.write( buffer, 0, length );
+    }
+    return result.toByteArray();
+  }
+
+}
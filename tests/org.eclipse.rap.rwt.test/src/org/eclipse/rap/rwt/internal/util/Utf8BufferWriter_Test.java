@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+
+public class Utf8BufferWriter_Test {
+
+  @Test
+  public void testWrite_ascii() throws IOException {
+    assertEncodes( "{\"head\":{}}" );
+  }
+
+  @Test
+  public void testWrite_multiByteCharacters() throws IOException {
+    assertEncodes( "\u00e4\u00f6\u00fc \u20ac   \ud83d\ude00" );
+  }
+
+  @Test
+  public void testWrite_unpairedSurrogates() throws IOException {
+    assertEncodes( "a\ud83db \ude00c \ud83d" );
+  }
+
+  @Test
+  public void testWrite_surrogatePairAcrossWrites() throws IOException {
+    Utf8BufferWriter writer = new Utf8BufferWriter( 1 );
+
+    writer.write( "x\ud83d" );
+    writer.write( '\ude00' );
+
+    assertArrayEquals( "x\ud83d\ude00".getBytes( "UTF-8" ), writer.toByteArray() );
+  }
+
+  @Test
+  public void testWrite_growsBuffer() throws IOException {
+    StringBuilder content = new StringBuilder();
+    for( int i = 0; i < 1000; i++ ) {
+      content.append( "item" ).append( i ).append( '\u00e4' );
+    }
+
+    assertEncodes( content.toString() );
+  }
+
+  @Test
+  public void testWrite_charArrayRange() throws IOException {
+    Utf8BufferWriter writer = new Utf8BufferWriter( 16 );
+
+    writer.write( "abc\u00e4def".toCharArray(), 2, 3 );
+
+    assertArrayEquals( "c\u00e4d".getBytes( "UTF-8" ), writer.toByteArray() );
+  }
+
+  @Test
+  public void testReset() throws IOException {
+    Utf8BufferWriter writer = new Utf8BufferWriter( 16 );
+    writer.write( "first\ud83d" );
+
+    writer.reset();
+    writer.write( "second" );
+
+    assertEquals( 6, writer.size() );
+    assertArrayEquals( "second".getBytes( "UTF-8" ), writer.toByteArray() );
+  }
+
+  private static void assertEncodes( String string ) throws IOException {
+    Utf8BufferWriter writer = new Utf8BufferWriter( 16 );
+
+    writer.write( string );
+
+    assertArrayEquals( string.getBytes( "UTF-8" ), writer.toByteArray() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2018 EclipseSource.
+ * Copyright (c) 2013, 2026 EclipseSource.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@ package org.eclipse.rap.rwt.widgets;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
@@ -36,6 +37,7 @@ import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
+import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.protocol.JsonUtil;
 import org.eclipse.rap.rwt.internal.scripting.ClientListenerUtil;
 import org.eclipse.rap.rwt.remote.Connection;
@@ -46,6 +48,9 @@ import org.eclipse.rap.rwt.testfixture.TestContext;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
+import org.eclipse.swt.internal.widgets.DirtyAdapters;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
@@ -580,4 +585,21 @@ public class DropDown_Test {
     assertEquals( "c", log.get( 0 ).text );
   }
 
+  @Test
+  public void testGetAdapter_registersPreservedValuesForClearing() {
+    DirtyAdapters dirtyAdapters = getDirtyAdapters();
+    dirtyAdapters.clearPreserved();
+    WidgetRemoteAdapter adapter = ( WidgetRemoteAdapter )dropDown.getAdapter( RemoteAdapter.class );
+
+    adapter.preserve( "foo", "bar" );
+    dirtyAdapters.clearPreserved();
+
+    assertNull( adapter.getPreserved( "foo" ) );
+  }
+
+  private DirtyAdapters getDirtyAdapters() {
+    Display display = dropDown.getDisplay();
+    return display.getAdapter( IDisplayAdapter.class ).getDirtyAdapters();
+  }
+
 }
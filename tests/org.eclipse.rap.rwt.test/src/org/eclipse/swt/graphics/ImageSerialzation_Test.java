@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,10 +13,13 @@ package org.eclipse.swt.graphics;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.CONNECTION_ID;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serialize;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serializeAndDeserialize;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.NotSerializableException;
 import java.util.Arrays;
@@ -88,6 +91,54 @@ public class ImageSerialzation_Test {
     assertEquals( imageData, deserializedImageData );
   }
 
+  @Test
+  public void testSerializeSessionImages_writesSharedContentOnce() throws Exception {
+    Image image = createImage();
+    Image sameContentImage = createImage();
+
+    int singleSize = serialize( new Image[] { image } ).length;
+    int sharedSize = serialize( new Image[] { image, sameContentImage } ).length;
+
+    assertSame( image.internalImage, sameContentImage.internalImage );
+    assertTrue( sharedSize < singleSize + 100 );
+  }
+
+  @Test
+  public void testSerializeSessionImages_writesSharedContentInEveryStream() throws Exception {
+    Image image = createImage();
+    Image sameContentImage = createImage();
+
+    int firstSize = serialize( new Image[] { image } ).length;
+    int secondSize = serialize( new Image[] { sameContentImage } ).length;
+
+    assertTrue( firstSize == secondSize );
+  }
+
+  @Test
+  public void testSerializeSessionImages_withSharedContent() throws Exception {
+    Image image = createImage();
+    Image sameContentImage = createImage();
+    ImageData imageData = image.getImageData();
+    ContextProvider.disposeContext();
+
+    Image[] deserializedImages = serializeAndDeserialize( new Image[] { image, sameContentImage } );
+    createServiceContext( deserializedImages[ 0 ].getDevice() );
+    runClusterSupportFilter();
+
+    assertNotSame( deserializedImages[ 0 ], deserializedImages[ 1 ] );
+    assertEquals( imageData, deserializedImages[ 0 ].getImageData() );
+    assertEquals( imageData, deserializedImages[ 1 ].getImageData() );
+  }
+
+  private Image createImage() throws IOException {
+    InputStream inputStream = getClass().getClassLoader().getResourceAsStream( Fixture.IMAGE1 );
+    try {
+      return new Image( display, inputStream );
+    } finally {
+      inputStream.close();
+    }
+  }
+
   private void createServiceContext( Device device ) {
     Fixture.createServiceContext();
     UISessionImpl uiSession = ( UISessionImpl )getUISession( device );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,9 +22,11 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.SWT;
@@ -104,6 +106,18 @@ public class Image_Test {
     }
   }
 
+  @Test
+  public void testStreamConstructorWithTruncatedImage() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE_100x50 );
+    byte[] truncated = Arrays.copyOf( content, content.length / 2 );
+
+    try {
+      new Image( device, new ByteArrayInputStream( truncated ) );
+      fail( "Must throw exception when passing in truncated image data" );
+    } catch( SWTException expected ) {
+    }
+  }
+
   ///////////////////////
   // Filename constructor
 
@@ -449,4 +463,20 @@ public class Image_Test {
     assertNotSame( image1, image2 );
   }
 
+  private static byte[] readResource( String name ) throws IOException {
+    InputStream inputStream = Fixture.class.getClassLoader().getResourceAsStream( name );
+    try {
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+      byte[] buffer = new byte[ 1024 ];
+      int read = inputStream.read( buffer );
+      while( read != -1 ) {
+        result.write( buffer, 0, read );
+        read = inputStream.read( buffer );
+      }
+      return result.toByteArray();
+    } finally {
+      inputStream.close();
+    }
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -311,7 +311,8 @@ public class Graphics_Test {
   private static String getRegisterPath( Image image ) {
     String imagePath = ImageFactory.getImagePath( image );
     int prefixLength = ResourceDirectory.DIRNAME.length() + 1;
-    return imagePath.substring( prefixLength );
+    // strip the content hash
+    return imagePath.substring( prefixLength, imagePath.indexOf( '?' ) );
   }
 
   private static ClassLoader classLoaderFromFile( File webContextDir ) throws IOException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,7 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -88,6 +89,27 @@ public class ImageDataCache_Test {
     assertEqualsImageData( copyData1, copyData2 );
   }
 
+  @Test
+  public void testLeastRecentlyUsedImageDataIsEvicted() throws IOException {
+    ImageDataCache cache = new ImageDataCache();
+    ImageData imageData = getImageData( Fixture.IMAGE1 );
+    InternalImage[] internalImages = new InternalImage[ ImageDataCache.MAX_ENTRIES + 1 ];
+    for( int i = 0; i < internalImages.length; i++ ) {
+      internalImages[ i ]
+        = new InternalImage( "testpath" + i, imageData.width, imageData.height, false );
+    }
+    for( int i = 0; i < ImageDataCache.MAX_ENTRIES; i++ ) {
+      cache.putImageData( internalImages[ i ], imageData );
+    }
+    cache.getImageData( internalImages[ 0 ] );
+
+    cache.putImageData( internalImages[ ImageDataCache.MAX_ENTRIES ], imageData );
+
+    assertNotNull( cache.getImageData( internalImages[ 0 ] ) );
+    assertNull( cache.getImageData( internalImages[ 1 ] ) );
+    assertNotNull( cache.getImageData( internalImages[ ImageDataCache.MAX_ENTRIES ] ) );
+  }
+
   private ImageData getImageData( String resource ) throws IOException {
     InputStream inputStream = getClass().getClassLoader().getResourceAsStream( resource );
     try {
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.junit.Test;
+
+
+public class ImageHeader_Test {
+
+  @Test
+  public void testRead_PNG() {
+    ImageHeader header = ImageHeader.read( encode( createImageData( 23, 42 ), SWT.IMAGE_PNG ) );
+
+    assertHeader( SWT.IMAGE_PNG, 23, 42, header );
+  }
+
+  @Test
+  public void testRead_GIF() {
+    byte[] content = encode( createPaletteImageData( 23, 42 ), SWT.IMAGE_GIF );
+
+    ImageHeader header = ImageHeader.read( content );
+
+    assertHeader( SWT.IMAGE_GIF, 23, 42, header );
+  }
+
+  @Test
+  public void testRead_JPEG() {
+    ImageHeader header = ImageHeader.read( encode( createImageData( 23, 42 ), SWT.IMAGE_JPEG ) );
+
+    assertHeader( SWT.IMAGE_JPEG, 23, 42, header );
+  }
+
+  @Test
+  public void testRead_BMP() {
+    ImageHeader header = ImageHeader.read( encode( createImageData( 23, 42 ), SWT.IMAGE_BMP ) );
+
+    assertHeader( SWT.IMAGE_BMP, 23, 42, header );
+  }
+
+  @Test
+  public void testRead_matchesDecodedImageData() {
+    int[] formats = { SWT.IMAGE_PNG, SWT.IMAGE_GIF, SWT.IMAGE_JPEG, SWT.IMAGE_BMP };
+    for( int format : formats ) {
+      ImageData imageData = format == SWT.IMAGE_GIF
+                          ? createPaletteImageData( 7, 5 )
+                          : createImageData( 7, 5 );
+      byte[] content = encode( imageData, format );
+
+      ImageHeader header = ImageHeader.read( content );
+
+      ImageData decoded = new ImageData( new ByteArrayInputStream( content ) );
+      assertHeader( decoded.type, decoded.width, decoded.height, header );
+    }
+  }
+
+  @Test
+  public void testRead_unknownFormat() {
+    assertNull( ImageHeader.read( new byte[ 100 ] ) );
+  }
+
+  @Test
+  public void testRead_emptyContent() {
+    assertNull( ImageHeader.read( new byte[ 0 ] ) );
+  }
+
+  @Test
+  public void testRead_truncatedContent() {
+    byte[] content = encode( createImageData( 23, 42 ), SWT.IMAGE_PNG );
+
+    assertNull( ImageHeader.read( Arrays.copyOf( content, 12 ) ) );
+  }
+
+  @Test
+  public void testRead_truncatedBody() {
+    int[] formats = { SWT.IMAGE_PNG, SWT.IMAGE_GIF, SWT.IMAGE_JPEG, SWT.IMAGE_BMP };
+    for( int format : formats ) {
+      ImageData imageData = format == SWT.IMAGE_GIF
+                          ? createPaletteImageData( 23, 42 )
+                          : createImageData( 23, 42 );
+      byte[] content = encode( imageData, format );
+
+      ImageHeader header = ImageHeader.read( Arrays.copyOf( content, content.length - 1 ) );
+
+      assertNull( header );
+    }
+  }
+
+  @Test
+  public void testRead_JPEGWithoutFrameHeader() {
+    byte[] content = encode( createImageData( 23, 42 ), SWT.IMAGE_JPEG );
+
+    assertNull( ImageHeader.read( Arrays.copyOf( content, 20 ) ) );
+  }
+
+  private static void assertHeader( int type, int width, int height, ImageHeader header ) {
+    assertEquals( type, header.type );
+    assertEquals( width, header.width );
+    assertEquals( height, header.height );
+  }
+
+  private static ImageData createImageData( int width, int height ) {
+    return new ImageData( width, height, 24, new PaletteData( 0xff, 0xff00, 0xff0000 ) );
+  }
+
+  private static ImageData createPaletteImageData( int width, int height ) {
+    PaletteData palette = new PaletteData( new RGB[] {
+      new RGB( 255, 0, 0 ), new RGB( 0, 255, 0 )
+    } );
+    ImageData result = new ImageData( width, height, 1, palette );
+    result.setPixel( 1, 1, 1 );
+    return result;
+  }
+
+  private static byte[] encode( ImageData imageData, int format ) {
+    ImageLoader imageLoader = new ImageLoader();
+    imageLoader.data = new ImageData[] { imageData };
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    imageLoader.save( outputStream, format );
+    return outputStream.toByteArray();
+  }
+
+}
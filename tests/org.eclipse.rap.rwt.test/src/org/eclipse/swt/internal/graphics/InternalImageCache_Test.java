@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.graphics;
+
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.swt.internal.graphics.InternalImageCache.ResourceReleaser;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class InternalImageCache_Test {
+
+  private List<String> released;
+  private InternalImageCache cache;
+
+  @Before
+  public void setUp() {
+    released = new ArrayList<>();
+    cache = new InternalImageCache( 250, new ResourceReleaser() {
+      @Override
+      public void release( String resourceName ) {
+        released.add( resourceName );
+      }
+    } );
+  }
+
+  @Test
+  public void testGet_createsInstance() {
+    InternalImage image = cache.get( "key", new ImageCreator( "path", 10 ) );
+
+    assertEquals( "path", image.getResourceName() );
+    assertEquals( 1, cache.getMissCount() );
+    assertEquals( 0, cache.getHitCount() );
+  }
+
+  @Test
+  public void testGet_returnsSameInstance() {
+    InternalImage image1 = cache.get( "key", new ImageCreator( "path", 10 ) );
+    InternalImage image2 = cache.get( "key", new ImageCreator( "path", 10 ) );
+
+    assertSame( image1, image2 );
+    assertEquals( 1, cache.getMissCount() );
+    assertEquals( 1, cache.getHitCount() );
+  }
+
+  @Test
+  public void testGet_computesWeight() {
+    cache.get( "key1", new ImageCreator( "path1", 10 ) );
+    cache.get( "key2", new ImageCreator( "path2", 5 ) );
+
+    assertEquals( 125, cache.getWeight() );
+  }
+
+  @Test
+  public void testGet_evictsLeastRecentlyUsed() {
+    cache.get( "key1", new ImageCreator( "path1", 10 ) );
+    cache.get( "key2", new ImageCreator( "path2", 10 ) );
+    cache.get( "key1", new ImageCreator( "path1", 10 ) );
+
+    cache.get( "key3", new ImageCreator( "path3", 10 ) );
+
+    assertEquals( 200, cache.getWeight() );
+  }
+
+  @Test
+  public void testGet_evictsImageNotAccessedSinceLastVisit() {
+    cache.get( "key1", new ImageCreator( "path1", 10 ) );
+    cache.get( "key2", new ImageCreator( "path2", 10 ) );
+    cache.get( "key1", new ImageCreator( "path1", 10 ) );
+
+    cache.get( "key3", new ImageCreator( "path3", 10 ) );
+
+    waitForRelease( 1 );
+    assertEquals( "path2", released.get( 0 ) );
+  }
+
+  @Test
+  public void testGet_createsInstanceOnceForConcurrentRequests() throws InterruptedException {
+    final AtomicInteger creations = new AtomicInteger();
+    final InstanceCreator<String, InternalImage> creator = new ImageCreator( "path", 10 ) {
+      @Override
+      public InternalImage createInstance( String key ) {
+        creations.incrementAndGet();
+        sleep( 50 );
+        return super.createInstance( key );
+      }
+    };
+    final Set<InternalImage> images = Collections.synchronizedSet( new HashSet<InternalImage>() );
+
+    Thread[] threads = startThreads( 10, new Runnable() {
+      @Override
+      public void run() {
+        images.add( cache.get( "key", creator ) );
+      }
+    } );
+    joinThreads( threads );
+
+    assertEquals( 1, creations.get() );
+    assertEquals( 1, images.size() );
+    assertEquals( 1, cache.getMissCount() );
+    assertEquals( 9, cache.getHitCount() );
+  }
+
+  @Test
+  public void testGet_doesNotBlockOtherKeysDuringCreation() throws InterruptedException {
+    final CountDownLatch creationStarted = new CountDownLatch( 1 );
+    final CountDownLatch finishCreation = new CountDownLatch( 1 );
+    cache.get( "key1", new ImageCreator( "path1", 5 ) );
+    Thread thread = new Thread( new Runnable() {
+      @Override
+      public void run() {
+        cache.get( "key2", new ImageCreator( "path2", 5 ) {
+          @Override
+          public InternalImage createInstance( String key ) {
+            creationStarted.countDown();
+            await( finishCreation );
+            return super.createInstance( key );
+          }
+        } );
+      }
+    } );
+    thread.start();
+    await( creationStarted );
+
+    try {
+      cache.get( "key1", new ImageCreator( "path1", 5 ) );
+      cache.get( "key3", new ImageCreator( "path3", 5 ) );
+      assertEquals( 50, cache.getWeight() );
+    } finally {
+      finishCreation.countDown();
+      thread.join();
+    }
+    assertEquals( 75, cache.getWeight() );
+  }
+
+  @Test
+  public void testGet_rethrowsCreationFailure() {
+    final RuntimeException failure = new RuntimeException();
+    try {
+      cache.get( "key", new ImageCreator( "path", 10 ) {
+        @Override
+        public InternalImage createInstance( String key ) {
+          throw failure;
+        }
+      } );
+      fail();
+    } catch( RuntimeException expected ) {
+      assertSame( failure, expected );
+    }
+
+    InternalImage image = cache.get( "key", new ImageCreator( "path", 10 ) );
+
+    assertEquals( "path", image.getResourceName() );
+    assertEquals( 100, cache.getWeight() );
+  }
+
+  @Test
+  public void testGet_retainsMostRecentlyUsedImageExceedingMaxWeight() {
+    cache.get( "key", new ImageCreator( "path", 100 ) );
+
+    assertEquals( 10000, cache.getWeight() );
+    assertEquals( 1, cache.size() );
+  }
+
+  @Test
+  public void testGet_returnsEvictedImageWhileReferenced() {
+    InternalImage image = cache.get( "key1", new ImageCreator( "path1", 15 ) );
+    cache.get( "key2", new ImageCreator( "path2", 15 ) );
+
+    InternalImage result = cache.get( "key1", new ImageCreator( "path1", 15 ) );
+
+    assertSame( image, result );
+    assertTrue( released.isEmpty() );
+  }
+
+  @Test
+  public void testGet_doesNotReleaseRetainedImages() {
+    cache.get( "key", new ImageCreator( "path", 10 ) );
+
+    collectGarbage();
+
+    assertEquals( 1, cache.size() );
+    assertTrue( released.isEmpty() );
+  }
+
+  @Test
+  public void testGet_releasesCollectedImage() {
+    cache.get( "key1", new ImageCreator( "path1", 15 ) );
+    cache.get( "key2", new ImageCreator( "path2", 15 ) );
+
+    waitForRelease( 1 );
+
+    assertEquals( 1, cache.size() );
+    assertEquals( "path1", released.get( 0 ) );
+    assertEquals( 1, cache.getEvictionCount() );
+  }
+
+  @Test
+  public void testGet_recreatesCollectedImage() {
+    cache.get( "key1", new ImageCreator( "path1", 15 ) );
+    cache.get( "key2", new ImageCreator( "path2", 15 ) );
+    waitForRelease( 1 );
+
+    InternalImage result = cache.get( "key1", new ImageCreator( "path1", 15 ) );
+
+    assertEquals( "path1", result.getResourceName() );
+    assertEquals( 3, cache.getMissCount() );
+    assertEquals( 2, cache.size() );
+  }
+
+  @Test
+  public void testGet_keepsSharedResourceWhileReferenced() {
+    InternalImage image = cache.get( "key1", new ImageCreator( "path", 15 ) );
+    cache.get( "key2", new ImageCreator( "path", 15 ) );
+    cache.get( "key3", new ImageCreator( "other", 15 ) );
+
+    collectGarbage();
+
+    assertTrue( released.isEmpty() );
+    assertEquals( "path", image.getResourceName() );
+  }
+
+  private void waitForRelease( int count ) {
+    for( int i = 0; i < 50 && released.size() < count; i++ ) {
+      collectGarbage();
+    }
+    assertEquals( count, released.size() );
+  }
+
+  private void collectGarbage() {
+    System.gc();
+    try {
+      Thread.sleep( 20 );
+    } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+    }
+    // collected images are released on the next access
+    cache.size();
+  }
+
+  private static void await( CountDownLatch latch ) {
+    try {
+      assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+    } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep( long millis ) {
+    try {
+      Thread.sleep( millis );
+    } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class ImageCreator implements InstanceCreator<String, InternalImage> {
+
+    private final String path;
+    private final int size;
+
+    ImageCreator( String path, int size ) {
+      this.path = path;
+      this.size = size;
+    }
+
+    @Override
+    public InternalImage createInstance( String key ) {
+      return new InternalImage( path, size, size, false );
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,24 +13,33 @@
 package org.eclipse.swt.internal.graphics;
 
 import static org.eclipse.rap.rwt.testfixture.internal.TestUtil.createImage;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
 import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
@@ -72,13 +81,107 @@ public class InternalImageFactory_Test {
   }
 
   @Test
-  public void testReadImageData() throws IOException {
-    InputStream inputStream = CLASS_LOADER.getResourceAsStream( Fixture.IMAGE_100x50 );
-    ImageData data = InternalImageFactory.readImageData( new BufferedInputStream( inputStream ) );
-    inputStream.close();
+  public void testReadImageHeader() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE_100x50 );
+
+    ImageHeader header = InternalImageFactory.readImageHeader( content );
+
+    assertEquals( SWT.IMAGE_PNG, header.type );
+    assertEquals( 100, header.width );
+    assertEquals( 50, header.height );
+  }
+
+  @Test
+  public void testReadImageHeader_decodesUnknownFormat() {
+    byte[] content = encode( createImageDataWithoutType(), SWT.IMAGE_ICO );
+
+    ImageHeader header = InternalImageFactory.readImageHeader( content );
+
+    assertEquals( SWT.IMAGE_ICO, header.type );
+    assertEquals( 48, header.width );
+    assertEquals( 48, header.height );
+  }
+
+  @Test( expected = SWTException.class )
+  public void testReadImageHeader_withIllegalContent() {
+    InternalImageFactory.readImageHeader( new byte[ 12 ] );
+  }
+
+  @Test
+  public void testFindInternalImage_doesNotDecodePixelData() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE_100x50 );
+    // corrupt the image data following the header, but keep the IEND chunk
+    Arrays.fill( content, 40, content.length - 12, ( byte )0 );
 
-    assertEquals( 100, data.width );
-    assertEquals( 50, data.height );
+    InternalImage internalImage
+      = internalImageFactory.findInternalImage( new ByteArrayInputStream( content ) );
+
+    assertEquals( new Rectangle( 0, 0, 100, 50 ), internalImage.getBounds() );
+  }
+
+  @Test
+  public void testFindInternalImage_withCorruptImageData_failsOnImageData() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE_100x50 );
+    Arrays.fill( content, 40, content.length - 12, ( byte )0 );
+    InternalImage internalImage
+      = internalImageFactory.findInternalImage( new ByteArrayInputStream( content ) );
+    ResourceManager resourceManager = RWT.getApplicationContext().getResourceManager();
+
+    try {
+      new ImageDataFactory( resourceManager ).findImageData( internalImage );
+      fail();
+    } catch( SWTException expected ) {
+    }
+  }
+
+  @Test
+  public void testFindInternalImage_withCorruptImageData() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE_100x50 );
+    // corrupt the image data following the header
+    Arrays.fill( content, 40, content.length, ( byte )0 );
+
+    try {
+      internalImageFactory.findInternalImage( new ByteArrayInputStream( content ) );
+      fail();
+    } catch( SWTException expected ) {
+    }
+  }
+
+  @Test
+  public void testFindInternalImage_withTruncatedImage() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE_100x50 );
+    byte[] truncated = Arrays.copyOf( content, content.length / 2 );
+
+    try {
+      internalImageFactory.findInternalImage( new ByteArrayInputStream( truncated ) );
+      fail();
+    } catch( SWTException expected ) {
+    }
+  }
+
+  @Test
+  public void testFindInternalImage_withTruncatedImage_doesNotRegisterImage() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE_100x50 );
+    byte[] truncated = Arrays.copyOf( content, content.length / 2 );
+
+    try {
+      internalImageFactory.findInternalImage( new ByteArrayInputStream( truncated ) );
+    } catch( SWTException expected ) {
+    }
+
+    assertEquals( 0, internalImageFactory.getCache().size() );
+  }
+
+  @Test
+  public void testFindInternalImage_registersOriginalContent() throws IOException {
+    byte[] content = readResource( Fixture.IMAGE_100x50 );
+
+    InternalImage internalImage
+      = internalImageFactory.findInternalImage( new ByteArrayInputStream( content ) );
+
+    InputStream registered
+      = RWT.getResourceManager().getRegisteredContent( internalImage.getResourceName() );
+    assertArrayEquals( content, readFully( registered ) );
   }
 
   @Test
@@ -215,6 +318,54 @@ public class InternalImageFactory_Test {
     assertTrue( internalImage.getResourceName().endsWith( ".png" ) );
   }
 
+  @Test
+  public void testFindInternalImage_unregistersCollectedImages() throws IOException {
+    internalImageFactory = new InternalImageFactory( 1 );
+    String resourceName
+      = internalImageFactory.findInternalImage( getStream( IMAGE_SAMPLE1 ) ).getResourceName();
+    InternalImage internalImage = internalImageFactory.findInternalImage( getStream( IMAGE_OK ) );
+
+    for( int i = 0; i < 50 && RWT.getResourceManager().isRegistered( resourceName ); i++ ) {
+      System.gc();
+      internalImageFactory.getCache().size();
+    }
+
+    assertFalse( RWT.getResourceManager().isRegistered( resourceName ) );
+    assertTrue( RWT.getResourceManager().isRegistered( internalImage.getResourceName() ) );
+  }
+
+  private static InputStream getStream( String name ) {
+    return CLASS_LOADER.getResourceAsStream( name );
+  }
+
+  private static byte[] readResource( String name ) throws IOException {
+    InputStream inputStream = CLASS_LOADER.getResourceAsStream( name );
+    try {
+      return readFully( inputStream );
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  private static byte[] readFully( InputStream inputStream ) throws IOException {
+    ByteArrayOutputStream result = new ByteArrayOutputStream();
+    byte[] buffer = new byte[ 1024 ];
+    int read = inputStream.read( buffer );
+    while( read != -1 ) {
+      result.write( buffer, 0, read );
+      read = inputStream.read( buffer );
+    }
+    return result.toByteArray();
+  }
+
+  private static byte[] encode( ImageData imageData, int format ) {
+    ImageLoader imageLoader = new ImageLoader();
+    imageLoader.data = new ImageData[] { imageData };
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    imageLoader.save( outputStream, format );
+    return outputStream.toByteArray();
+  }
+
   private ImageData createImageDataWithoutType() {
     PaletteData paletteData = new PaletteData( new RGB[]{
       new RGB( 255, 0, 0 ), new RGB( 0, 255, 0 )
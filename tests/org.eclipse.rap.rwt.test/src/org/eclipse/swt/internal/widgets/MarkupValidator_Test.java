@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2018 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,7 +10,10 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
@@ -164,6 +167,161 @@ public class MarkupValidator_Test {
     }
   }
 
+  @Test
+  public void testValidate_UnclosedElement() {
+    assertParseFailure( "<b>foo" );
+  }
+
+  @Test
+  public void testValidate_MismatchedEndTag() {
+    assertParseFailure( "<b>foo</i>" );
+  }
+
+  @Test
+  public void testValidate_UnexpectedEndTag() {
+    assertParseFailure( "foo</b>" );
+  }
+
+  @Test
+  public void testValidate_UndeclaredEntity() {
+    assertParseFailure( "foo &euro; bar" );
+  }
+
+  @Test
+  public void testValidate_UnterminatedEntity() {
+    assertParseFailure( "foo &amp bar" );
+  }
+
+  @Test
+  public void testValidate_InvalidCharacterReference() {
+    assertParseFailure( "foo &#0; bar" );
+  }
+
+  @Test
+  public void testValidate_UnescapedLessThan() {
+    assertParseFailure( "1 < 2" );
+  }
+
+  @Test
+  public void testValidate_UnquotedAttribute() {
+    assertParseFailure( "<span title=foo>bar</span>" );
+  }
+
+  @Test
+  public void testValidate_LessThanInAttribute() {
+    assertParseFailure( "<span title=\"1 < 2\">bar</span>" );
+  }
+
+  @Test
+  public void testValidate_DuplicateAttribute() {
+    assertParseFailure( "<span title=\"foo\" title=\"bar\">bar</span>" );
+  }
+
+  @Test
+  public void testValidate_AttributesWithoutWhitespace() {
+    assertParseFailure( "<span title=\"foo\"id=\"bar\">bar</span>" );
+  }
+
+  @Test
+  public void testValidate_MalformedUnsupportedElement() {
+    assertParseFailure( "<ul foo>bar</ul>" );
+  }
+
+  @Test
+  public void testValidate_withEntityInIntAttribute() {
+    validator.validate( "<img src=\"a&amp;b.png\" width=\"&#49;0\" height='10'/>" );
+  }
+
+  @Test
+  public void testValidate_withComment() {
+    validator.validate( "<b>foo<!-- comment --></b>" );
+  }
+
+  @Test
+  public void testValidate_UnsupportedElementInComment() {
+    validator.validate( "<!-- <ul> -->" );
+  }
+
+  @Test
+  public void testValidate_NotWellFormedMarkupWithComment() {
+    assertParseFailure( "<b>foo<!-- comment -->" );
+  }
+
+  @Test
+  public void testValidate_cachesValidMarkup() {
+    String markup = "<b>foo</b>";
+
+    validator.validate( markup );
+
+    assertTrue( validator.isValidated( markup ) );
+  }
+
+  @Test
+  public void testValidate_doesNotCacheInvalidMarkup() {
+    String markup = "<ul>foo</ul>";
+
+    try {
+      validator.validate( markup );
+      fail();
+    } catch( @SuppressWarnings( "unused" ) IllegalArgumentException expected ) {
+    }
+
+    assertFalse( validator.isValidated( markup ) );
+  }
+
+  @Test
+  public void testValidate_doesNotCacheLongMarkup() {
+    StringBuilder markup = new StringBuilder();
+    while( markup.length() <= MarkupValidator.MAX_CACHED_LENGTH ) {
+      markup.append( "<b>foo</b>" );
+    }
+
+    validator.validate( markup.toString() );
+
+    assertFalse( validator.isValidated( markup.toString() ) );
+  }
+
+  @Test
+  public void testValidate_limitsCacheSize() {
+    for( int i = 0; i <= MarkupValidator.CACHE_SIZE; i++ ) {
+      validator.validate( "<b>" + i + "</b>" );
+    }
+
+    assertFalse( validator.isValidated( "<b>0</b>" ) );
+    assertTrue( validator.isValidated( "<b>" + MarkupValidator.CACHE_SIZE + "</b>" ) );
+  }
+
+  @Test
+  public void testValidate_keepsRecentlyUsedMarkup() {
+    for( int i = 0; i < MarkupValidator.CACHE_SIZE; i++ ) {
+      validator.validate( "<b>" + i + "</b>" );
+    }
+    validator.validate( "<b>0</b>" );
+
+    validator.validate( "<b>" + MarkupValidator.CACHE_SIZE + "</b>" );
+
+    assertTrue( validator.isValidated( "<b>0</b>" ) );
+    assertFalse( validator.isValidated( "<b>1</b>" ) );
+  }
+
+  @Test
+  public void testValidate_fromConcurrentThreads() throws InterruptedException {
+    final int textCount = 100;
+    Thread[] threads = startThreads( 8, new Runnable() {
+      @Override
+      public void run() {
+        for( int i = 0; i < textCount; i++ ) {
+          validator.validate( "<b>" + i + "</b>" );
+        }
+      }
+    } );
+    joinThreads( threads );
+
+    for( int i = 0; i < textCount; i++ ) {
+      assertTrue( validator.isValidated( "<b>" + i + "</b>" ) );
+    }
+  }
+
   @Test
     public void testIsValidationDisabledFor() {
       Widget widget = mock( Widget.class );
@@ -172,4 +330,13 @@ public class MarkupValidator_Test {
       assertTrue( MarkupValidator.isValidationDisabledFor( widget ) );
     }
 
+  private void assertParseFailure( String markup ) {
+    try {
+      validator.validate( markup );
+      fail( "validation should throw an exception" );
+    } catch( IllegalArgumentException expected ) {
+      assertEquals( "Failed to parse markup text", expected.getMessage() );
+    }
+  }
+
 }
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class SharedTimer_Test {
+
+  private SharedTimer timer;
+
+  @Before
+  public void setUp() {
+    timer = new SharedTimer();
+  }
+
+  @After
+  public void tearDown() {
+    timer.shutdown();
+  }
+
+  @Test
+  public void testSchedule_executesTask() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch( 1 );
+
+    timer.schedule( new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    }, 1 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+  @Test
+  public void testGetScheduledTaskCount_initially() {
+    assertEquals( 0, timer.getScheduledTaskCount() );
+  }
+
+  @Test
+  public void testGetScheduledTaskCount() {
+    timer.schedule( new NoOpRunnable(), 100000 );
+    timer.schedule( new NoOpRunnable(), 100000 );
+
+    assertEquals( 2, timer.getScheduledTaskCount() );
+  }
+
+  @Test
+  public void testGetScheduledTaskCount_afterCancel() {
+    ScheduledFuture<?> future = timer.schedule( new NoOpRunnable(), 100000 );
+
+    future.cancel( false );
+
+    assertEquals( 0, timer.getScheduledTaskCount() );
+  }
+
+  @Test
+  public void testShutdown_discardsTasks() {
+    timer.schedule( new NoOpRunnable(), 100000 );
+
+    timer.shutdown();
+
+    assertEquals( 0, timer.getScheduledTaskCount() );
+  }
+
+  @Test
+  public void testSchedule_afterShutdown() {
+    int threadCount = countTimerThreads();
+    timer.shutdown();
+
+    ScheduledFuture<?> future = timer.schedule( new NoOpRunnable(), 1 );
+
+    assertNull( future );
+    assertEquals( 0, timer.getScheduledTaskCount() );
+    // the thread of the shut down executor may terminate in the meantime
+    assertTrue( countTimerThreads() <= threadCount );
+  }
+
+  @Test
+  public void testSchedule_afterReactivation() throws InterruptedException {
+    timer.shutdown();
+    timer.activate();
+    final CountDownLatch latch = new CountDownLatch( 1 );
+
+    timer.schedule( new Runnable() {
+      @Override
+      public void run() {
+        latch.countDown();
+      }
+    }, 1 );
+
+    assertTrue( latch.await( 5, TimeUnit.SECONDS ) );
+  }
+
+  @Test
+  public void testSchedule_manyTasksUseSingleThread() throws InterruptedException {
+    int threadCount = countTimerThreads();
+    int taskCount = 5000;
+    final CountDownLatch latch = new CountDownLatch( taskCount );
+
+    for( int i = 0; i < taskCount; i++ ) {
+      timer.schedule( new Runnable() {
+        @Override
+        public void run() {
+          latch.countDown();
+        }
+      }, i % 10 );
+    }
+
+    assertTrue( latch.await( 10, TimeUnit.SECONDS ) );
+    assertTrue( countTimerThreads() <= threadCount + 1 );
+  }
+
+  private static int countTimerThreads() {
+    int result = 0;
+    for( Thread thread : Thread.getAllStackTraces().keySet() ) {
+      if( SharedTimer.THREAD_NAME.equals( thread.getName() ) && thread.isAlive() ) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+}
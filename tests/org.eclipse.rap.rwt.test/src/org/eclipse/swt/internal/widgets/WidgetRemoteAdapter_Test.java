@@ -267,6 +267,65 @@ public class WidgetRemoteAdapter_Test {
     assertNull( adapter.getPreservedVariant() );
   }
 
+  @Test
+  public void testPreserve_registersAdapterAsDirty() {
+    DirtyAdapters dirtyAdapters = new DirtyAdapters();
+    adapter.setDirtyAdapters( dirtyAdapters );
+
+    adapter.preserve( "foo", "bar" );
+
+    assertEquals( 1, dirtyAdapters.size() );
+  }
+
+  @Test
+  public void testPreserve_registersAdapterOnlyOnce() {
+    DirtyAdapters dirtyAdapters = new DirtyAdapters();
+    adapter.setDirtyAdapters( dirtyAdapters );
+
+    adapter.preserve( "foo", "bar" );
+    adapter.preserveVariant( "variant" );
+
+    assertEquals( 1, dirtyAdapters.size() );
+  }
+
+  @Test
+  public void testClearPreserved_viaDirtyAdapters() {
+    DirtyAdapters dirtyAdapters = new DirtyAdapters();
+    adapter.setDirtyAdapters( dirtyAdapters );
+    adapter.preserve( "foo", "bar" );
+    adapter.preserveVariant( "variant" );
+
+    dirtyAdapters.clearPreserved();
+
+    assertNull( adapter.getPreserved( "foo" ) );
+    assertFalse( adapter.hasPreservedVariant() );
+    assertEquals( 0, dirtyAdapters.size() );
+  }
+
+  @Test
+  public void testPreserve_registersAdapterAgainAfterClear() {
+    DirtyAdapters dirtyAdapters = new DirtyAdapters();
+    adapter.setDirtyAdapters( dirtyAdapters );
+    adapter.preserve( "foo", "bar" );
+    dirtyAdapters.clearPreserved();
+
+    adapter.preserve( "foo", "baz" );
+
+    assertEquals( 1, dirtyAdapters.size() );
+  }
+
+  @Test
+  public void testWidgetAdapter_usesDirtyAdaptersOfDisplay() {
+    Shell shell = new Shell( display );
+    WidgetRemoteAdapter shellAdapter = ( WidgetRemoteAdapter )WidgetUtil.getAdapter( shell );
+    DirtyAdapters dirtyAdapters = display.getAdapter( IDisplayAdapter.class ).getDirtyAdapters();
+    dirtyAdapters.clearPreserved();
+
+    shellAdapter.preserve( "foo", "bar" );
+
+    assertEquals( 1, dirtyAdapters.size() );
+  }
+
   @Test
   public void testSerializableFields() throws Exception {
     adapter.setInitialized( true );
@@ -17,6 +17,7 @@ import static org.eclipse.rap.rwt.internal.lifecycle.DisplayUtil.getId;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getAdapter;
 import static org.eclipse.rap.rwt.internal.lifecycle.WidgetUtil.getId;
 import static org.eclipse.rap.rwt.internal.protocol.JsonUtil.createJsonArray;
+import static org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory.getRemoteObject;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.testfixture.internal.Fixture.getProtocolMessage;
 import static org.junit.Assert.assertEquals;
@@ -59,6 +60,7 @@ import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
+import org.eclipse.rap.rwt.internal.protocol.WidgetOperationHandler;
 import org.eclipse.rap.rwt.internal.remote.DeferredRemoteObject;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectImpl;
 import org.eclipse.rap.rwt.internal.remote.RemoteObjectRegistry;
@@ -165,6 +167,10 @@ public class DisplayLCA_Test {
     Composite shell = new CustomLCAShell( display, lca );
     Widget button = new CustomLCAWidget( shell, lca );
     Widget text = new CustomLCAWidget( shell, lca );
+    registerWidgetHandler( button );
+    registerWidgetHandler( text );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
 
     displayLCA.readData( display );
 
@@ -175,6 +181,74 @@ public class DisplayLCA_Test {
     verifyNoMoreInteractions( lca );
   }
 
+  @Test
+  public void testReadData_skipsWidgetsWithoutOperations() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    Widget text = new CustomLCAWidget( shell, lca );
+    registerWidgetHandler( button );
+    registerWidgetHandler( text );
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( shell );
+    verify( lca ).readData( text );
+    verifyNoMoreInteractions( lca );
+  }
+
+  @Test
+  public void testReadData_followsOrderOfMessage() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    Widget text = new CustomLCAWidget( shell, lca );
+    registerWidgetHandler( button );
+    registerWidgetHandler( text );
+    Fixture.fakeSetProperty( getId( text ), "foo", "bar" );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    InOrder inOrder = inOrder( lca );
+    inOrder.verify( lca ).readData( shell );
+    inOrder.verify( lca ).readData( text );
+    inOrder.verify( lca ).readData( button );
+  }
+
+  @Test
+  public void testReadData_skipsDisposedWidgets() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    registerWidgetHandler( button );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+    button.dispose();
+
+    displayLCA.readData( display );
+
+    verify( lca ).readData( shell );
+    verifyNoMoreInteractions( lca );
+  }
+
+  @Test
+  public void testReadData_findsWidgetsWithCustomHandlerInWidgetTree() {
+    WidgetLCA<Widget> lca = mock( TestWidgetLCA.class );
+    Composite shell = new CustomLCAShell( display, lca );
+    Widget button = new CustomLCAWidget( shell, lca );
+    RemoteObjectImpl remoteObject = ( RemoteObjectImpl )getRemoteObject( button );
+    remoteObject.setHandler( mock( OperationHandler.class ) );
+    Fixture.fakeSetProperty( getId( button ), "foo", "bar" );
+
+    displayLCA.readData( display );
+
+    InOrder inOrder = inOrder( lca );
+    inOrder.verify( lca ).readData( shell );
+    inOrder.verify( lca ).readData( button );
+    verifyNoMoreInteractions( lca );
+  }
+
   @Test
   public void testReadDisplayBounds() {
     Fixture.fakeSetProperty( getId( display ), "bounds", createJsonArray( 0, 0, 30, 70 ) );
@@ -668,6 +742,11 @@ public class DisplayLCA_Test {
     }
   }
 
+  private static void registerWidgetHandler( Widget widget ) {
+    RemoteObjectImpl remoteObject = ( RemoteObjectImpl )getRemoteObject( widget );
+    remoteObject.setHandler( new WidgetOperationHandler<Widget>( widget ) {} );
+  }
+
   private static class CustomLCAWidget extends Composite {
     private static final long serialVersionUID = 1L;
 
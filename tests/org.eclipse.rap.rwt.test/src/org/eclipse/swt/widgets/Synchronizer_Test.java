@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.widgets;
+
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinThreads;
+import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class Synchronizer_Test {
+
+  private Display display;
+  private Synchronizer synchronizer;
+  private List<Integer> log;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    display = new Display();
+    synchronizer = display.getSynchronizer();
+    log = Collections.synchronizedList( new ArrayList<Integer>() );
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testRunAsyncMessages_withEmptyQueue() {
+    assertFalse( synchronizer.runAsyncMessages( false ) );
+  }
+
+  @Test
+  public void testRunAsyncMessages_runsInOrder() {
+    synchronizer.asyncExec( new LoggingRunnable( 1 ) );
+    synchronizer.asyncExec( new LoggingRunnable( 2 ) );
+    synchronizer.asyncExec( new LoggingRunnable( 3 ) );
+
+    boolean run = synchronizer.runAsyncMessages( false );
+
+    assertTrue( run );
+    assertEquals( asList( 1, 2, 3 ), log );
+    assertEquals( 0, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_leavesMessagesAddedDuringRun() {
+    synchronizer.asyncExec( new Runnable() {
+      @Override
+      public void run() {
+        synchronizer.asyncExec( new LoggingRunnable( 2 ) );
+      }
+    } );
+    synchronizer.asyncExec( new LoggingRunnable( 1 ) );
+
+    synchronizer.runAsyncMessages( false );
+
+    assertEquals( asList( 1 ), log );
+    assertEquals( 1, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_all() {
+    synchronizer.asyncExec( new Runnable() {
+      @Override
+      public void run() {
+        synchronizer.asyncExec( new LoggingRunnable( 2 ) );
+      }
+    } );
+    synchronizer.asyncExec( new LoggingRunnable( 1 ) );
+
+    synchronizer.runAsyncMessages( true );
+
+    assertEquals( asList( 1, 2 ), log );
+    assertEquals( 0, synchronizer.getMessageCount() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_continuesAfterFailedMessage() {
+    synchronizer.asyncExec( new Runnable() {
+      @Override
+      public void run() {
+        throw new RuntimeException();
+      }
+    } );
+    synchronizer.asyncExec( new LoggingRunnable( 1 ) );
+
+    try {
+      synchronizer.runAsyncMessages( false );
+    } catch( SWTException expected ) {
+    }
+    synchronizer.runAsyncMessages( false );
+
+    assertEquals( asList( 1 ), log );
+  }
+
+  @Test
+  public void testAsyncExec_fromConcurrentThreads() throws InterruptedException {
+    final int threadCount = 8;
+    final int messageCount = 10000;
+    final AtomicInteger threadIndex = new AtomicInteger();
+    final int[] lastValues = new int[ threadCount ];
+    final boolean[] ordered = { true };
+    Thread[] threads = startThreads( threadCount, new Runnable() {
+      @Override
+      public void run() {
+        final int thread = threadIndex.getAndIncrement();
+        for( int i = 0; i < messageCount; i++ ) {
+          final int value = i + 1;
+          display.asyncExec( new Runnable() {
+            @Override
+            public void run() {
+              ordered[ 0 ] &= lastValues[ thread ] == value - 1;
+              lastValues[ thread ] = value;
+            }
+          } );
+        }
+      }
+    } );
+    joinThreads( threads );
+
+    synchronizer.runAsyncMessages( true );
+
+    assertTrue( ordered[ 0 ] );
+    for( int i = 0; i < threadCount; i++ ) {
+      assertEquals( messageCount, lastValues[ i ] );
+    }
+    assertEquals( 0, synchronizer.getMessageCount() );
+    assertEquals( threadCount * messageCount, getDisplayAdapter().getExecutedRunnableCount() );
+  }
+
+  @Test
+  public void testAsyncExec_updatesServerPush() {
+    synchronizer.asyncExec( new LoggingRunnable( 1 ) );
+    synchronizer.asyncExec( new LoggingRunnable( 2 ) );
+
+    assertTrue( ServerPushManager.getInstance().hasRunnables() );
+  }
+
+  @Test
+  public void testRunAsyncMessages_updatesServerPush() {
+    synchronizer.asyncExec( new LoggingRunnable( 1 ) );
+    synchronizer.asyncExec( new LoggingRunnable( 2 ) );
+
+    synchronizer.runAsyncMessages( false );
+
+    assertFalse( ServerPushManager.getInstance().hasRunnables() );
+  }
+
+  @Test
+  public void testStatistics() throws InterruptedException {
+    synchronizer.asyncExec( new LoggingRunnable( 1 ) );
+    synchronizer.asyncExec( new LoggingRunnable( 2 ) );
+    Thread.sleep( 20 );
+    synchronizer.asyncExec( new LoggingRunnable( 3 ) );
+
+    synchronizer.runAsyncMessages( false );
+    synchronizer.asyncExec( new LoggingRunnable( 4 ) );
+
+    IDisplayAdapter adapter = getDisplayAdapter();
+    assertEquals( 1, adapter.getPendingRunnableCount() );
+    assertEquals( 3, adapter.getExecutedRunnableCount() );
+    assertTrue( adapter.getMaxRunnableWaitTime() >= 20 );
+    assertTrue( adapter.getTotalRunnableWaitTime() >= 40 );
+  }
+
+  private IDisplayAdapter getDisplayAdapter() {
+    return display.getAdapter( IDisplayAdapter.class );
+  }
+
+  private class LoggingRunnable implements Runnable {
+
+    private final int value;
+
+    LoggingRunnable( int value ) {
+      this.value = value;
+    }
+
+    @Override
+    public void run() {
+      log.add( Integer.valueOf( value ) );
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,9 +14,14 @@ import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.joinT
 import static org.eclipse.rap.rwt.testfixture.internal.ConcurrencyTestUtil.startThreads;
 import static org.eclipse.rap.rwt.testfixture.internal.SerializationTestUtil.serialize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -24,14 +29,18 @@ import static org.mockito.Mockito.when;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
-import java.util.Timer;
+import java.util.concurrent.ScheduledFuture;
 
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.rap.rwt.testfixture.internal.NoOpRunnable;
+import org.eclipse.swt.internal.widgets.IDisplayAdapter;
+import org.eclipse.swt.internal.widgets.SharedTimer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 
 public class TimerExecScheduler_Test {
@@ -39,16 +48,17 @@ public class TimerExecScheduler_Test {
   private TimerExecScheduler scheduler;
   private Display display;
   private Collection<Throwable> exceptions;
-  private Timer timer;
+  private SharedTimer timer;
 
   @Before
   public void setUp() {
     Fixture.setUp();
     display = new Display();
-    timer = mock( Timer.class );
+    timer = mock( SharedTimer.class );
+    doReturn( mock( ScheduledFuture.class ) ).when( timer ).schedule( any( Runnable.class ), anyLong() );
     scheduler = new TimerExecScheduler( display ) {
       @Override
-      Timer createTimer() {
+      SharedTimer getTimer() {
         return timer;
       }
       @Override
@@ -90,6 +100,48 @@ public class TimerExecScheduler_Test {
     assertSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
   }
 
+  @Test
+  public void testSchedule_supersedesTaskBeforeScheduling() {
+    Runnable runnable = mock( Runnable.class );
+
+    scheduler.schedule( 23, runnable );
+
+    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
+    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
+    TimerExecTask task = taskCaptor.getValue();
+    InOrder inOrder = inOrder( task, timer );
+    inOrder.verify( task ).supersede();
+    inOrder.verify( timer ).schedule( task, 23L );
+  }
+
+  @Test
+  public void testSchedule_cancelsTaskIfTimerIsShutdown() {
+    doReturn( null ).when( timer ).schedule( any( Runnable.class ), anyLong() );
+    Runnable runnable = mock( Runnable.class );
+
+    scheduler.schedule( 23, runnable );
+
+    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
+    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
+    verify( taskCaptor.getValue() ).cancel();
+    assertEquals( 0, scheduler.getTaskCount() );
+  }
+
+  @Test
+  public void testSchedule_deactivatesServerPushIfTimerIsShutdown() {
+    doReturn( null ).when( timer ).schedule( any( Runnable.class ), anyLong() );
+    TimerExecScheduler scheduler = new TimerExecScheduler( display ) {
+      @Override
+      SharedTimer getTimer() {
+        return timer;
+      }
+    };
+
+    scheduler.schedule( 23, mock( Runnable.class ) );
+
+    assertFalse( ServerPushManager.getInstance().isServerPushActive() );
+  }
+
   @Test
   public void testCancel_cancelsTask() {
     Runnable runnable = mock( Runnable.class );
@@ -121,6 +173,46 @@ public class TimerExecScheduler_Test {
     assertNotSame( taskCaptor.getAllValues().get( 0 ), taskCaptor.getAllValues().get( 1 ) );
   }
 
+  @Test
+  public void testDispose_cancelsTasks() {
+    Runnable runnable = mock( Runnable.class );
+    scheduler.schedule( 23, runnable );
+
+    scheduler.dispose();
+
+    ArgumentCaptor<TimerExecTask> taskCaptor = ArgumentCaptor.forClass( TimerExecTask.class );
+    verify( timer ).schedule( taskCaptor.capture(), eq( 23L ) );
+    verify( taskCaptor.getValue() ).cancelFuture();
+    assertEquals( 0, scheduler.getTaskCount() );
+  }
+
+  @Test
+  public void testGetTaskCount() {
+    scheduler.schedule( 23, mock( Runnable.class ) );
+    scheduler.schedule( 42, mock( Runnable.class ) );
+
+    assertEquals( 2, scheduler.getTaskCount() );
+  }
+
+  @Test
+  public void testGetTaskCount_countsRescheduledRunnableOnce() {
+    Runnable runnable = mock( Runnable.class );
+
+    scheduler.schedule( 23, runnable );
+    scheduler.schedule( 42, runnable );
+
+    assertEquals( 1, scheduler.getTaskCount() );
+  }
+
+  @Test
+  public void testGetPendingTimerExecCount() {
+    display.timerExec( 10000, mock( Runnable.class ) );
+    display.timerExec( 10000, mock( Runnable.class ) );
+
+    IDisplayAdapter adapter = display.getAdapter( IDisplayAdapter.class );
+    assertEquals( 2, adapter.getPendingTimerExecCount() );
+  }
+
   @Test
   public void testSerializationIsThreadSafe() throws Exception {
     scheduler = new TimerExecScheduler( display );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -114,4 +114,71 @@ public class TimerExecTask_Test {
     assertFalse( ServerPushManager.getInstance().isServerPushActive() );
   }
 
+  @Test
+  public void testRun_skippedWhenRescheduledDuringRun() throws InterruptedException {
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+
+    Thread thread;
+    synchronized( display.getDeviceLock() ) {
+      thread = startBlockedRun( task );
+      task.supersede();
+    }
+    thread.join();
+
+    verify( display, times( 0 ) ).asyncExec( any( Runnable.class ) );
+    assertTrue( ServerPushManager.getInstance().isServerPushActive() );
+  }
+
+  @Test
+  public void testRun_executesRescheduledRun() throws InterruptedException {
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+    Thread thread;
+    synchronized( display.getDeviceLock() ) {
+      thread = startBlockedRun( task );
+      task.supersede();
+    }
+    thread.join();
+
+    task.run();
+
+    verify( display, times( 1 ) ).asyncExec( same( runnable ) );
+  }
+
+  @Test
+  public void testRun_skippedWhenCancelledDuringRun() throws InterruptedException {
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+
+    Thread thread;
+    synchronized( display.getDeviceLock() ) {
+      thread = startBlockedRun( task );
+      task.cancel();
+    }
+    thread.join();
+
+    verify( display, times( 0 ) ).asyncExec( any( Runnable.class ) );
+  }
+
+  @Test
+  public void testRun_executesOnlyOncePerSchedule() {
+    Runnable runnable = mock( Runnable.class );
+    TimerExecTask task = new TimerExecTask( scheduler, runnable );
+
+    task.run();
+    task.run();
+
+    verify( display, times( 1 ) ).asyncExec( same( runnable ) );
+  }
+
+  private static Thread startBlockedRun( Runnable task ) throws InterruptedException {
+    Thread thread = new Thread( task );
+    thread.start();
+    while( thread.getState() != Thread.State.BLOCKED ) {
+      Thread.sleep( 1 );
+    }
+    return thread;
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1475,6 +1475,76 @@ public class Tree_Test {
     assertEquals( 30, item.getFlatIndex() );
   }
 
+  @Test
+  public void testFlatIndexOnExpandAndCollapse() {
+    TreeItem[] items = createTreeItems( tree, 3 );
+    createTreeItems( items[ 0 ], 2 );
+    TreeItem subItem = createTreeItems( items[ 1 ], 4 )[ 2 ];
+
+    items[ 1 ].setExpanded( true );
+    assertEquals( 4, subItem.getFlatIndex() );
+    assertEquals( 6, items[ 2 ].getFlatIndex() );
+
+    items[ 0 ].setExpanded( true );
+    assertEquals( 6, subItem.getFlatIndex() );
+    assertEquals( 8, items[ 2 ].getFlatIndex() );
+
+    items[ 1 ].setExpanded( false );
+    assertEquals( 4, items[ 2 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testFlatIndexOnItemCreateAndDispose() {
+    TreeItem[] items = createTreeItems( tree, 3 );
+    TreeItem[] subItems = createTreeItems( items[ 0 ], 2 );
+    items[ 0 ].setExpanded( true );
+
+    new TreeItem( subItems[ 1 ], SWT.NONE );
+    assertEquals( 3, items[ 1 ].getFlatIndex() );
+
+    new TreeItem( items[ 0 ], SWT.NONE, 0 );
+    assertEquals( 2, subItems[ 0 ].getFlatIndex() );
+    assertEquals( 4, items[ 1 ].getFlatIndex() );
+
+    subItems[ 0 ].dispose();
+    assertEquals( 2, subItems[ 1 ].getFlatIndex() );
+    assertEquals( 3, items[ 1 ].getFlatIndex() );
+  }
+
+  @Test
+  public void testGetItemByPointWithExpandedItems() {
+    TreeItem[] items = createTreeItems( tree, 3 );
+    TreeItem[] subItems = createTreeItems( items[ 1 ], 3 );
+    TreeItem[] subSubItems = createTreeItems( subItems[ 0 ], 2 );
+    items[ 1 ].setExpanded( true );
+    subItems[ 0 ].setExpanded( true );
+    tree.setSize( 100, 500 );
+    int itemHeight = tree.getItemHeight();
+
+    assertSame( items[ 1 ], tree.getItem( new Point( 5, itemHeight + 5 ) ) );
+    assertSame( subSubItems[ 1 ], tree.getItem( new Point( 5, 4 * itemHeight + 5 ) ) );
+    assertSame( subItems[ 2 ], tree.getItem( new Point( 5, 6 * itemHeight + 5 ) ) );
+    assertSame( items[ 2 ], tree.getItem( new Point( 5, 7 * itemHeight + 5 ) ) );
+    assertNull( tree.getItem( new Point( 5, 8 * itemHeight + 5 ) ) );
+  }
+
+  @Test
+  public void testVirtualTopItemInExpandedItem() {
+    tree = new Tree( shell, SWT.VIRTUAL );
+    tree.addListener( SWT.SetData, createSetDataListener() );
+    tree.setItemCount( 100 );
+    tree.setSize( 100, 100 );
+    redrawTree( tree );
+    tree.getItem( 1 ).setExpanded( true );
+
+    getTreeAdapter( tree ).setTopItemIndex( 5 );
+
+    TreeItem topItem = tree.getTopItem();
+    assertSame( tree.getItem( 1 ).getItem( 3 ), topItem );
+    assertEquals( "node 1 - 3", topItem.getText() );
+    assertEquals( 5, topItem.getFlatIndex() );
+  }
+
   @Test
   public void testTopItem() {
     tree.setSize( 300, 85 );
@@ -2341,6 +2411,15 @@ public class Tree_Test {
     return result;
   }
 
+  private static TreeItem[] createTreeItems( TreeItem parentItem, int number ) {
+    TreeItem[] result = new TreeItem[ number ];
+    for( int i = 0; i < number; i++ ) {
+      result[ i ] = new TreeItem( parentItem, 0 );
+      result[ i ].setText( parentItem.getText() + " - " + i );
+    }
+    return result;
+  }
+
   private static Listener createSetDataListener() {
     return new Listener() {
       @Override
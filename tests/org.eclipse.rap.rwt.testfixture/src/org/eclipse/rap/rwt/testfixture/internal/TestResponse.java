@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2014 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -200,17 +200,15 @@ public class TestResponse implements HttpServletResponse {
   }
 
   public String getContent() {
-    String result = "";
     if( printWriter != null ) {
       printWriter.flush();
-      ByteArrayOutputStream content = outStream.getContent();
-      try {
-        result = content.toString( characterEncoding );
-      } catch( UnsupportedEncodingException exception ) {
-        throw new RuntimeException( exception );
-      }
     }
-    return result;
+    ByteArrayOutputStream content = outStream.getContent();
+    try {
+      return content.toString( characterEncoding );
+    } catch( UnsupportedEncodingException exception ) {
+      throw new RuntimeException( exception );
+    }
   }
 
   public void clearContent() {
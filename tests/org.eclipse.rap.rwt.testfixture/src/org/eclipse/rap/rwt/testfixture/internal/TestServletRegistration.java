@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2014 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,6 +11,7 @@
 package org.eclipse.rap.rwt.testfixture.internal;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -60,7 +61,8 @@ class TestServletRegistration implements ServletRegistration.Dynamic {
     for( String pattern : urlPatterns ) {
       mappings.add( pattern );
     }
-    return mappings;
+    // the conflicting patterns
+    return Collections.emptySet();
   }
 
   public Collection<String> getMappings() {
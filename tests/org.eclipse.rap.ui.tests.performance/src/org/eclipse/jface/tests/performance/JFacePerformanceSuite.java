@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2006 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -40,6 +40,7 @@ public class JFacePerformanceSuite extends TestSuite {
 		addTest(new ComboViewerRefreshTest("testRefreshSmall"));
 		addTest(new FastTableViewerRefreshTest("testRefreshMultiple"));
 		addTest(new FastTableViewerRefreshTest("testUpdateMultiple"));
+		addTest(new TableViewerChangeRefreshTest("testRefreshChanged"));
 		addTest(new FastTreeTest("testAddTenTenTimes"));
 		addTest(new FastTreeTest("testAddFiftyTenTimes"));
 		addTest(new TreeAddTest("testAddThousand"));
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import org.eclipse.jface.viewers.IStructuredContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.tests.performance.TestRunnable;
+
+/**
+ * The TableViewerChangeRefreshTest is a test for refreshing a large
+ * TableViewer after a small fraction of its elements has been inserted or
+ * removed.
+ */
+public class TableViewerChangeRefreshTest extends ViewerTest {
+
+	static final int ELEMENT_COUNT = 20000;
+
+	// every CHANGE_INTERVAL-th element changes, i.e. 1% of the rows
+	static final int CHANGE_INTERVAL = 100;
+
+	/**
+	 * The content provider that alternately removes every
+	 * CHANGE_INTERVAL-th element and inserts it again.
+	 */
+	static class ChangingContentProvider implements
+			IStructuredContentProvider {
+
+		TestElement[] allElements;
+		TestElement[] currentElements;
+
+		ChangingContentProvider() {
+			allElements = new TestElement[ELEMENT_COUNT];
+			for (int i = 0; i < ELEMENT_COUNT; i++) {
+				allElements[i] = new TestElement(i);
+			}
+			currentElements = allElements;
+		}
+
+		/**
+		 * Remove the changing elements if they are shown, insert them at
+		 * their original positions otherwise.
+		 */
+		void toggleElements() {
+			if (currentElements == allElements) {
+				int count = ELEMENT_COUNT - ELEMENT_COUNT / CHANGE_INTERVAL;
+				currentElements = new TestElement[count];
+				int index = 0;
+				for (int i = 0; i < ELEMENT_COUNT; i++) {
+					if (i % CHANGE_INTERVAL != CHANGE_INTERVAL / 2) {
+						currentElements[index++] = allElements[i];
+					}
+				}
+			} else {
+				currentElements = allElements;
+			}
+		}
+
+		/* (non-Javadoc)
+		 * @see org.eclipse.jface.viewers.IStructuredContentProvider#getElements(java.lang.Object)
+		 */
+		public Object[] getElements(Object inputElement) {
+			return currentElements;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.eclipse.jface.viewers.IContentProvider#dispose()
+		 */
+		public void dispose() {
+			currentElements = null;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.eclipse.jface.viewers.IContentProvider#inputChanged(org.eclipse.jface.viewers.Viewer, java.lang.Object, java.lang.Object)
+		 */
+		public void inputChanged(Viewer viewer, Object oldInput,
+				Object newInput) {
+			// Do nothing here
+		}
+	}
+
+	TableViewer viewer;
+
+	ChangingContentProvider contentProvider;
+
+	public TableViewerChangeRefreshTest(String testName, int tagging) {
+		super(testName, tagging);
+	}
+
+	public TableViewerChangeRefreshTest(String testName) {
+		super(testName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.jface.tests.performance.ViewerTest#createViewer(org.eclipse.swt.widgets.Shell)
+	 */
+	protected StructuredViewer createViewer(Shell shell) {
+		viewer = new TableViewer(shell);
+		contentProvider = new ChangingContentProvider();
+		viewer.setContentProvider(contentProvider);
+		viewer.setLabelProvider(getLabelProvider());
+		return viewer;
+	}
+
+	/**
+	 * Test the time for a refresh that does not update the labels after 1% of
+	 * the elements has been removed or inserted.
+	 *
+	 * @throws Throwable
+	 */
+	public void testRefreshChanged() throws Throwable {
+		openBrowser();
+
+		exercise(new TestRunnable() {
+			public void run() {
+				contentProvider.toggleElements();
+				startMeasuring();
+				viewer.refresh(false);
+				processEvents();
+				stopMeasuring();
+			}
+		}, MIN_ITERATIONS, slowGTKIterations(),
+				JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+}
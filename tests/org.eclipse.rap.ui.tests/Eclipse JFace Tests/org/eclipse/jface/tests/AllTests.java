@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -33,5 +33,6 @@ public class AllTests extends TestSuite {
         addTest(new org.eclipse.jface.tests.wizards.WizardTestSuite());
         addTest(new org.eclipse.jface.tests.labelProviders.DecoratingLabelProviderTests());
         addTest(new org.eclipse.jface.tests.fieldassist.FieldAssistTestSuite());
+        addTest(new org.eclipse.jface.tests.databinding.viewers.AllTests());
     }
 }
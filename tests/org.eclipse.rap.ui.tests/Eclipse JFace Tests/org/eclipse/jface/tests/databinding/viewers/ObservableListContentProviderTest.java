@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.databinding.viewers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.core.runtime.AssertionFailedException;
+import org.eclipse.jface.databinding.swt.SWTObservables;
+import org.eclipse.jface.databinding.viewers.IViewerUpdater;
+import org.eclipse.jface.databinding.viewers.ObservableListContentProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Tests the immediate and the batched viewer updates of
+ * <code>ObservableListContentProvider</code>.
+ */
+public class ObservableListContentProviderTest extends TestCase {
+
+	private static final long TIMEOUT = 10000;
+
+	private Display display;
+
+	private Shell shell;
+
+	private TableViewer viewer;
+
+	private WritableList input;
+
+	protected void setUp() throws Exception {
+		display = Display.getCurrent();
+		if (display == null) {
+			display = new Display();
+		}
+		shell = new Shell(display);
+		viewer = new TableViewer(shell, SWT.MULTI);
+		input = new WritableList(SWTObservables.getRealm(display));
+		input.addAll(Arrays.asList(new String[] { "a", "b", "c" }));
+	}
+
+	protected void tearDown() throws Exception {
+		shell.dispose();
+		processEvents();
+	}
+
+	public void testGetBatchLatency() {
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider();
+
+		assertEquals(-1, contentProvider.getBatchLatency());
+		contentProvider.setBatchLatency(0);
+		assertEquals(0, contentProvider.getBatchLatency());
+	}
+
+	public void testSetBatchLatencyBelowMinusOne() {
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider();
+
+		try {
+			contentProvider.setBatchLatency(-2);
+			fail();
+		} catch (AssertionFailedException expected) {
+		}
+	}
+
+	public void testImmediateUpdate() {
+		setContentProvider(new ObservableListContentProvider());
+
+		input.add("d");
+		input.remove("a");
+
+		assertItems(new String[] { "b", "c", "d" });
+	}
+
+	public void testBatchedUpdate() {
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		input.add(0, "e");
+
+		assertItems(new String[] { "a", "b", "c" });
+		processEvents();
+		assertItems(new String[] { "e", "a", "b", "c", "d" });
+		assertEquals(new HashSet(input), contentProvider.getKnownElements());
+	}
+
+	public void testBatchedUpdateWithTimer() throws InterruptedException {
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider();
+		contentProvider.setBatchLatency(50);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		processEvents();
+
+		assertItems(new String[] { "a", "b", "c" });
+		waitForItemCount(4);
+		assertItems(new String[] { "a", "b", "c", "d" });
+	}
+
+	public void testBatchedAddAndRemove() {
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		input.remove("d");
+		input.remove("a");
+		input.add(1, "e");
+		processEvents();
+
+		assertItems(new String[] { "b", "e", "c" });
+		assertEquals(new HashSet(input), contentProvider.getKnownElements());
+	}
+
+	public void testBatchedMove() {
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.move(0, 2);
+		processEvents();
+
+		assertItems(new String[] { "b", "c", "a" });
+	}
+
+	public void testBatchedUpdateWithViewerUpdater() {
+		RecordingViewerUpdater viewerUpdater = new RecordingViewerUpdater();
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider(
+				viewerUpdater);
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		input.remove("d");
+		input.remove("a");
+		input.add(1, "e");
+		assertEquals(0, viewerUpdater.calls.size());
+		processEvents();
+
+		assertItems(new String[] { "b", "e", "c" });
+		assertEquals(Arrays.asList(new String[] { "insert d", "remove d",
+				"remove a", "insert e" }), viewerUpdater.calls);
+		assertEquals(new HashSet(input), contentProvider.getKnownElements());
+	}
+
+	public void testBatchedUpdateUpdatesRealizedElements() {
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+		contentProvider.getRealizedElements();
+		processEvents();
+
+		input.add("d");
+		input.remove("a");
+		processEvents();
+
+		assertEquals(new HashSet(input), contentProvider.getRealizedElements());
+	}
+
+	public void testSetBatchLatencyShowsPendingChanges() {
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		contentProvider.setBatchLatency(-1);
+
+		assertItems(new String[] { "a", "b", "c", "d" });
+		input.add("e");
+		assertItems(new String[] { "a", "b", "c", "d", "e" });
+	}
+
+	public void testRefreshDiscardsPendingChanges() {
+		RecordingViewerUpdater viewerUpdater = new RecordingViewerUpdater();
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider(
+				viewerUpdater);
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		viewer.refresh();
+		processEvents();
+
+		assertItems(new String[] { "a", "b", "c", "d" });
+		assertEquals(0, viewerUpdater.calls.size());
+	}
+
+	public void testDisposeWhileBatchPending() {
+		RecordingViewerUpdater viewerUpdater = new RecordingViewerUpdater();
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider(
+				viewerUpdater);
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		viewer.getTable().dispose();
+		processEvents();
+		input.add("e");
+		processEvents();
+
+		assertEquals(0, viewerUpdater.calls.size());
+	}
+
+	public void testReplaceContentProviderWhileBatchPending() {
+		RecordingViewerUpdater viewerUpdater = new RecordingViewerUpdater();
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider(
+				viewerUpdater);
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		viewer.setContentProvider(new ObservableListContentProvider());
+		processEvents();
+
+		assertItems(new String[] { "a", "b", "c", "d" });
+		assertEquals(0, viewerUpdater.calls.size());
+	}
+
+	public void testInputChangeWhileBatchPending() {
+		ObservableListContentProvider contentProvider = new ObservableListContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+		WritableList otherInput = new WritableList(SWTObservables
+				.getRealm(display));
+		otherInput.add("x");
+
+		input.add("d");
+		viewer.setInput(otherInput);
+		processEvents();
+
+		assertItems(new String[] { "x" });
+		assertEquals(new HashSet(otherInput), contentProvider
+				.getKnownElements());
+	}
+
+	private void setContentProvider(
+			ObservableListContentProvider contentProvider) {
+		viewer.setContentProvider(contentProvider);
+		viewer.setInput(input);
+	}
+
+	private void assertItems(String[] expected) {
+		assertEquals(expected.length, viewer.getTable().getItemCount());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], viewer.getElementAt(i));
+		}
+	}
+
+	private void waitForItemCount(int count) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (viewer.getTable().getItemCount() != count
+				&& System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+			processEvents();
+		}
+	}
+
+	private void processEvents() {
+		while (display.readAndDispatch()) {
+			// loop until there are no more events to dispatch
+		}
+	}
+
+	private class RecordingViewerUpdater implements IViewerUpdater {
+
+		final List calls = new ArrayList();
+
+		public void insert(Object element, int position) {
+			calls.add("insert " + element);
+			viewer.insert(element, position);
+		}
+
+		public void remove(Object element, int position) {
+			calls.add("remove " + element);
+			viewer.remove(element);
+		}
+
+		public void replace(Object oldElement, Object newElement, int position) {
+			calls.add("replace " + oldElement);
+			viewer.replace(newElement, position);
+		}
+
+		public void move(Object element, int oldPosition, int newPosition) {
+			calls.add("move " + element);
+			viewer.remove(element);
+			viewer.insert(element, newPosition);
+		}
+
+		public void add(Object[] elements) {
+			calls.add("add " + Arrays.asList(elements));
+			viewer.add(elements);
+		}
+
+		public void remove(Object[] elements) {
+			calls.add("remove " + Arrays.asList(elements));
+			viewer.remove(elements);
+		}
+	}
+
+}
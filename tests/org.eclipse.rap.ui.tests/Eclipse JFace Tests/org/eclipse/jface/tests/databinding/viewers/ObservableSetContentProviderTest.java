@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.databinding.viewers;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.databinding.observable.set.WritableSet;
+import org.eclipse.core.runtime.AssertionFailedException;
+import org.eclipse.jface.databinding.swt.SWTObservables;
+import org.eclipse.jface.databinding.viewers.ObservableSetContentProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Tests the immediate and the batched viewer updates of
+ * <code>ObservableSetContentProvider</code>.
+ */
+public class ObservableSetContentProviderTest extends TestCase {
+
+	private static final long TIMEOUT = 10000;
+
+	private Display display;
+
+	private Shell shell;
+
+	private TableViewer viewer;
+
+	private WritableSet input;
+
+	protected void setUp() throws Exception {
+		display = Display.getCurrent();
+		if (display == null) {
+			display = new Display();
+		}
+		shell = new Shell(display);
+		viewer = new TableViewer(shell, SWT.MULTI);
+		input = new WritableSet(SWTObservables.getRealm(display));
+		input.addAll(Arrays.asList(new String[] { "a", "b", "c" }));
+	}
+
+	protected void tearDown() throws Exception {
+		shell.dispose();
+		processEvents();
+	}
+
+	public void testGetBatchLatency() {
+		ObservableSetContentProvider contentProvider = new ObservableSetContentProvider();
+
+		assertEquals(-1, contentProvider.getBatchLatency());
+		contentProvider.setBatchLatency(100);
+		assertEquals(100, contentProvider.getBatchLatency());
+	}
+
+	public void testSetBatchLatencyBelowMinusOne() {
+		ObservableSetContentProvider contentProvider = new ObservableSetContentProvider();
+
+		try {
+			contentProvider.setBatchLatency(-2);
+			fail();
+		} catch (AssertionFailedException expected) {
+		}
+	}
+
+	public void testImmediateUpdate() {
+		setContentProvider(new ObservableSetContentProvider());
+
+		input.add("d");
+		input.remove("a");
+
+		assertItems(new String[] { "b", "c", "d" });
+	}
+
+	public void testBatchedUpdate() {
+		ObservableSetContentProvider contentProvider = new ObservableSetContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		input.add("e");
+
+		assertItems(new String[] { "a", "b", "c" });
+		processEvents();
+		assertItems(new String[] { "a", "b", "c", "d", "e" });
+		assertEquals(input, contentProvider.getKnownElements());
+	}
+
+	public void testBatchedUpdateWithTimer() throws InterruptedException {
+		ObservableSetContentProvider contentProvider = new ObservableSetContentProvider();
+		contentProvider.setBatchLatency(50);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		processEvents();
+
+		assertItems(new String[] { "a", "b", "c" });
+		waitForItemCount(4);
+		assertItems(new String[] { "a", "b", "c", "d" });
+	}
+
+	public void testBatchedAddAndRemove() {
+		ObservableSetContentProvider contentProvider = new ObservableSetContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		input.remove("d");
+		input.remove("a");
+		input.add("e");
+		processEvents();
+
+		assertItems(new String[] { "b", "c", "e" });
+		assertEquals(input, contentProvider.getKnownElements());
+	}
+
+	public void testBatchedRemoveAndAdd() {
+		ObservableSetContentProvider contentProvider = new ObservableSetContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.remove("a");
+		input.add("a");
+		processEvents();
+
+		assertItems(new String[] { "a", "b", "c" });
+		assertEquals(input, contentProvider.getKnownElements());
+	}
+
+	public void testBatchedUpdateUpdatesRealizedElements() {
+		ObservableSetContentProvider contentProvider = new ObservableSetContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+		contentProvider.getRealizedElements();
+		processEvents();
+
+		input.add("d");
+		input.remove("a");
+		processEvents();
+
+		assertEquals(input, contentProvider.getRealizedElements());
+	}
+
+	public void testSetBatchLatencyShowsPendingChanges() {
+		ObservableSetContentProvider contentProvider = new ObservableSetContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		contentProvider.setBatchLatency(-1);
+
+		assertItems(new String[] { "a", "b", "c", "d" });
+	}
+
+	public void testDisposeWhileBatchPending() {
+		ObservableSetContentProvider contentProvider = new ObservableSetContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		viewer.getTable().dispose();
+		processEvents();
+		input.add("e");
+		processEvents();
+
+		assertNull(contentProvider.getKnownElements());
+	}
+
+	public void testReplaceContentProviderWhileBatchPending() {
+		ObservableSetContentProvider contentProvider = new ObservableSetContentProvider();
+		contentProvider.setBatchLatency(0);
+		setContentProvider(contentProvider);
+
+		input.add("d");
+		viewer.setContentProvider(new ObservableSetContentProvider());
+		processEvents();
+
+		assertItems(new String[] { "a", "b", "c", "d" });
+	}
+
+	private void setContentProvider(ObservableSetContentProvider contentProvider) {
+		viewer.setContentProvider(contentProvider);
+		viewer.setInput(input);
+	}
+
+	private void assertItems(String[] expected) {
+		Set items = new HashSet();
+		for (int i = 0; i < viewer.getTable().getItemCount(); i++) {
+			items.add(viewer.getElementAt(i));
+		}
+		assertEquals(expected.length, viewer.getTable().getItemCount());
+		assertEquals(new HashSet(Arrays.asList(expected)), items);
+	}
+
+	private void waitForItemCount(int count) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (viewer.getTable().getItemCount() != count
+				&& System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+			processEvents();
+		}
+	}
+
+	private void processEvents() {
+		while (display.readAndDispatch()) {
+			// loop until there are no more events to dispatch
+		}
+	}
+
+}
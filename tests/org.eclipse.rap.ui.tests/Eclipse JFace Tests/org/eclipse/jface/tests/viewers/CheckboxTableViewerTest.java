@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -170,6 +170,27 @@ public class CheckboxTableViewerTest extends TableViewerTest {
         junit.textui.TestRunner.run(CheckboxTableViewerTest.class);
     }
 
+    public void testRefreshKeepsCheckedState() {
+        List model = createRefreshModel(10);
+        CheckboxTableViewer viewer = CheckboxTableViewer.newCheckList(fShell,
+                SWT.NONE);
+        initRefreshViewer(viewer, model);
+        Object moved = model.get(0);
+        Object kept = model.get(4);
+        viewer.setCheckedElements(new Object[] { moved, kept });
+
+        model.add(model.remove(0));
+        model.remove(2);
+        model.add(1, "new");
+        viewer.refresh();
+
+        assertItems(viewer, model);
+        assertTrue(viewer.getChecked(moved));
+        assertTrue(viewer.getChecked(kept));
+        assertFalse(viewer.getChecked("new"));
+        assertEquals(2, viewer.getCheckedElements().length);
+    }
+
     public void testCheckAllElements() {
         CheckboxTableViewer ctv = (CheckboxTableViewer) fViewer;
         ctv.setAllChecked(true);
@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import java.text.Collator;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.IThreadSafeLabelProvider;
+import org.eclipse.jface.viewers.IThreadSafeViewerComparator;
+import org.eclipse.jface.viewers.IThreadSafeViewerFilter;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.ListViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.jface.viewers.ViewerFilter;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Compares the results of structured viewers that filter and sort in
+ * parallel with those of viewers that do so on the UI thread.
+ */
+public class ParallelSortAndFilterTest extends TestCase {
+
+	private static final int ELEMENT_COUNT = 3000;
+
+	private Display display;
+
+	private Shell shell;
+
+	private Object[] input;
+
+	protected void setUp() throws Exception {
+		display = Display.getCurrent();
+		if (display == null) {
+			display = new Display();
+		}
+		shell = new Shell(display);
+		input = new Object[ELEMENT_COUNT];
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			// mix the order so that sorting has something to do
+			input[i] = new Integer((i * 7919) % ELEMENT_COUNT);
+		}
+	}
+
+	protected void tearDown() throws Exception {
+		shell.dispose();
+	}
+
+	public void testGetUseParallelSortAndFilter() {
+		ListViewer viewer = new ListViewer(shell);
+
+		assertFalse(viewer.getUseParallelSortAndFilter());
+		viewer.setUseParallelSortAndFilter(true);
+		assertTrue(viewer.getUseParallelSortAndFilter());
+	}
+
+	public void testFilter() {
+		ListViewer serial = createViewer(false);
+		ListViewer parallel = createViewer(true);
+
+		serial.addFilter(new ThreadSafeFilter());
+		parallel.addFilter(new ThreadSafeFilter());
+
+		assertEquals(ELEMENT_COUNT / 3, parallel.getList().getItemCount());
+		assertSameItems(serial, parallel);
+	}
+
+	public void testFilterWithMultipleFilters() {
+		ListViewer serial = createViewer(false);
+		ListViewer parallel = createViewer(true);
+
+		serial.setFilters(new ViewerFilter[] { new ThreadSafeFilter(),
+				new EvenFilter() });
+		parallel.setFilters(new ViewerFilter[] { new ThreadSafeFilter(),
+				new EvenFilter() });
+
+		assertSameItems(serial, parallel);
+	}
+
+	public void testFilterRunsInUISession() {
+		ListViewer viewer = createViewer(true);
+		ThreadSafeFilter filter = new ThreadSafeFilter();
+
+		viewer.addFilter(filter);
+
+		assertEquals(Collections.singleton(RWT.getUISession()), filter.uiSessions);
+	}
+
+	public void testFilterWithoutThreadSafeFilter() {
+		ListViewer viewer = createViewer(true);
+		EvenFilter filter = new EvenFilter();
+
+		viewer.addFilter(filter);
+
+		assertEquals(Collections.singleton(Thread.currentThread()), filter.threads);
+		assertEquals(ELEMENT_COUNT / 2, viewer.getList().getItemCount());
+	}
+
+	public void testFilterRethrowsFailure() {
+		ListViewer viewer = createViewer(true);
+		final RuntimeException failure = new RuntimeException();
+		ViewerFilter filter = new ThreadSafeFilter() {
+			public boolean select(Viewer viewer, Object parentElement,
+					Object element) {
+				if (((Integer) element).intValue() == ELEMENT_COUNT - 1) {
+					throw failure;
+				}
+				return true;
+			}
+		};
+
+		try {
+			viewer.addFilter(filter);
+			fail();
+		} catch (RuntimeException expected) {
+			assertSame(failure, expected);
+		}
+	}
+
+	public void testSort() {
+		ListViewer serial = createViewer(false);
+		ListViewer parallel = createViewer(true);
+
+		serial.setComparator(new ThreadSafeComparator());
+		parallel.setComparator(new ThreadSafeComparator());
+
+		assertSameItems(serial, parallel);
+	}
+
+	public void testSortIsStable() {
+		ListViewer serial = createViewer(false);
+		ListViewer parallel = createViewer(true);
+		// many elements share a label, they must keep their input order
+		serial.setLabelProvider(new ThreadSafeLabelProvider(10));
+		parallel.setLabelProvider(new ThreadSafeLabelProvider(10));
+
+		serial.setComparator(new ThreadSafeComparator());
+		parallel.setComparator(new ThreadSafeComparator());
+
+		assertSameItems(serial, parallel);
+	}
+
+	public void testSortWithCollator() {
+		ListViewer serial = createViewer(false);
+		ListViewer parallel = createViewer(true);
+		Collator collator = Collator.getInstance(Locale.GERMAN);
+
+		serial.setComparator(new ViewerComparator(collator));
+		parallel.setComparator(new ViewerComparator(collator));
+
+		assertSameItems(serial, parallel);
+	}
+
+	public void testSortWithFilter() {
+		ListViewer serial = createViewer(false);
+		ListViewer parallel = createViewer(true);
+		serial.addFilter(new ThreadSafeFilter());
+		parallel.addFilter(new ThreadSafeFilter());
+
+		serial.setComparator(new ThreadSafeComparator());
+		parallel.setComparator(new ThreadSafeComparator());
+
+		assertSameItems(serial, parallel);
+	}
+
+	public void testSortRunsInUISession() {
+		ListViewer viewer = createViewer(true);
+		ThreadSafeComparator comparator = new ThreadSafeComparator();
+
+		viewer.setComparator(comparator);
+
+		assertEquals(Collections.singleton(RWT.getUISession()),
+				comparator.uiSessions);
+	}
+
+	public void testSortWithoutThreadSafeComparator() {
+		ListViewer viewer = createViewer(true);
+		CategoryComparator comparator = new CategoryComparator();
+
+		viewer.setComparator(comparator);
+
+		assertEquals(Collections.singleton(Thread.currentThread()),
+				comparator.threads);
+	}
+
+	public void testSortWithoutThreadSafeLabelProvider() {
+		ListViewer viewer = createViewer(true);
+		ThreadCollectingLabelProvider labelProvider = new ThreadCollectingLabelProvider();
+		viewer.setLabelProvider(labelProvider);
+		labelProvider.threads.clear();
+
+		viewer.setComparator(new ThreadSafeComparator());
+
+		assertEquals(Collections.singleton(Thread.currentThread()),
+				labelProvider.threads);
+	}
+
+	private ListViewer createViewer(boolean parallel) {
+		ListViewer viewer = new ListViewer(shell, SWT.MULTI);
+		viewer.setUseParallelSortAndFilter(parallel);
+		viewer.setContentProvider(new ArrayContentProvider());
+		viewer.setLabelProvider(new ThreadSafeLabelProvider(ELEMENT_COUNT));
+		viewer.setInput(input);
+		return viewer;
+	}
+
+	private static void assertSameItems(ListViewer expected, ListViewer actual) {
+		int count = expected.getList().getItemCount();
+		assertEquals(count, actual.getList().getItemCount());
+		for (int i = 0; i < count; i++) {
+			assertEquals("item " + i, expected.getElementAt(i), actual
+					.getElementAt(i));
+		}
+	}
+
+	private static class ThreadSafeLabelProvider extends LabelProvider
+			implements IThreadSafeLabelProvider {
+
+		private final int labelCount;
+
+		ThreadSafeLabelProvider(int labelCount) {
+			this.labelCount = labelCount;
+		}
+
+		public String getText(Object element) {
+			int value = ((Integer) element).intValue() % labelCount;
+			return (value % 2 == 0 ? "Label " : "label ") + value;
+		}
+	}
+
+	private static class ThreadCollectingLabelProvider extends LabelProvider {
+
+		final Set threads = Collections.synchronizedSet(new HashSet());
+
+		public String getText(Object element) {
+			threads.add(Thread.currentThread());
+			return super.getText(element);
+		}
+	}
+
+	private static class ThreadSafeFilter extends ViewerFilter implements
+			IThreadSafeViewerFilter {
+
+		final Set uiSessions = Collections.synchronizedSet(new HashSet());
+
+		public boolean select(Viewer viewer, Object parentElement,
+				Object element) {
+			uiSessions.add(RWT.getUISession());
+			return ((Integer) element).intValue() % 3 == 0;
+		}
+	}
+
+	private static class EvenFilter extends ViewerFilter {
+
+		final Set threads = Collections.synchronizedSet(new HashSet());
+
+		public boolean select(Viewer viewer, Object parentElement,
+				Object element) {
+			threads.add(Thread.currentThread());
+			return ((Integer) element).intValue() % 2 == 0;
+		}
+	}
+
+	private static class CategoryComparator extends ViewerComparator {
+
+		final Set threads = Collections.synchronizedSet(new HashSet());
+
+		public int category(Object element) {
+			threads.add(Thread.currentThread());
+			return ((Integer) element).intValue() % 5;
+		}
+	}
+
+	private static class ThreadSafeComparator extends ViewerComparator
+			implements IThreadSafeViewerComparator {
+
+		final Set uiSessions = Collections.synchronizedSet(new HashSet());
+
+		public int category(Object element) {
+			uiSessions.add(RWT.getUISession());
+			return ((Integer) element).intValue() % 5;
+		}
+	}
+
+}
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.deferred.DeferredContentProvider;
+import org.eclipse.jface.viewers.deferred.SetModel;
+import org.eclipse.jface.viewers.deferred.SortExecutor;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Stress test for deferred viewers that share the sort executor of the
+ * application.
+ */
+public class SortExecutorTest extends TestCase {
+
+	private static final int VIEWER_COUNT = 500;
+
+	private static final int ELEMENT_COUNT = 100;
+
+	private static final int PRODUCER_COUNT = 10;
+
+	private static final long TIMEOUT = 60000;
+
+	private static final Comparator ORDER = new Comparator() {
+		public int compare(Object o1, Object o2) {
+			return ((String) o1).compareTo((String) o2);
+		}
+	};
+
+	private Display display;
+
+	private Shell shell;
+
+	private SortExecutor executor;
+
+	protected void setUp() throws Exception {
+		display = Display.getCurrent();
+		if (display == null) {
+			display = new Display();
+		}
+		shell = new Shell(display);
+		executor = SortExecutor.getInstance(RWT.getApplicationContext());
+	}
+
+	protected void tearDown() throws Exception {
+		shell.dispose();
+		processEvents();
+	}
+
+	public void testGetInstance() {
+		assertSame(executor, SortExecutor.getInstance(RWT
+				.getApplicationContext()));
+	}
+
+	public void testConcurrentDeferredViewers() throws Exception {
+		long completedBefore = executor.getCompletedSortCount();
+		TableViewer[] viewers = createViewers();
+		final SetModel[] models = new SetModel[VIEWER_COUNT];
+		for (int i = 0; i < VIEWER_COUNT; i++) {
+			models[i] = new SetModel();
+			viewers[i].setInput(models[i]);
+		}
+
+		Thread[] producers = new Thread[PRODUCER_COUNT];
+		for (int i = 0; i < PRODUCER_COUNT; i++) {
+			final int first = i;
+			producers[i] = new Thread(new Runnable() {
+				public void run() {
+					for (int j = first; j < VIEWER_COUNT; j += PRODUCER_COUNT) {
+						models[j].set(createElements(j));
+					}
+				}
+			});
+			producers[i].start();
+		}
+		for (int i = 0; i < PRODUCER_COUNT; i++) {
+			producers[i].join();
+		}
+		waitForSorts(viewers);
+
+		for (int i = 0; i < VIEWER_COUNT; i++) {
+			assertEquals(ELEMENT_COUNT, viewers[i].getTable().getItemCount());
+		}
+		assertEquals(0, executor.getQueuedSortCount());
+		assertTrue(executor.getCompletedSortCount() - completedBefore >= VIEWER_COUNT);
+		assertTrue(getSortingThreadCount() <= executor.getMaximumThreadCount());
+	}
+
+	public void testDisposeCancelsQueuedSorts() throws Exception {
+		TableViewer[] viewers = createViewers();
+		for (int i = 0; i < VIEWER_COUNT; i++) {
+			SetModel model = new SetModel();
+			model.set(createElements(i));
+			viewers[i].setInput(model);
+		}
+
+		shell.dispose();
+
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		while (executor.getQueuedSortCount() + executor.getRunningSortCount() > 0
+				&& System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+		assertEquals(0, executor.getQueuedSortCount());
+		assertEquals(0, executor.getRunningSortCount());
+	}
+
+	private TableViewer[] createViewers() {
+		TableViewer[] result = new TableViewer[VIEWER_COUNT];
+		for (int i = 0; i < VIEWER_COUNT; i++) {
+			result[i] = new TableViewer(shell, SWT.VIRTUAL);
+			result[i].setContentProvider(new DeferredContentProvider(ORDER));
+		}
+		return result;
+	}
+
+	private static Object[] createElements(int viewer) {
+		Object[] result = new Object[ELEMENT_COUNT];
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			result[i] = "viewer " + viewer + " element " + (ELEMENT_COUNT - i);
+		}
+		return result;
+	}
+
+	private void waitForSorts(TableViewer[] viewers) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + TIMEOUT;
+		int index = 0;
+		while (index < VIEWER_COUNT && System.currentTimeMillis() < timeout) {
+			processEvents();
+			if (viewers[index].getTable().getItemCount() == ELEMENT_COUNT) {
+				index++;
+			} else {
+				Thread.sleep(10);
+			}
+		}
+		while (executor.getQueuedSortCount() + executor.getRunningSortCount() > 0
+				&& System.currentTimeMillis() < timeout) {
+			processEvents();
+			Thread.sleep(10);
+		}
+	}
+
+	private void processEvents() {
+		while (display.readAndDispatch()) {
+			// loop until there are no more events to dispatch
+		}
+	}
+
+	private static int getSortingThreadCount() {
+		int result = 0;
+		Iterator iterator = Thread.getAllStackTraces().keySet().iterator();
+		while (iterator.hasNext()) {
+			Thread thread = (Thread) iterator.next();
+			if (thread.getName().startsWith("JFace Sorting")) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,11 +11,19 @@
 package org.eclipse.jface.tests.viewers;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
+import org.eclipse.jface.viewers.ArrayContentProvider;
 import org.eclipse.jface.viewers.ColumnLayoutData;
 import org.eclipse.jface.viewers.ColumnViewer;
 import org.eclipse.jface.viewers.ColumnWeightData;
+import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.TableLayout;
 import org.eclipse.jface.viewers.TableViewer;
@@ -183,6 +191,174 @@ public class TableViewerTest extends StructuredItemViewerTest {
 
 	}
 
+	public void testRefreshWithInsertAndRemove() {
+		List model = createRefreshModel(10);
+		TableViewer viewer = createRefreshViewer(model);
+		Object keptElement = model.get(5);
+		TableItem keptItem = viewer.getTable().getItem(5);
+
+		model.remove(1);
+		model.add(3, "new");
+		viewer.refresh();
+
+		assertItems(viewer, model);
+		assertSame(keptItem, viewer.testFindItem(keptElement));
+	}
+
+	public void testRefreshWithReorder() {
+		List model = createRefreshModel(10);
+		TableViewer viewer = createRefreshViewer(model);
+
+		model.add(model.remove(0));
+		model.add(0, model.remove(8));
+		model.add(4, model.remove(6));
+		viewer.refresh();
+
+		assertItems(viewer, model);
+	}
+
+	public void testRefreshWithReversedOrder() {
+		List model = createRefreshModel(10);
+		TableViewer viewer = createRefreshViewer(model);
+
+		Collections.reverse(model);
+		viewer.refresh();
+
+		assertItems(viewer, model);
+	}
+
+	public void testRefreshWithDuplicates() {
+		List model = createRefreshModel(5);
+		TableViewer viewer = createRefreshViewer(model);
+
+		model.remove(1);
+		model.add(model.get(0));
+		model.add(2, model.get(3));
+		viewer.refresh();
+
+		Table table = viewer.getTable();
+		assertEquals(model.size(), table.getItemCount());
+		for (int i = 0; i < model.size(); i++) {
+			assertEquals(model.get(i), table.getItem(i).getText());
+			assertEquals(model.get(i), table.getItem(i).getData());
+		}
+	}
+
+	public void testRefreshRemovesDuplicates() {
+		List model = createRefreshModel(3);
+		model.add(model.get(1));
+		TableViewer viewer = createRefreshViewer(model);
+
+		model.remove(3);
+		model.add(0, "new");
+		viewer.refresh();
+
+		assertItems(viewer, model);
+	}
+
+	public void testRefreshKeepsSelection() {
+		List model = createRefreshModel(10);
+		TableViewer viewer = createRefreshViewer(model);
+		Object[] selected = new Object[] { model.get(2), model.get(7) };
+		viewer.setSelection(new StructuredSelection(selected));
+
+		model.remove(0);
+		model.add(5, "new");
+		viewer.refresh();
+
+		assertItems(viewer, model);
+		assertSelection(viewer, selected);
+	}
+
+	public void testRefreshKeepsSelectionOfMovedElement() {
+		List model = createRefreshModel(10);
+		TableViewer viewer = createRefreshViewer(model);
+		Object[] selected = new Object[] { model.get(0) };
+		viewer.setSelection(new StructuredSelection(selected));
+
+		model.add(model.remove(0));
+		viewer.refresh();
+
+		assertItems(viewer, model);
+		assertSelection(viewer, selected);
+	}
+
+	public void testRefreshRemovesSelectionOfRemovedElement() {
+		List model = createRefreshModel(10);
+		TableViewer viewer = createRefreshViewer(model);
+		viewer.setSelection(new StructuredSelection(new Object[] {
+				model.get(2), model.get(3) }));
+
+		model.remove(2);
+		viewer.refresh();
+
+		assertItems(viewer, model);
+		assertSelection(viewer, new Object[] { model.get(2) });
+	}
+
+	public void testRefreshWithUpdateLabels() {
+		List model = createRefreshModel(10);
+		TableViewer viewer = createRefreshViewer(model);
+		final String[] suffix = new String[] { "" };
+		viewer.setLabelProvider(new LabelProvider() {
+			public String getText(Object element) {
+				return element + suffix[0];
+			}
+		});
+
+		model.remove(3);
+		model.add(6, "new");
+		suffix[0] = "-updated";
+		viewer.refresh(true);
+
+		Table table = viewer.getTable();
+		for (int i = 0; i < model.size(); i++) {
+			assertEquals(model.get(i) + "-updated", table.getItem(i).getText());
+		}
+	}
+
+	protected List createRefreshModel(int size) {
+		List result = new ArrayList();
+		for (int i = 0; i < size; i++) {
+			result.add("element " + i);
+		}
+		return result;
+	}
+
+	protected TableViewer createRefreshViewer(List model) {
+		TableViewer viewer = new TableViewer(fShell, SWT.MULTI);
+		initRefreshViewer(viewer, model);
+		return viewer;
+	}
+
+	protected void initRefreshViewer(TableViewer viewer, List model) {
+		viewer.setContentProvider(new ArrayContentProvider());
+		viewer.setLabelProvider(new LabelProvider());
+		viewer.setInput(model);
+	}
+
+	protected void assertItems(TableViewer viewer, List model) {
+		Table table = viewer.getTable();
+		assertEquals(model.size(), table.getItemCount());
+		for (int i = 0; i < model.size(); i++) {
+			TableItem item = table.getItem(i);
+			assertSame(model.get(i), item.getData());
+			assertEquals(model.get(i), item.getText());
+			assertSame(item, viewer.testFindItem(model.get(i)));
+		}
+	}
+
+	private void assertSelection(TableViewer viewer, Object[] expected) {
+		IStructuredSelection selection = (IStructuredSelection) viewer
+				.getSelection();
+		assertEquals(Arrays.asList(expected), selection.toList());
+		TableItem[] items = viewer.getTable().getSelection();
+		assertEquals(expected.length, items.length);
+		for (int i = 0; i < items.length; i++) {
+			assertTrue(Arrays.asList(expected).contains(items[i].getData()));
+		}
+	}
+
 	
 
 }